@@ -0,0 +1,140 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.benchmarks;
+
+import ai.grakn.GraknGraph;
+import ai.grakn.concept.TypeName;
+import ai.grakn.exception.GraknValidationException;
+import ai.grakn.graph.internal.AbstractGraknGraph;
+import ai.grakn.graql.internal.analytics.ConnectedComponentVertexProgram;
+import ai.grakn.graql.internal.analytics.DegreeVertexProgram;
+import com.google.common.collect.Sets;
+import org.apache.tinkerpop.gremlin.process.computer.ComputerResult;
+import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the degree and connected component vertex programs on a generated graph, with and without their message
+ * combiners.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AnalyticsBenchmark {
+    private static final String KEYSPACE = "benchmarkanalytics";
+
+    private static final Set<TypeName> SELECTED_TYPES =
+            Sets.newHashSet(TypeName.of(BenchmarkData.PERSON), TypeName.of(BenchmarkData.KNOWS));
+    private static final Set<TypeName> OF_TYPES = Sets.newHashSet(TypeName.of(BenchmarkData.PERSON));
+
+    @Param({"1000", "10000"})
+    public int graphSize;
+
+    @Param({"true", "false"})
+    public boolean combine;
+
+    private GraknGraph graph;
+    private Graph tinkerPopGraph;
+
+    @Setup
+    public void buildGraph() throws GraknValidationException {
+        graph = BenchmarkBackend.TINKER.open(KEYSPACE);
+        BenchmarkData.putPersonOntology(graph);
+        BenchmarkData.addPeople(graph, graphSize);
+        graph.admin().commitNoLogs();
+
+        graph = BenchmarkBackend.TINKER.open(KEYSPACE);
+        tinkerPopGraph = ((AbstractGraknGraph<?>) graph).getTinkerPopGraph();
+    }
+
+    @TearDown
+    public void clearGraph(){
+        graph.clear();
+    }
+
+    @Benchmark
+    public ComputerResult degree() throws ExecutionException, InterruptedException {
+        DegreeVertexProgram program = combine ?
+                new DegreeVertexProgram(SELECTED_TYPES, OF_TYPES) : new UncombinedDegree(SELECTED_TYPES, OF_TYPES);
+        return tinkerPopGraph.compute().program(program).submit().get();
+    }
+
+    @Benchmark
+    public ComputerResult connectedComponent() throws ExecutionException, InterruptedException {
+        ConnectedComponentVertexProgram program = combine ?
+                new ConnectedComponentVertexProgram(SELECTED_TYPES) : new UncombinedConnectedComponent(SELECTED_TYPES);
+        return tinkerPopGraph.compute().program(program).submit().get();
+    }
+
+    /**
+     * The degree vertex program as it would run without a combiner
+     */
+    public static class UncombinedDegree extends DegreeVertexProgram {
+        public UncombinedDegree() {
+        }
+
+        UncombinedDegree(Set<TypeName> types, Set<TypeName> ofTypeNames) {
+            super(types, ofTypeNames);
+        }
+
+        @Override
+        public Optional<MessageCombiner<Long>> getMessageCombiner() {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * The connected component vertex program as it would run without a combiner
+     */
+    public static class UncombinedConnectedComponent extends ConnectedComponentVertexProgram {
+        public UncombinedConnectedComponent() {
+        }
+
+        UncombinedConnectedComponent(Set<TypeName> selectedTypes) {
+            super(selectedTypes);
+        }
+
+        @Override
+        public Optional<MessageCombiner<String>> getMessageCombiner() {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.benchmarks;
+
+import ai.grakn.Grakn;
+import ai.grakn.GraknGraph;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ *     The backends benchmarks can be run against
+ * </p>
+ *
+ * <p>
+ *     Titan is run embedded using its in-memory storage backend so that benchmarks do not depend on a running
+ *     Cassandra instance. Both backends go through the same internal factories used in production. The Titan factory
+ *     is not public, so it is built reflectively in the same way engine configured factories are.
+ * </p>
+ *
+ * @author agent
+ */
+public enum BenchmarkBackend {
+    TINKER {
+        @Override
+        public GraknGraph open(String keyspace) {
+            return Grakn.factory(Grakn.IN_MEMORY, keyspace).getGraph();
+        }
+    },
+    TITAN {
+        @Override
+        public GraknGraph open(String keyspace) {
+            Object factory = titanFactories.computeIfAbsent(keyspace, BenchmarkBackend::titanFactory);
+            try {
+                Method getGraph = factory.getClass().getMethod("getGraph", boolean.class);
+                getGraph.setAccessible(true);
+                return (GraknGraph) getGraph.invoke(factory, false);
+            } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException("Could not open a Titan graph", e);
+            }
+        }
+    };
+
+    private static final String TITAN_FACTORY = "ai.grakn.factory.TitanInternalFactory";
+    private static final Map<String, Object> titanFactories = new ConcurrentHashMap<>();
+
+    /**
+     *
+     * @param keyspace The keyspace of the graph
+     * @return A graph on this backend with a transaction open for the calling thread
+     */
+    public abstract GraknGraph open(String keyspace);
+
+    private static Object titanFactory(String keyspace){
+        Properties properties = new Properties();
+        properties.setProperty("storage.backend", "inmemory");
+        try {
+            Constructor<?> constructor = Class.forName(TITAN_FACTORY)
+                    .getDeclaredConstructor(String.class, String.class, Properties.class);
+            constructor.setAccessible(true);
+            return constructor.newInstance(keyspace, Grakn.IN_MEMORY, properties);
+        } catch (ClassNotFoundException | InstantiationException | IllegalAccessException | NoSuchMethodException |
+                InvocationTargetException e) {
+            throw new IllegalStateException("Could not build the Titan factory", e);
+        }
+    }
+}
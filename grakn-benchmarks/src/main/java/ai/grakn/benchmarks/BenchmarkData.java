@@ -0,0 +1,256 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.benchmarks;
+
+import ai.grakn.GraknGraph;
+import ai.grakn.concept.EntityType;
+import ai.grakn.concept.Instance;
+import ai.grakn.concept.RelationType;
+import ai.grakn.concept.ResourceType;
+import ai.grakn.concept.RoleType;
+import ai.grakn.graql.InsertQuery;
+import ai.grakn.graql.Pattern;
+import ai.grakn.graql.Query;
+import ai.grakn.graql.Var;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static ai.grakn.graql.Graql.and;
+import static ai.grakn.graql.Graql.insert;
+import static ai.grakn.graql.Graql.var;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * <p>
+ *     Generates the data used by the benchmarks
+ * </p>
+ *
+ * <p>
+ *     All randomness is drawn from a fixed seed so that every run of a benchmark works on exactly the same data and
+ *     results can be compared between commits.
+ * </p>
+ *
+ * @author agent
+ */
+public class BenchmarkData {
+    public static final long SEED = 42L;
+
+    public static final String PERSON = "person";
+    public static final String NAME = "name";
+    public static final String AGE = "age";
+    public static final String KNOWS = "knows";
+    public static final String KNOWER = "knower";
+    public static final String KNOWN = "known";
+
+    public static final String PERSON_TEMPLATE =
+            "insert $x isa person has name <name> has age <age>;\n" +
+            "for (friend in <friends>) do { $y isa person has name <friend>; (knower: $x, known: $y) isa knows; }";
+
+    private static final int MAX_AGE = 100;
+
+    private BenchmarkData(){
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Puts a small ontology of people who know each other into the graph
+     *
+     * @param graph The graph to put the ontology in
+     */
+    public static void putPersonOntology(GraknGraph graph){
+        RoleType knower = graph.putRoleType(KNOWER);
+        RoleType known = graph.putRoleType(KNOWN);
+        graph.putRelationType(KNOWS).hasRole(knower).hasRole(known);
+
+        ResourceType<String> name = graph.putResourceType(NAME, ResourceType.DataType.STRING);
+        ResourceType<Long> age = graph.putResourceType(AGE, ResourceType.DataType.LONG);
+
+        EntityType person = graph.putEntityType(PERSON).playsRole(knower).playsRole(known);
+        person.hasResource(name);
+        person.hasResource(age);
+    }
+
+    /**
+     * Adds people to a graph which contains the person ontology. Every person after the first knows the person
+     * added before them, so the graph contains relations, castings and resources.
+     *
+     * @param graph The graph to add people to
+     * @param count The number of people to add
+     */
+    public static void addPeople(GraknGraph graph, int count){
+        Random random = new Random(SEED);
+        EntityType person = graph.getEntityType(PERSON);
+        ResourceType<String> name = graph.getResourceType(NAME);
+        ResourceType<Long> age = graph.getResourceType(AGE);
+        RelationType knows = graph.getRelationType(KNOWS);
+        RoleType knower = graph.getRoleType(KNOWER);
+        RoleType known = graph.getRoleType(KNOWN);
+
+        Instance previous = null;
+        for(int i = 0; i < count; i ++){
+            Instance current = person.addEntity();
+            current.hasResource(name.putResource(PERSON + i));
+            current.hasResource(age.putResource((long) random.nextInt(MAX_AGE)));
+
+            if(previous != null){
+                knows.addRelation().putRolePlayer(knower, current).putRolePlayer(known, previous);
+            }
+            previous = current;
+        }
+    }
+
+    /**
+     *
+     * @param count The number of queries to generate
+     * @return Insert queries over the person ontology. Ages are drawn from a small range so resources are shared.
+     */
+    public static List<InsertQuery> insertQueries(int count){
+        Random random = new Random(SEED);
+        List<InsertQuery> queries = new ArrayList<>(count);
+        for(int i = 0; i < count; i ++){
+            queries.add(insert(var("x").isa(PERSON).has(NAME, PERSON + i).has(AGE, (long) random.nextInt(MAX_AGE))));
+        }
+        return queries;
+    }
+
+    /**
+     *
+     * @param count The number of queries to generate
+     * @return Match and insert queries over the person ontology in their string form
+     */
+    public static List<String> queryStrings(int count){
+        List<String> queries = new ArrayList<>(count);
+        for(int i = 0; i < count; i ++){
+            queries.add(i % 2 == 0 ?
+                    "match $x isa person, has name \"" + PERSON + i + "\"; (knower: $x, known: $y) isa knows; select $y;" :
+                    "insert $x isa person, has name \"" + PERSON + i + "\", has age " + i % MAX_AGE + ";");
+        }
+        return queries;
+    }
+
+    /**
+     *
+     * @param count The number of data entries to generate
+     * @return Data to fill {@link #PERSON_TEMPLATE} with
+     */
+    public static List<Map<String, Object>> templateData(int count){
+        Random random = new Random(SEED);
+        List<Map<String, Object>> data = new ArrayList<>(count);
+        for(int i = 0; i < count; i ++){
+            List<String> friends = new ArrayList<>();
+            int numFriends = random.nextInt(5);
+            for(int j = 0; j < numFriends; j ++){
+                friends.add(PERSON + random.nextInt(count));
+            }
+
+            Map<String, Object> entry = new HashMap<>();
+            entry.put("name", PERSON + i);
+            entry.put("age", random.nextInt(MAX_AGE));
+            entry.put("friends", friends);
+            data.add(entry);
+        }
+        return data;
+    }
+
+    /**
+     * Generates connected patterns over the person ontology. Each variable is attached to an earlier variable by a
+     * relation and is given a random combination of a type, name or age.
+     *
+     * @param count The number of patterns to generate
+     * @param size The number of variables in each pattern
+     * @return The generated patterns
+     */
+    public static List<Pattern> patterns(int count, int size){
+        Random random = new Random(SEED);
+        List<Pattern> patterns = new ArrayList<>(count);
+        for(int i = 0; i < count; i ++){
+            List<Var> vars = new ArrayList<>();
+            for(int j = 0; j < size; j ++){
+                Var var = var("v" + j);
+                switch (random.nextInt(3)){
+                    case 0:
+                        var = var.isa(PERSON);
+                        break;
+                    case 1:
+                        var = var.has(NAME, PERSON + random.nextInt(size));
+                        break;
+                    default:
+                        var = var.has(AGE, (long) random.nextInt(MAX_AGE));
+                }
+                vars.add(var);
+
+                if(j > 0){
+                    vars.add(var().rel(KNOWER, "v" + j).rel(KNOWN, "v" + random.nextInt(j)).isa(KNOWS));
+                }
+            }
+            patterns.add(and(vars));
+        }
+        return patterns;
+    }
+
+    /**
+     * Loads one of the ontologies packaged with the benchmarks, which are copies of those used by the functional tests
+     *
+     * @param graph The graph to load the file into
+     * @param file The name of a Graql file on the classpath
+     */
+    public static void loadOntology(GraknGraph graph, String file){
+        InputStream graql = BenchmarkData.class.getClassLoader().getResourceAsStream(file);
+        if(graql == null) throw new IllegalArgumentException("No ontology [" + file + "] on the classpath");
+
+        try (BufferedReader buffer = new BufferedReader(new InputStreamReader(graql, StandardCharsets.UTF_8))) {
+            graph.graql().parseList(buffer.lines().collect(joining("\n"))).forEach(Query::execute);
+        } catch (IOException e){
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Builds a chain of Q relations over the simple-transitivity ontology, as used by the reasoner tests
+     *
+     * @param graph The graph to build the chain in
+     * @param length The number of entities in the chain
+     */
+    public static void buildTransitivityChain(GraknGraph graph, int length){
+        loadOntology(graph, "simple-transitivity.gql");
+
+        RoleType from = graph.getRoleType("Q-from");
+        RoleType to = graph.getRoleType("Q-to");
+        RelationType q = graph.getRelationType("Q");
+        EntityType entity = graph.getEntityType("a-entity");
+        ResourceType<String> index = graph.getResourceType("index");
+
+        Instance previous = entity.addEntity();
+        previous.hasResource(index.putResource("a"));
+        for(int i = 0; i < length; i ++){
+            Instance current = entity.addEntity();
+            current.hasResource(index.putResource("a" + i));
+            q.addRelation().putRolePlayer(from, previous).putRolePlayer(to, current);
+            previous = current;
+        }
+    }
+}
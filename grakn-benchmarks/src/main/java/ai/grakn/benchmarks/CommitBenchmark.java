@@ -0,0 +1,81 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.benchmarks;
+
+import ai.grakn.GraknGraph;
+import ai.grakn.exception.GraknValidationException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time taken to validate and commit a transaction with a large concept log.
+ * Every invocation commits a fresh set of people, relations and resources.
+ *
+ * @author agent
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+public class CommitBenchmark {
+    private static final String KEYSPACE = "benchmarkcommit";
+
+    @Param({"TINKER", "TITAN"})
+    public BenchmarkBackend backend;
+
+    @Param({"1000", "10000"})
+    public int conceptCount;
+
+    private GraknGraph graph;
+
+    @Setup(Level.Iteration)
+    public void fillConceptLog() throws GraknValidationException {
+        graph = backend.open(KEYSPACE);
+        BenchmarkData.putPersonOntology(graph);
+        graph.admin().commitNoLogs();
+
+        graph = backend.open(KEYSPACE);
+        BenchmarkData.addPeople(graph, conceptCount);
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearGraph(){
+        backend.open(KEYSPACE).clear();
+    }
+
+    @Benchmark
+    public void commit() throws GraknValidationException {
+        graph.admin().commitNoLogs();
+    }
+}
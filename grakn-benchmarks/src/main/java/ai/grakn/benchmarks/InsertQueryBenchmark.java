@@ -0,0 +1,93 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.benchmarks;
+
+import ai.grakn.GraknGraph;
+import ai.grakn.graql.InsertQuery;
+import ai.grakn.graql.internal.query.BatchInsertQueryExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time taken to execute a batch of insert queries, one at a time and through the
+ * {@link BatchInsertQueryExecutor}. Every invocation inserts the batch into a graph containing only the ontology.
+ *
+ * @author agent
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+public class InsertQueryBenchmark {
+    private static final String KEYSPACE = "benchmarkinsert";
+
+    @Param({"TINKER", "TITAN"})
+    public BenchmarkBackend backend;
+
+    @Param({"100", "1000"})
+    public int batchSize;
+
+    private GraknGraph graph;
+    private List<InsertQuery> queries;
+
+    @Setup(Level.Trial)
+    public void generateQueries(){
+        queries = BenchmarkData.insertQueries(batchSize);
+    }
+
+    @Setup(Level.Iteration)
+    public void openGraph(){
+        graph = backend.open(KEYSPACE);
+        BenchmarkData.putPersonOntology(graph);
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearGraph(){
+        graph.clear();
+    }
+
+    @Benchmark
+    public void executeInsertQueries(Blackhole blackhole){
+        for (InsertQuery query : queries) {
+            blackhole.consume(query.withGraph(graph).execute());
+        }
+    }
+
+    @Benchmark
+    public void executeBatchInsert(Blackhole blackhole){
+        blackhole.consume(new BatchInsertQueryExecutor(graph).insertAll(queries));
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.benchmarks;
+
+import ai.grakn.graql.Graql;
+import ai.grakn.graql.internal.parser.QueryParser;
+import ai.grakn.graql.internal.template.TemplateParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time taken by {@link QueryParser#parseQuery} and {@link TemplateParser#parseTemplate}.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ParserBenchmark {
+    private static final int NUM_QUERIES = 100;
+
+    private QueryParser queryParser;
+    private TemplateParser templateParser;
+    private List<String> queries;
+    private List<Map<String, Object>> templateData;
+
+    @Setup
+    public void setup(){
+        queryParser = QueryParser.create(Graql.withoutGraph());
+        templateParser = TemplateParser.create();
+        queries = BenchmarkData.queryStrings(NUM_QUERIES);
+        templateData = BenchmarkData.templateData(NUM_QUERIES);
+    }
+
+    @Benchmark
+    public void parseQuery(Blackhole blackhole){
+        for (String query : queries) {
+            blackhole.consume(queryParser.parseQuery(query));
+        }
+    }
+
+    @Benchmark
+    public void parseTemplate(Blackhole blackhole){
+        for (Map<String, Object> data : templateData) {
+            blackhole.consume(templateParser.parseTemplate(BenchmarkData.PERSON_TEMPLATE, data));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.benchmarks;
+
+import ai.grakn.GraknGraph;
+import ai.grakn.graql.admin.Conjunction;
+import ai.grakn.graql.admin.VarAdmin;
+import ai.grakn.graql.internal.pattern.Patterns;
+import ai.grakn.graql.internal.reasoner.query.ReasonerAtomicQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * Measures the time taken by {@link ReasonerAtomicQuery#resolve} to compute the transitive closure of a chain built
+ * on the simple-transitivity test ontology.
+ *
+ * @author agent
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ReasonerBenchmark {
+    private static final String KEYSPACE = "benchmarkreasoner";
+    private static final String QUERY = "{(Q-from: $x, Q-to: $y) isa Q;}";
+
+    @Param({"10", "20", "50"})
+    public int chainLength;
+
+    private GraknGraph graph;
+    private Conjunction<VarAdmin> pattern;
+
+    @Setup
+    public void buildGraph() {
+        graph = BenchmarkBackend.TINKER.open(KEYSPACE);
+        BenchmarkData.buildTransitivityChain(graph, chainLength);
+
+        Set<VarAdmin> vars = graph.graql().parsePattern(QUERY).admin()
+                .getDisjunctiveNormalForm().getPatterns()
+                .stream().flatMap(p -> p.getPatterns().stream()).collect(toSet());
+        pattern = Patterns.conjunction(vars);
+    }
+
+    @TearDown
+    public void clearGraph(){
+        graph.clear();
+    }
+
+    @Benchmark
+    public long resolve(){
+        return new ReasonerAtomicQuery(pattern, graph).resolve(false).count();
+    }
+}
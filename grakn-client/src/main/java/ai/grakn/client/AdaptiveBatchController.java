@@ -0,0 +1,168 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.client;
+
+/**
+ * <p>
+ *     Controls the size of batches and the number of active tasks of a {@link LoaderClient}.
+ * </p>
+ *
+ * <p>
+ *     When adaptive, the batch size and number of active tasks follow an additive-increase/multiplicative-decrease
+ *     policy: every task which completes within the target latency grows both limits a little, while every slow or
+ *     failed task halves them. When not adaptive both limits stay at the values they were configured with.
+ * </p>
+ *
+ * @author agent
+ */
+public class AdaptiveBatchController {
+
+    private static final int BATCH_SIZE_INCREMENT = 5;
+    private static final int MIN_BATCH_SIZE = 1;
+    private static final int MIN_ACTIVE_TASKS = 1;
+
+    private boolean adaptive;
+    private long targetLatency;
+    private int maxBatchSize;
+    private int maxActiveTasks;
+
+    private int batchSize;
+    private int activeTaskLimit;
+    private int activeTasks = 0;
+
+    /**
+     * @param batchSize the initial number of queries in each batch
+     * @param activeTaskLimit the initial number of tasks allowed to run at once
+     */
+    public AdaptiveBatchController(int batchSize, int activeTaskLimit){
+        this(batchSize, activeTaskLimit, false, 0, batchSize, activeTaskLimit);
+    }
+
+    /**
+     * @param batchSize the initial number of queries in each batch
+     * @param activeTaskLimit the initial number of tasks allowed to run at once
+     * @param adaptive if the limits should adapt to the observed latency and failures of tasks
+     * @param targetLatency the time in milliseconds a task should take to complete
+     * @param maxBatchSize the largest number of queries allowed in a batch
+     * @param maxActiveTasks the largest number of tasks allowed to run at once
+     */
+    public AdaptiveBatchController(int batchSize, int activeTaskLimit, boolean adaptive, long targetLatency,
+                                   int maxBatchSize, int maxActiveTasks){
+        configure(batchSize, activeTaskLimit, adaptive, targetLatency, maxBatchSize, maxActiveTasks);
+    }
+
+    /**
+     * Change the limits of the controller. Tasks which are already running stay registered, so they are still
+     * counted against the new limit.
+     *
+     * @param batchSize the number of queries in each batch from now on
+     * @param activeTaskLimit the number of tasks allowed to run at once from now on
+     * @param adaptive if the limits should adapt to the observed latency and failures of tasks
+     * @param targetLatency the time in milliseconds a task should take to complete
+     * @param maxBatchSize the largest number of queries allowed in a batch
+     * @param maxActiveTasks the largest number of tasks allowed to run at once
+     */
+    public synchronized void configure(int batchSize, int activeTaskLimit, boolean adaptive, long targetLatency,
+                                       int maxBatchSize, int maxActiveTasks){
+        this.batchSize = batchSize;
+        this.activeTaskLimit = activeTaskLimit;
+        this.adaptive = adaptive;
+        this.targetLatency = targetLatency;
+        this.maxBatchSize = Math.max(batchSize, maxBatchSize);
+        this.maxActiveTasks = Math.max(activeTaskLimit, maxActiveTasks);
+        notifyAll();
+    }
+
+    /**
+     * @return the number of queries which should be sent in the next batch
+     */
+    public synchronized int batchSize(){
+        return batchSize;
+    }
+
+    /**
+     * @return the number of tasks currently allowed to run at once
+     */
+    public synchronized int activeTaskLimit(){
+        return activeTaskLimit;
+    }
+
+    /**
+     * @return the largest number of tasks which can ever be allowed to run at once with the current settings
+     */
+    public synchronized int maxActiveTasks(){
+        return maxActiveTasks;
+    }
+
+    /**
+     * @return the number of tasks currently running
+     */
+    public synchronized int activeTasks(){
+        return activeTasks;
+    }
+
+    /**
+     * Block until another task is allowed to run and then register it as running.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public synchronized void acquire() throws InterruptedException {
+        while(activeTasks >= activeTaskLimit){
+            wait();
+        }
+        activeTasks++;
+    }
+
+    /**
+     * Register that a running task has finished.
+     */
+    public synchronized void release(){
+        activeTasks--;
+        notifyAll();
+    }
+
+    /**
+     * Record that a task completed successfully.
+     *
+     * @param latency the time in milliseconds between sending the task and observing its completion
+     */
+    public synchronized void onSuccess(long latency){
+        if(!adaptive) return;
+
+        if(latency <= targetLatency){
+            batchSize = Math.min(maxBatchSize, batchSize + BATCH_SIZE_INCREMENT);
+            activeTaskLimit = Math.min(maxActiveTasks, activeTaskLimit + 1);
+            notifyAll();
+        } else {
+            decrease();
+        }
+    }
+
+    /**
+     * Record that a task failed or the engine could not be reached.
+     */
+    public synchronized void onFailure(){
+        if(adaptive) decrease();
+    }
+
+    private void decrease(){
+        batchSize = Math.max(MIN_BATCH_SIZE, batchSize / 2);
+        activeTaskLimit = Math.max(MIN_ACTIVE_TASKS, activeTaskLimit / 2);
+    }
+}
@@ -40,7 +40,9 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Semaphore;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
@@ -50,6 +52,7 @@ import static ai.grakn.engine.TaskStatus.STOPPED;
 import static ai.grakn.util.REST.Request.KEYSPACE_PARAM;
 import static ai.grakn.util.REST.Request.TASK_LOADER_INSERTS;
 import static ai.grakn.util.REST.Request.TASK_STATUS_PARAMETER;
+import static ai.grakn.util.REST.Request.TASK_WAIT_PARAMETER;
 import static ai.grakn.util.REST.WebPath.TASKS_URI;
 import static java.lang.String.format;
 import static java.util.stream.Collectors.toList;
@@ -74,6 +77,9 @@ import static org.apache.commons.lang.exception.ExceptionUtils.getFullStackTrace
 public class LoaderClient {
 
     private static final Logger LOG = LoggerFactory.getLogger(LoaderClient.class);
+    private static final long LONG_POLL_MILLIS = 10000;
+    private static final long POLL_INTERVAL_MILLIS = 1000;
+    private static final long IDLE_POLLER_MILLIS = 60000;
 
     private final String POST = "http://%s" + TASKS_SCHEDULE_URI;
     private final String GET = "http://%s" + TASKS_URI + "/%s";
@@ -85,9 +91,14 @@ public class LoaderClient {
 
     private Consumer<Json> onCompletionOfTask;
     private AtomicInteger batchNumber;
-    private Semaphore blocker;
+    private final AdaptiveBatchController controller;
+    private final ThreadPoolExecutor pollers;
     private int batchSize;
     private int blockerSize;
+    private boolean adaptive = false;
+    private long targetLatency = 5000;
+    private int maxBatchSize = 1000;
+    private int maxActiveTasks = 100;
     private boolean retry = false;
 
     public LoaderClient(String keyspace, String uri) {
@@ -101,9 +112,19 @@ public class LoaderClient {
         this.futures = new ConcurrentHashMap<>();
         this.onCompletionOfTask = onCompletionOfTask;
         this.batchNumber = new AtomicInteger(0);
-
-        setBatchSize(25);
-        setNumberActiveTasks(25);
+        this.batchSize = 25;
+        this.blockerSize = 25;
+        this.controller = new AdaptiveBatchController(batchSize, blockerSize);
+
+        //Each running task is waited on by its own thread, so the completion of a task is never queued behind others
+        int pollerCount = controller.maxActiveTasks();
+        this.pollers = new ThreadPoolExecutor(pollerCount, pollerCount, IDLE_POLLER_MILLIS, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "loader-client-poller");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.pollers.allowCoreThreadTimeOut(true);
     }
 
     /**
@@ -132,7 +153,7 @@ public class LoaderClient {
      */
     public LoaderClient setBatchSize(int size){
         this.batchSize = size;
-        return this;
+        return configureController();
     }
 
     /**
@@ -145,10 +166,69 @@ public class LoaderClient {
      */
     public LoaderClient setNumberActiveTasks(int size){
         this.blockerSize = size;
-        this.blocker = new Semaphore(size);
+        return configureController();
+    }
+
+    /**
+     * Tell the {@link LoaderClient} to adapt the batch size and number of active tasks to the engine.
+     *
+     * When enabled the values set with {@link #setBatchSize(int)} and {@link #setNumberActiveTasks(int)} are only
+     * the starting point. Both grow while tasks complete within the target latency and are halved whenever a task
+     * is slow, fails or the engine cannot be reached.
+     *
+     * @param adaptive boolean representing if the loader should adapt to the engine
+     */
+    public LoaderClient setAdaptiveLoading(boolean adaptive){
+        this.adaptive = adaptive;
+        return configureController();
+    }
+
+    /**
+     * Set the time within which each task should complete when loading adaptively.
+     *
+     * @param millis target completion time of each task in milliseconds
+     */
+    public LoaderClient setTargetTaskLatency(long millis){
+        this.targetLatency = millis;
+        return configureController();
+    }
+
+    /**
+     * Set the upper bounds of the batch size and number of active tasks when loading adaptively.
+     *
+     * @param maxBatchSize largest number of queries in each transaction
+     * @param maxActiveTasks largest number of tasks to allow to run at any given time
+     */
+    public LoaderClient setAdaptiveLimits(int maxBatchSize, int maxActiveTasks){
+        this.maxBatchSize = maxBatchSize;
+        this.maxActiveTasks = maxActiveTasks;
+        return configureController();
+    }
+
+    /**
+     * Apply the current settings to the controller. The controller is kept, so tasks which are already running are
+     * still counted by {@link #waitToFinish()}.
+     */
+    private LoaderClient configureController(){
+        controller.configure(batchSize, blockerSize, adaptive, targetLatency, maxBatchSize, maxActiveTasks);
+        resizePollers(controller.maxActiveTasks());
         return this;
     }
 
+    /**
+     * Keep a polling thread available for every task which may run at once
+     * @param size the largest number of tasks which may run at once
+     */
+    private void resizePollers(int size){
+        if(size > pollers.getMaximumPoolSize()){
+            pollers.setMaximumPoolSize(size);
+            pollers.setCorePoolSize(size);
+        } else {
+            pollers.setCorePoolSize(size);
+            pollers.setMaximumPoolSize(size);
+        }
+    }
+
     /**
      * Add an insert query to the queue.
      *
@@ -160,7 +240,7 @@ public class LoaderClient {
      */
     public void add(InsertQuery query){
         queries.add(query);
-        if(queries.size() >= batchSize){
+        if(queries.size() >= controller.batchSize()){
             sendQueriesToLoader(new HashSet<>(queries));
             queries.clear();
         }
@@ -182,7 +262,7 @@ public class LoaderClient {
     public void waitToFinish(){
         flush();
         while(!futures.values().stream().allMatch(CompletableFuture::isDone)
-                && blocker.availablePermits() != blockerSize){
+                && controller.activeTasks() != 0){
             try {
                 Thread.sleep(500);
             } catch (InterruptedException e) {
@@ -202,12 +282,13 @@ public class LoaderClient {
      */
     private void sendQueriesToLoader(Collection<InsertQuery> queries){
         try {
-            blocker.acquire();
+            controller.acquire();
         } catch (InterruptedException e) {
             throw new RuntimeException(e);
         }
 
         try {
+            long startTime = System.currentTimeMillis();
             String taskId = executePost(getConfiguration(queries, batchNumber.incrementAndGet()));
 
             CompletableFuture<Json> status = makeTaskCompletionFuture(taskId);
@@ -217,6 +298,12 @@ public class LoaderClient {
 
             // Function to execute when the task completes
             status.whenComplete((result, error) -> {
+                if(error != null || TaskStatus.valueOf(result.at(TASK_STATUS_PARAMETER).asString()) != COMPLETED){
+                    controller.onFailure();
+                } else {
+                    controller.onSuccess(System.currentTimeMillis() - startTime);
+                }
+
                 unblock(status);
 
                 if(error != null){
@@ -227,12 +314,13 @@ public class LoaderClient {
             });
         } catch (Throwable throwable){
             LOG.error(getFullStackTrace(throwable));
-            blocker.release();
+            controller.onFailure();
+            controller.release();
         }
     }
 
     private void unblock(CompletableFuture<Json> status){
-        blocker.release();
+        controller.release();
         futures.remove(status.hashCode());
     }
 
@@ -265,15 +353,12 @@ public class LoaderClient {
             return response.at("id").asString();
         }
         catch (IOException e){
+            disconnect(connection);
             if(retry){
                 return executePost(body);
             } else {
                 throw new RuntimeException(ErrorMessage.ERROR_COMMUNICATING_TO_HOST.getMessage(uri));
             }
-        } finally {
-            if (connection != null) {
-                connection.disconnect();
-            }
         }
     }
 
@@ -285,7 +370,7 @@ public class LoaderClient {
     private Json getStatus(String id) throws HttpRetryException {
         HttpURLConnection connection = null;
         try {
-            URL url = new URL(format(GET, uri, id));
+            URL url = new URL(format(GET, uri, id) + "?" + TASK_WAIT_PARAMETER + "=" + LONG_POLL_MILLIS);
 
             connection = (HttpURLConnection) url.openConnection();
             connection.setDoOutput(true);
@@ -294,6 +379,7 @@ public class LoaderClient {
             connection.setRequestMethod(REST.HttpConn.GET_METHOD);
 
             if(connection.getResponseCode() == 404){
+                disconnect(connection);
                 throw new IllegalArgumentException("Not found in Grakn task storage: " + id);
             }
 
@@ -301,11 +387,20 @@ public class LoaderClient {
             return Json.read(readResponse(connection.getInputStream()));
         }
         catch (IOException e){
+            disconnect(connection);
             throw new HttpRetryException(ErrorMessage.ERROR_COMMUNICATING_TO_HOST.getMessage(uri), 404);
-        } finally {
-            if (connection != null) {
-                connection.disconnect();
-            }
+        }
+    }
+
+    /**
+     * Close a connection which failed. Successful connections are not closed so that the underlying keep-alive
+     * connection can be reused by the next request to the same host.
+     *
+     * @param connection connection to close, may be null
+     */
+    private void disconnect(HttpURLConnection connection){
+        if (connection != null) {
+            connection.disconnect();
         }
     }
 
@@ -313,12 +408,18 @@ public class LoaderClient {
      * A completable future that polls the Task Controller to check for the status of the
      * given ID. It terminates when the status of that task is COMPLETED, FAILED or STOPPED.
      *
+     * Each poll asks the engine to hold the request until the task finishes, so the completion of a task is
+     * observed as soon as it happens. Engines which answer immediately are polled at a fixed interval instead.
+     * Polls run on a thread pool sized to the largest number of tasks which may run at once, so they are never
+     * queued behind each other.
+     *
      * @param id ID of the task to wait on completion
      * @return Completable future that will await completion of the given task
      */
     private CompletableFuture<Json> makeTaskCompletionFuture(String id){
         return CompletableFuture.supplyAsync(() -> {
             while (true) {
+                long pollStart = System.currentTimeMillis();
                 try {
                     Json taskState = getStatus(id);
                     TaskStatus status = TaskStatus.valueOf(taskState.at(TASK_STATUS_PARAMETER).asString());
@@ -337,15 +438,15 @@ public class LoaderClient {
                     }
                 } catch (Throwable t) {
                     throw new RuntimeException(t);
-                } finally {
-                    try {
-                        Thread.sleep(1000);
-                    } catch (InterruptedException e) {
-                        throw new RuntimeException(e);
-                    }
+                }
+
+                try {
+                    Thread.sleep(Math.max(0, POLL_INTERVAL_MILLIS - (System.currentTimeMillis() - pollStart)));
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
                 }
             }
-        });
+        }, pollers);
     }
 
     private String getPostParams(){
@@ -19,6 +19,7 @@
 package ai.grakn.concept;
 
 import java.util.Collection;
+import java.util.stream.Stream;
 
 /**
  * <p>
@@ -108,6 +109,11 @@ public interface EntityType extends Type{
      */
     Collection<Entity> instances();
 
+    /**
+     * @return A stream of the Entity instances of this type, read lazily from the graph.
+     */
+    Stream<Entity> instancesStream();
+
     /**
      *
      * @return a deep copy of this concept.
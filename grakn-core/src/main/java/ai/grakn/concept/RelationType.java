@@ -19,6 +19,7 @@
 package ai.grakn.concept;
 
 import java.util.Collection;
+import java.util.stream.Stream;
 
 /**
  * <p>
@@ -128,6 +129,11 @@ public interface RelationType extends Type {
      */
     Collection<Relation> instances();
 
+    /**
+     * @return A stream of the Relation instances of this type, read lazily from the graph.
+     */
+    Stream<Relation> instancesStream();
+
     /**
      *
      * @return a deep copy of this concept.
@@ -23,6 +23,7 @@ import ai.grakn.util.Schema;
 import com.google.common.collect.ImmutableMap;
 
 import java.util.Collection;
+import java.util.stream.Stream;
 
 /**
  * <p>
@@ -133,6 +134,11 @@ public interface ResourceType<D> extends Type {
      */
     Collection<Resource<D>> instances();
 
+    /**
+     * @return A stream of the Resource instances of this type, read lazily from the graph.
+     */
+    Stream<Resource<D>> instancesStream();
+
     /**
      * Get the data type to which instances of the ResourceType must conform.
      *
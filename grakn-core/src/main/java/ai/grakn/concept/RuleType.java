@@ -22,6 +22,7 @@ import ai.grakn.graph.admin.GraknAdmin;
 import ai.grakn.graql.Pattern;
 
 import java.util.Collection;
+import java.util.stream.Stream;
 
 /**
  * <p>
@@ -104,6 +105,11 @@ public interface RuleType extends Type {
      */
     Collection<Rule> instances();
 
+    /**
+     * @return A stream of the Rule instances of this type, read lazily from the graph.
+     */
+    Stream<Rule> instancesStream();
+
     /**
      *
      * @return a deep copy of this concept.
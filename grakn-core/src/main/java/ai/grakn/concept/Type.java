@@ -19,6 +19,7 @@
 package ai.grakn.concept;
 
 import java.util.Collection;
+import java.util.stream.Stream;
 
 /**
  * <p>
@@ -111,6 +112,27 @@ public interface Type extends Concept {
      */
     Collection<? extends Instance> instances();
 
+    /**
+     * Lazily iterate over the instances of this type and its subtypes. Unlike {@link #instances()} the instances are
+     * read from the graph as the stream is consumed, so types with very many instances can be traversed.
+     *
+     * @return A stream of the instances of this type.
+     */
+    Stream<? extends Instance> instancesStream();
+
+    /**
+     *
+     * @return true if this type or any of its subtypes has at least one instance.
+     */
+    boolean hasInstances();
+
+    /**
+     * Count the instances of this type and its subtypes without loading them.
+     *
+     * @return The number of instances of this type.
+     */
+    long instanceCount();
+
     /**
      * Return if the type is set to abstract.
      *
@@ -33,4 +33,7 @@ public class EngineStorageException extends RuntimeException {
     public EngineStorageException(Exception e) {
         super(ErrorMessage.STATE_STORAGE_ERROR.getMessage() + e);
     }
+    public EngineStorageException(String e, Exception cause) {
+        super(ErrorMessage.STATE_STORAGE_ERROR.getMessage() + e, cause);
+    }
 }
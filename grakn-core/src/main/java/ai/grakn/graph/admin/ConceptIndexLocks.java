@@ -0,0 +1,72 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graph.admin;
+
+/**
+ * <p>
+ *     Admin interface for reserving the unique index of a casting or resource before it is created, so concurrent
+ *     transactions using the same locks cannot create duplicates which would need to be merged by post processing.
+ * </p>
+ *
+ * <p>
+ *     Locks are held by the thread which acquired them and an index may be locked more than once by that thread.
+ * </p>
+ *
+ * <p>
+ *     Indices are hashed onto a fixed number of stripes. A thread must only wait for a stripe after every stripe it
+ *     already holds, so that concurrent threads can never wait on each other in a cycle. An index out of that order
+ *     can only be taken with {@link #tryLockWithoutWaiting(String, String)}.
+ * </p>
+ *
+ * @author agent
+ */
+public interface ConceptIndexLocks {
+    /**
+     *
+     * @param keyspace The keyspace of the concept
+     * @param index The unique index of the concept
+     * @return The stripe the index is locked with
+     */
+    int getStripe(String keyspace, String index);
+
+    /**
+     * Wait until the index is not locked by any other thread and lock it.
+     *
+     * @param keyspace The keyspace of the concept
+     * @param index The unique index of the concept
+     * @return true if the index was locked, false if waiting for it timed out
+     */
+    boolean tryLock(String keyspace, String index);
+
+    /**
+     * Lock the index only if no other thread holds it.
+     *
+     * @param keyspace The keyspace of the concept
+     * @param index The unique index of the concept
+     * @return true if the index was locked, false if another thread holds it
+     */
+    boolean tryLockWithoutWaiting(String keyspace, String index);
+
+    /**
+     *
+     * @param keyspace The keyspace of the concept
+     * @param index The unique index of the concept, which must have been locked by the current thread
+     */
+    void unlock(String keyspace, String index);
+}
@@ -22,6 +22,7 @@ import ai.grakn.GraknGraph;
 import ai.grakn.concept.Concept;
 import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.EntityType;
+import ai.grakn.concept.Instance;
 import ai.grakn.concept.RelationType;
 import ai.grakn.concept.ResourceType;
 import ai.grakn.concept.RoleType;
@@ -32,6 +33,7 @@ import ai.grakn.util.Schema;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -63,6 +65,51 @@ public interface GraknAdmin {
      */
     boolean isBatchLoadingEnabled();
 
+    /**
+     * Makes the transaction bound to the current thread read only until the graph is closed. Concepts read in a read
+     * only transaction are not checked for modifications and only the most recently used ones are cached, so reading
+     * large parts of the graph does not keep every concept in memory. A read only transaction cannot be committed.
+     */
+    void enableReadOnly();
+
+    /**
+     *
+     * @return true if the transaction bound to the current thread is read only
+     */
+    boolean isReadOnly();
+
+    /**
+     *
+     * @return true if the transaction bound to the current thread has changes which are not committed
+     */
+    boolean hasChanges();
+
+    /**
+     *
+     * @return true if the transaction bound to the current thread has added or removed rules which are not committed
+     */
+    boolean hasRuleChanges();
+
+    /**
+     * Makes the transaction bound to the current thread lock the index of every casting and resource it puts until
+     * the transaction is committed or closed.
+     *
+     * @param indexLocks The locks shared by concurrent transactions, or null to stop locking
+     */
+    void useIndexLocks(ConceptIndexLocks indexLocks);
+
+    /**
+     * Locks every index a transaction will need before anything is put: the indices of the given resources and of
+     * their castings, and the indices of the castings of the given existing role players. Locking them together, in
+     * the order of their stripe, lets the transaction wait for indices held by other transactions without risking a
+     * deadlock. Putting a casting or resource whose index was not locked up front fails if its stripe comes before
+     * one already held.
+     *
+     * @param resources The values of the resources about to be put, grouped by their type
+     * @param rolePlayers The existing instances about to play a role, grouped by the role
+     */
+    void lockIndices(Map<ResourceType<?>, Set<Object>> resources, Map<RoleType, Set<Instance>> rolePlayers);
+
     //------------------------------------- Meta Types ----------------------------------
     /**
      * Get the root of all Types.
@@ -122,6 +169,13 @@ public interface GraknAdmin {
 
     //------------------------------------- Admin Specific Operations ----------------------------------
 
+    /**
+     * Commits the graph without closing it, so that the thread can keep working on it.
+     *
+     * @throws GraknValidationException when the graph does not conform to the object concept
+     */
+    void commit() throws GraknValidationException;
+
     /**
      * Commits the graph and adds concepts for post processing directly to the cache bypassing the REST API.
      *
@@ -159,6 +213,15 @@ public interface GraknAdmin {
      */
     boolean fixDuplicateResources(String index, Set<ConceptId> resourceVertexIds);
 
+    /**
+     * Rebuilds the indices of relations, castings and shortcut edges so that a keyspace created by an older version
+     * of Grakn can be used by this one. The keyspace is read and committed a batch at a time.
+     *
+     * @param batchSize The number of elements to read before committing
+     * @return the number of indices which were rebuilt
+     */
+    long rebuildIndices(int batchSize);
+
     /**
      *
      * @param key The concept property tp search by.
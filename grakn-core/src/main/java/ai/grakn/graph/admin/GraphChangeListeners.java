@@ -0,0 +1,71 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graph.admin;
+
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * <p>
+ *     Listeners which are told when the committed data of a keyspace changes, so caches built from committed data
+ *     outside of the graph module can be dropped without the graph knowing about them.
+ * </p>
+ *
+ * <p>
+ *     Listeners are told after a transaction with changes is committed and after a keyspace is cleared. Changes which
+ *     are not committed are never reported.
+ * </p>
+ *
+ * @author agent
+ */
+public class GraphChangeListeners {
+
+    /**
+     * A listener of the changes committed to keyspaces.
+     */
+    public interface Listener {
+        /**
+         *
+         * @param keyspace The keyspace whose committed data changed
+         * @param rulesChanged true if rules may have been added or removed
+         */
+        void changed(String keyspace, boolean rulesChanged);
+    }
+
+    private static final Set<Listener> listeners = new CopyOnWriteArraySet<>();
+
+    private GraphChangeListeners(){}
+
+    /**
+     *
+     * @param listener The listener to tell about changes of every keyspace from now on
+     */
+    public static void register(Listener listener){
+        listeners.add(listener);
+    }
+
+    /**
+     *
+     * @param keyspace The keyspace whose committed data changed
+     * @param rulesChanged true if rules may have been added or removed
+     */
+    public static void changed(String keyspace, boolean rulesChanged){
+        listeners.forEach(listener -> listener.changed(keyspace, rulesChanged));
+    }
+}
@@ -26,6 +26,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 /**
@@ -40,6 +41,18 @@ import java.util.stream.Stream;
  */
 public interface MatchQuery extends Query<List<Map<String, Concept>>>, Streamable<Map<String, Concept>> {
 
+    /**
+     * Execute the query with the vertices it starts from split into partitions, each of which is matched on a thread
+     * and in a read only transaction of its own. The results are returned in no particular order, as they are found.
+     * Results whose concepts can no longer be found in the graph of the calling thread are skipped. Closing the stream
+     * stops matching the partitions which have not finished.
+     *
+     * @param graphs returns the graph to execute the query on, bound to the calling thread
+     * @param partitions the number of partitions to match in parallel
+     * @return a stream of results
+     */
+    Stream<Map<String, Concept>> parallelStream(Supplier<GraknGraph> graphs, int partitions);
+
     /**
      * @param names an array of variable names to select
      * @return a new MatchQuery that selects the given variables
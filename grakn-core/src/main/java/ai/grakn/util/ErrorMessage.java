@@ -68,6 +68,12 @@ public enum ErrorMessage {
     GRAPH_PERMANENTLY_CLOSED("The Graph for keyspace [%s] is closed. Use the factory to get a new graph."),
     CANNOT_FIND_VERTEX("Cannot find vertex using id [%s] on graph [%s] on a already constructed concept. This may be due to the vertex being deleted."),
     TRANSACTIONS_OPEN("Cannot close graph [%s] connecting to keyspace [%s] because there are [%s] open transactions"),
+    READ_ONLY_WITH_CHANGES("The transaction on keyspace [%s] cannot be made read only because it has uncommitted changes"),
+    READ_ONLY_COMMIT("The transaction on keyspace [%s] is read only and cannot be committed"),
+    READ_ONLY_MUTATION("The transaction on keyspace [%s] is read only and cannot be modified"),
+    INDEX_LOCK_TIMEOUT("Timed out waiting for the lock on index [%s] in keyspace [%s]"),
+    INDEX_LOCK_OUT_OF_ORDER("The index [%s] in keyspace [%s] was not locked up front and comes before an index " +
+            "already locked by the transaction"),
 
     //--------------------------------------------- Validation Errors
     VALIDATION("A structural validation error has occurred. Please correct the [`%s`] errors found. \n"),
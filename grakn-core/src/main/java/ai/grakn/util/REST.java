@@ -41,6 +41,9 @@ public class REST {
 
         public static final String COMMIT_LOG_URI = "/commit_log";
         public static final String GET_STATUS_CONFIG_URI = "/status/config";
+        public static final String GET_STATUS_QUERY_CACHE_URI = "/status/query_cache";
+        public static final String GET_STATUS_GRAPHS_URI = "/status/graphs";
+        public static final String ANALYTICS_GRAPH_RDD_URI = "/analytics/graph_rdd";
 
         public static final String REMOTE_SHELL_URI = "/shell/remote";
 
@@ -75,6 +78,7 @@ public class REST {
         public static final String TASK_CONFIGURATION_PARAMETER = "configuration";
         public static final String TASK_LOADER_INSERTS = "inserts";
         public static final String TASK_STOP = "/stop";
+        public static final String TASK_WAIT_PARAMETER = "wait";
         public static final String LIMIT_PARAM = "limit";
         public static final String OFFSET_PARAM = "offset";
         public static final String HAL_CONTENTTYPE = "application/hal+json";
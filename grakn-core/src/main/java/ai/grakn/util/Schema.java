@@ -53,7 +53,8 @@ public final class Schema {
         ROLE_PLAYER("role-player"),
         HYPOTHESIS("hypothesis"),
         CONCLUSION("conclusion"),
-        SHORTCUT("shortcut");
+        SHORTCUT("shortcut"),
+        SHARD("shard");
 
         private final String label;
 
@@ -124,7 +125,10 @@ public final class Schema {
         CASTING(Instance.class),
         ENTITY(Entity.class),
         RESOURCE(Resource.class),
-        RULE(Rule.class);
+        RULE(Rule.class),
+
+        //Internal structure of types, which instances of types with many instances are linked to
+        SHARD(Type.class);
 
         private final Class classType;
 
@@ -148,6 +152,7 @@ public final class Schema {
         TYPE(String.class), IS_ABSTRACT(Boolean.class), IS_IMPLICIT(Boolean.class),
         REGEX(String.class), DATA_TYPE(String.class), IS_UNIQUE(Boolean.class),
         RULE_LHS(String.class), RULE_RHS(String.class),
+        CURRENT_SHARD(String.class), INSTANCE_COUNT(Long.class),
 
         //Supported Data Types
         VALUE_STRING(String.class), VALUE_LONG(Long.class),
@@ -32,6 +32,9 @@ then
 elif [ "$1" == "xml" ]
 then
   java -cp ${CONCATCLASSPATH} -Dlogback.configurationFile="${GRAKN_HOME}/conf/main/logback.xml" -Dgrakn.log.file.postprocessing="${GRAKN_HOME}/logs/grakn-postprocessing.log" -Dgrakn.log.file.main="${GRAKN_HOME}/logs/grakn.log" -Dgrakn.dir="${GRAKN_HOME}/bin" ai.grakn.migration.xml.XmlMigrator ${1+"$@"}
+elif [ "$1" == "reindex" ]
+then
+  java -cp ${CONCATCLASSPATH} -Dlogback.configurationFile="${GRAKN_HOME}/conf/main/logback.xml" -Dgrakn.log.file.postprocessing="${GRAKN_HOME}/logs/grakn-postprocessing.log" -Dgrakn.log.file.main="${GRAKN_HOME}/logs/grakn.log" -Dgrakn.dir="${GRAKN_HOME}/bin" ai.grakn.migration.base.Reindex ${1+"$@"}
 else
-  echo "usage: ./migration.sh {owl, csv, json, export, sql, xml} <params>"
+  echo "usage: ./migration.sh {owl, csv, json, export, sql, xml, reindex} <params>"
 fi
@@ -17,6 +17,7 @@
  */
 package ai.grakn.engine;
 
+import ai.grakn.engine.controller.AnalyticsController;
 import ai.grakn.engine.controller.AuthController;
 import ai.grakn.engine.controller.CommitLogController;
 import ai.grakn.engine.controller.GraphFactoryController;
@@ -24,6 +25,7 @@ import ai.grakn.engine.controller.StatusController;
 import ai.grakn.engine.controller.TasksController;
 import ai.grakn.engine.controller.UserController;
 import ai.grakn.engine.controller.VisualiserController;
+import ai.grakn.engine.lock.LocalIndexLocks;
 import ai.grakn.engine.postprocessing.PostProcessing;
 import ai.grakn.engine.postprocessing.PostProcessingTask;
 import ai.grakn.engine.session.RemoteSession;
@@ -34,6 +36,7 @@ import ai.grakn.engine.util.ConfigProperties;
 import ai.grakn.engine.util.EngineID;
 import ai.grakn.engine.util.JWTHandler;
 import ai.grakn.exception.GraknEngineServerException;
+import ai.grakn.graph.admin.ConceptIndexLocks;
 import ai.grakn.util.REST;
 import mjson.Json;
 import org.slf4j.Logger;
@@ -47,6 +50,7 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
+import static ai.grakn.engine.util.ConfigProperties.LOADER_INDEX_LOCKS;
 import static ai.grakn.engine.util.ConfigProperties.TASK_MANAGER_IMPLEMENTATION;
 import static org.apache.commons.lang.exception.ExceptionUtils.getFullStackTrace;
 import static spark.Spark.awaitInitialization;
@@ -79,6 +83,7 @@ public class GraknEngineServer {
 
     public static final boolean isPasswordProtected = prop.getPropertyAsBool(ConfigProperties.PASSWORD_PROTECTED_PROPERTY);
     private static TaskManager taskManager;
+    private static ConceptIndexLocks indexLocks;
 
     public static void main(String[] args) {
         // close GraknEngineServer on SIGTERM
@@ -90,6 +95,7 @@ public class GraknEngineServer {
     }
 
     public static void start(String taskManagerClass){
+        startIndexLocks(prop.getProperty(LOADER_INDEX_LOCKS, LocalIndexLocks.class.getName()));
         startTaskManager(taskManagerClass);
         startHTTP();
         startPostprocessing();
@@ -99,6 +105,21 @@ public class GraknEngineServer {
     public static void stop() {
         stopHTTP();
         stopTaskManager();
+        stopIndexLocks();
+    }
+
+    /**
+     * Check in with the properties file to decide which locks the loaders reserve indices with
+     */
+    private static void startIndexLocks(String indexLocksClassName) {
+        try {
+            Class<ConceptIndexLocks> indexLocksClass = (Class<ConceptIndexLocks>) Class.forName(indexLocksClassName);
+            indexLocks = indexLocksClass.getConstructor().newInstance();
+        } catch (InstantiationException | IllegalAccessException | ClassNotFoundException | NoSuchMethodException e) {
+            throw new IllegalArgumentException("Invalid or unavailable ConceptIndexLocks class", e);
+        } catch (InvocationTargetException e) {
+            throw (RuntimeException) e.getCause();
+        }
     }
 
     /**
@@ -134,6 +155,7 @@ public class GraknEngineServer {
         new GraphFactoryController();
         new CommitLogController();
         new StatusController();
+        new AnalyticsController();
         new AuthController();
         new UserController();
         new TasksController(taskManager);
@@ -185,10 +207,24 @@ public class GraknEngineServer {
         }
     }
 
+    private static void stopIndexLocks() {
+        if(indexLocks instanceof AutoCloseable){
+            try {
+                ((AutoCloseable) indexLocks).close();
+            } catch (Exception e){
+                LOG.error(getFullStackTrace(e));
+            }
+        }
+    }
+
     public static TaskManager getTaskManager(){
         return taskManager;
     }
 
+    public static ConceptIndexLocks getIndexLocks(){
+        return indexLocks;
+    }
+
     private static void checkAuthorization(Request request) {
         if(!isPasswordProtected) return;
 
@@ -0,0 +1,216 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.cache;
+
+import ai.grakn.engine.util.ConfigProperties;
+import ai.grakn.graph.admin.GraphChangeListeners;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static ai.grakn.engine.util.ConfigProperties.QUERY_CACHE_MAX_SIZE;
+import static ai.grakn.engine.util.ConfigProperties.QUERY_CACHE_TTL;
+
+/**
+ * <p>
+ *     Engine's cache of the results of read only queries
+ * </p>
+ *
+ * <p>
+ *     Results are cached by keyspace, query, reasoner flags and the format they were rendered in, so the dashboard and
+ *     the Graql shell do not parse and execute the same query again until the keyspace changes. The results of a
+ *     keyspace are dropped whenever engine learns of a commit to it, either from the commit log every client submits
+ *     when it commits changes or directly when the commit is made within engine. Commits which engine does not hear
+ *     of, such as those made without submitting logs, are only picked up once the results expire.
+ * </p>
+ *
+ * @author agent
+ */
+public class QueryCache {
+    private static QueryCache instance = null;
+
+    private final Cache<Key, Object> results;
+
+    // Counts the invalidations of each keyspace, so a result computed while the keyspace changed is not kept
+    private final Map<String, Long> generations = new ConcurrentHashMap<>();
+
+    public static synchronized QueryCache getInstance(){
+        if(instance == null) {
+            ConfigProperties properties = ConfigProperties.getInstance();
+            instance = new QueryCache(properties.getPropertyAsLong(QUERY_CACHE_MAX_SIZE),
+                    properties.getPropertyAsLong(QUERY_CACHE_TTL));
+            //Commits made within engine do not go through the commit log endpoint, so they are listened to directly
+            QueryCache cache = instance;
+            GraphChangeListeners.register((keyspace, rulesChanged) -> cache.invalidate(keyspace));
+        }
+        return instance;
+    }
+
+    /**
+     * @param maxSize The maximum number of results to keep, 0 disables the cache
+     * @param ttl The time in milliseconds after which a result expires
+     */
+    public QueryCache(long maxSize, long ttl){
+        results = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl, TimeUnit.MILLISECONDS)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * @param keyspace The keyspace the query is executed against
+     * @return A token which must be given back when caching the result of a query which is about to be executed
+     */
+    public long getGeneration(String keyspace){
+        return generations.getOrDefault(keyspace.toLowerCase(), 0L);
+    }
+
+    /**
+     * @param key The query
+     * @return The cached result of the query or null if there is none
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Key key){
+        return (T) results.getIfPresent(key);
+    }
+
+    /**
+     * Caches the result of a read only query, unless the keyspace changed while the query was executed.
+     *
+     * @param key The query
+     * @param generation The generation of the keyspace before the query was executed
+     * @param result The result of the query
+     */
+    public synchronized void put(Key key, long generation, Object result){
+        if(getGeneration(key.keyspace) == generation) {
+            results.put(key, result);
+        }
+    }
+
+    /**
+     * Drops the cached results of a keyspace.
+     *
+     * @param keyspace The keyspace which changed
+     */
+    public synchronized void invalidate(String keyspace){
+        String name = keyspace.toLowerCase();
+        generations.merge(name, 1L, Long::sum);
+        results.asMap().keySet().removeIf(key -> key.keyspace.equals(name));
+    }
+
+    /**
+     * @return The hits, misses and evictions of the cache since engine started
+     */
+    public CacheStats getStats(){
+        return results.stats();
+    }
+
+    /**
+     * @return The number of results currently cached
+     */
+    public long size(){
+        return results.size();
+    }
+
+    /**
+     * @param keyspace The keyspace the query is executed against
+     * @param query The query as it was received
+     * @param infer If the reasoner is used
+     * @param materialise If inferred concepts are materialised
+     * @param format The format the results are rendered in
+     * @return The key of the query
+     */
+    public static Key key(String keyspace, String query, boolean infer, boolean materialise, String format){
+        return new Key(keyspace.toLowerCase(), normalise(query), infer, materialise, format);
+    }
+
+    /**
+     * Trims the query and collapses any whitespace outside of string literals, so queries which only differ in their
+     * layout share a result.
+     *
+     * @param query The query as it was received
+     * @return The normalised query
+     */
+    static String normalise(String query){
+        if(query == null) return null;
+
+        StringBuilder normalised = new StringBuilder(query.length());
+        char quote = 0;
+        boolean whitespace = false;
+
+        for(int i = 0; i < query.length(); i++){
+            char c = query.charAt(i);
+            if(quote != 0){
+                normalised.append(c);
+                if(c == '\\' && i + 1 < query.length()){
+                    normalised.append(query.charAt(++i));
+                } else if(c == quote) {
+                    quote = 0;
+                }
+            } else if(Character.isWhitespace(c)){
+                whitespace = true;
+            } else {
+                if(whitespace && normalised.length() > 0) normalised.append(' ');
+                whitespace = false;
+                if(c == '"' || c == '\'') quote = c;
+                normalised.append(c);
+            }
+        }
+        return normalised.toString();
+    }
+
+    /**
+     * A query together with everything else its result depends on
+     */
+    public static final class Key {
+        private final String keyspace;
+        private final String query;
+        private final boolean infer;
+        private final boolean materialise;
+        private final String format;
+
+        private Key(String keyspace, String query, boolean infer, boolean materialise, String format){
+            this.keyspace = keyspace;
+            this.query = query;
+            this.infer = infer;
+            this.materialise = materialise;
+            this.format = format;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return infer == key.infer && materialise == key.materialise && keyspace.equals(key.keyspace) &&
+                    Objects.equals(query, key.query) && Objects.equals(format, key.format);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(keyspace, query, infer, materialise, format);
+        }
+    }
+}
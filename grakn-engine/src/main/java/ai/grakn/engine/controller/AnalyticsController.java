@@ -0,0 +1,88 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.controller;
+
+import ai.grakn.graph.internal.computer.GraknSparkComputer;
+import ai.grakn.util.REST;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiImplicitParam;
+import io.swagger.annotations.ApiOperation;
+import mjson.Json;
+import spark.Request;
+import spark.Response;
+
+import javax.ws.rs.DELETE;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+
+import static spark.Spark.delete;
+import static spark.Spark.get;
+
+/**
+ * <p>
+ *     Endpoints used to inspect and evict the graphs kept loaded by the graph computer between compute queries.
+ * </p>
+ *
+ * @author agent
+ */
+@Path("/analytics")
+@Api(value = "/analytics", description = "Endpoints used to inspect and evict the graphs loaded for analytics")
+@Produces({"application/json"})
+public class AnalyticsController {
+
+    public AnalyticsController() {
+        get(REST.WebPath.ANALYTICS_GRAPH_RDD_URI, this::getGraphRDDs);
+        delete(REST.WebPath.ANALYTICS_GRAPH_RDD_URI, this::evictGraphRDDs);
+    }
+
+    @GET
+    @Path("/graph_rdd")
+    @ApiOperation(value = "Return the graph loaded for each keyspace, with its version and when it was loaded.")
+    private String getGraphRDDs(Request req, Response res) {
+        long now = System.currentTimeMillis();
+        Json snapshots = Json.array();
+
+        GraknSparkComputer.getSnapshots().forEach(snapshot -> snapshots.add(Json.object(
+                REST.Request.KEYSPACE_PARAM, snapshot.getKeyspace(),
+                "version", snapshot.getVersion(),
+                "loadedAt", snapshot.getLoadedAt(),
+                "age", now - snapshot.getLoadedAt())));
+
+        return snapshots.toString();
+    }
+
+    @DELETE
+    @Path("/graph_rdd")
+    @ApiOperation(value = "Evict the graph loaded for a keyspace, or for every keyspace if none is given.")
+    @ApiImplicitParam(name = "keyspace", value = "The keyspace of the graph to evict", dataType = "string", paramType = "query")
+    private String evictGraphRDDs(Request req, Response res) {
+        String keyspace = req.queryParams(REST.Request.KEYSPACE_PARAM);
+
+        if (keyspace != null) {
+            boolean evicted = GraknSparkComputer.invalidate(keyspace);
+            return evicted ?
+                    "The loaded graph of [" + keyspace + "] has been evicted" :
+                    "There is no loaded graph of [" + keyspace + "]";
+        }
+
+        GraknSparkComputer.getSnapshots().forEach(snapshot -> GraknSparkComputer.invalidate(snapshot.getKeyspace()));
+        return "All loaded graphs have been evicted";
+    }
+}
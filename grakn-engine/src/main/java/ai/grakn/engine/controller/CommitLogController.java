@@ -19,9 +19,11 @@
 package ai.grakn.engine.controller;
 
 import ai.grakn.concept.ConceptId;
+import ai.grakn.engine.cache.QueryCache;
 import ai.grakn.engine.postprocessing.EngineCache;
 import ai.grakn.engine.util.ConfigProperties;
 import ai.grakn.exception.GraknEngineServerException;
+import ai.grakn.graph.internal.computer.GraknSparkComputer;
 import ai.grakn.util.ErrorMessage;
 import ai.grakn.util.REST;
 import ai.grakn.util.Schema;
@@ -69,6 +71,8 @@ public class CommitLogController {
         }
 
         cache.clearAllJobs(graphName);
+        GraknSparkComputer.invalidate(graphName);
+        QueryCache.getInstance().invalidate(graphName);
 
         return "The cache of Graph [" + graphName + "] has been cleared";
     }
@@ -89,6 +93,8 @@ public class CommitLogController {
                 graphName = ConfigProperties.getInstance().getProperty(ConfigProperties.DEFAULT_KEYSPACE_PROPERTY);
             }
             LOG.info("Commit log received for graph [" + graphName + "]");
+            GraknSparkComputer.invalidate(graphName);
+            QueryCache.getInstance().invalidate(graphName);
 
             JSONArray jsonArray = (JSONArray) new JSONObject(req.body()).get("concepts");
 
@@ -18,9 +18,12 @@
 
 package ai.grakn.engine.controller;
 
+import ai.grakn.engine.cache.QueryCache;
 import ai.grakn.engine.util.ConfigProperties;
+import ai.grakn.factory.EngineGraknGraphFactory;
 import ai.grakn.util.REST;
 import io.swagger.annotations.Api;
+import com.google.common.cache.CacheStats;
 import io.swagger.annotations.ApiOperation;
 import mjson.Json;
 import spark.Request;
@@ -48,6 +51,8 @@ public class StatusController {
 
     public StatusController() {
         get(REST.WebPath.GET_STATUS_CONFIG_URI, this::getStatus);
+        get(REST.WebPath.GET_STATUS_QUERY_CACHE_URI, this::getQueryCacheStatus);
+        get(REST.WebPath.GET_STATUS_GRAPHS_URI, this::getGraphsStatus);
     }
 
     @GET
@@ -70,4 +75,28 @@ public class StatusController {
         return configObj.toString();
     }
 
+    @GET
+    @Path("/query_cache")
+    @ApiOperation(
+            value = "Return the size and hit rate of the cache of read only query results.")
+    private String getQueryCacheStatus(Request req, Response res) {
+        QueryCache queryCache = QueryCache.getInstance();
+        CacheStats stats = queryCache.getStats();
+
+        return Json.object(
+                "size", queryCache.size(),
+                "requests", stats.requestCount(),
+                "hits", stats.hitCount(),
+                "misses", stats.missCount(),
+                "hitRate", stats.hitRate(),
+                "evictions", stats.evictionCount()).toString();
+    }
+
+    @GET
+    @Path("/graphs")
+    @ApiOperation(
+            value = "Return how often each open graph has been requested, how long it took and its open transactions.")
+    private String getGraphsStatus(Request req, Response res) {
+        return EngineGraknGraphFactory.getInstance().getGraphStatus().toString();
+    }
 }
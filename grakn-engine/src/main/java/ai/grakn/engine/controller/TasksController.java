@@ -45,6 +45,7 @@ import javax.ws.rs.Path;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Optional;
+import java.util.concurrent.Semaphore;
 
 import static ai.grakn.engine.tasks.TaskSchedule.recurring;
 import static ai.grakn.util.REST.Request.ID_PARAMETER;
@@ -56,6 +57,7 @@ import static ai.grakn.util.REST.Request.TASK_RUN_AT_PARAMETER;
 import static ai.grakn.util.REST.Request.TASK_RUN_INTERVAL_PARAMETER;
 import static ai.grakn.util.REST.Request.TASK_STATUS_PARAMETER;
 import static ai.grakn.util.REST.Request.TASK_STOP;
+import static ai.grakn.util.REST.Request.TASK_WAIT_PARAMETER;
 import static ai.grakn.util.REST.WebPath.ALL_TASKS_URI;
 import static ai.grakn.util.REST.WebPath.TASKS_SCHEDULE_URI;
 import static ai.grakn.util.REST.WebPath.TASKS_URI;
@@ -77,6 +79,13 @@ import static spark.Spark.put;
 @Path("/tasks")
 @Api(value = "/tasks", description = "Endpoints used to query and control queued background tasks.", produces = "application/json")
 public class TasksController {
+    private static final long MAX_WAIT_MILLIS = 30000;
+    private static final long MIN_WAIT_INTERVAL_MILLIS = 100;
+    private static final long MAX_WAIT_INTERVAL_MILLIS = 1000;
+    // Requests waiting for tasks hold a server thread each, so only this many may wait at once
+    private static final int MAX_WAITING_REQUESTS = 16;
+
+    private final Semaphore waitingRequests = new Semaphore(MAX_WAITING_REQUESTS);
     private final Logger LOG = LoggerFactory.getLogger(TasksController.class);
     private final TaskManager manager;
 
@@ -133,15 +142,30 @@ public class TasksController {
     @GET
     @Path("/:uuid")
     @ApiOperation(value = "Get the state of a specific task by its ID.", produces = "application/json")
-    @ApiImplicitParam(name = "uuid", value = "ID of task.", required = true, dataType = "string", paramType = "path")
+    @ApiImplicitParams({
+        @ApiImplicitParam(name = "uuid", value = "ID of task.", required = true, dataType = "string", paramType = "path"),
+        @ApiImplicitParam(name = "wait", value = "Maximum time in milliseconds to wait for the task to finish before returning its state. The state is returned at once when too many requests are already waiting.", dataType = "long", paramType = "query")
+    })
     private String getTask(Request request, Response response) {
         String id = request.params(ID_PARAMETER);
+        long wait = getWait(request);
 
         try {
             response.status(200);
             response.type("application/json");
 
-            return serialiseStateFull(manager.storage().getState(TaskId.of(id))).toString();
+            TaskState state;
+            if (wait > 0 && waitingRequests.tryAcquire()) {
+                try {
+                    state = waitForState(TaskId.of(id), Math.min(wait, MAX_WAIT_MILLIS));
+                } finally {
+                    waitingRequests.release();
+                }
+            } else {
+                state = manager.storage().getState(TaskId.of(id));
+            }
+
+            return serialiseStateFull(state).toString();
         } catch (EngineStorageException e){
            throw new GraknEngineServerException(404, format("Could not find [%s] in task storage", id));
         } catch (Exception e) {
@@ -149,6 +173,52 @@ public class TasksController {
         }
     }
 
+    private static long getWait(Request request) {
+        String wait = request.queryParams(TASK_WAIT_PARAMETER);
+        if (wait == null) return 0L;
+
+        try {
+            return Math.max(0L, parseLong(wait));
+        } catch (NumberFormatException e) {
+            throw new GraknEngineServerException(400, format("Invalid value [%s] of parameter [%s]", wait, TASK_WAIT_PARAMETER));
+        }
+    }
+
+    /**
+     * Read the state of a task, waiting up to the given time for the task to finish. This allows clients to
+     * long-poll for the completion of a task rather than repeatedly requesting its state.
+     *
+     * The state is read again after a short interval which doubles every time up to a second, so a task which takes
+     * long does not keep task storage busy.
+     *
+     * @param id ID of the task
+     * @param wait maximum time in milliseconds to wait for the task to finish
+     * @return the state of the task when it finished or when the wait expired
+     */
+    private TaskState waitForState(TaskId id, long wait) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + wait;
+        long interval = MIN_WAIT_INTERVAL_MILLIS;
+
+        while (true) {
+            try {
+                TaskState state = manager.storage().getState(id);
+                if (isFinished(state.status()) || System.currentTimeMillis() >= deadline) {
+                    return state;
+                }
+            } catch (EngineStorageException e) {
+                // The task may not have been stored yet
+                if (System.currentTimeMillis() >= deadline) throw e;
+            }
+
+            Thread.sleep(Math.min(interval, Math.max(1, deadline - System.currentTimeMillis())));
+            interval = Math.min(interval * 2, MAX_WAIT_INTERVAL_MILLIS);
+        }
+    }
+
+    private static boolean isFinished(TaskStatus status) {
+        return status == TaskStatus.COMPLETED || status == TaskStatus.FAILED || status == TaskStatus.STOPPED;
+    }
+
     @PUT
     @Path("/:uuid/stop")
     @ApiOperation(value = "Stop a running or paused task.")
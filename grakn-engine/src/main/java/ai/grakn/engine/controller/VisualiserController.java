@@ -23,6 +23,7 @@ import ai.grakn.concept.Concept;
 import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.Type;
 import ai.grakn.concept.TypeName;
+import ai.grakn.engine.cache.QueryCache;
 import ai.grakn.engine.util.ConfigProperties;
 import ai.grakn.exception.GraknEngineServerException;
 import ai.grakn.graql.AggregateQuery;
@@ -88,6 +89,8 @@ public class VisualiserController {
 
     private final static ConfigProperties properties = ConfigProperties.getInstance();
 
+    private final static QueryCache queryCache = QueryCache.getInstance();
+
     private final static int separationDegree = properties.getPropertyAsInt(HAL_DEGREE_PROPERTY);
     private final static String COMPUTE_RESPONSE_TYPE = "type";
     private final static String COMPUTE_RESPONSE_FIELD = "response";
@@ -115,6 +118,7 @@ public class VisualiserController {
         String keyspace = getKeyspace(req);
 
         try (GraknGraph graph = getInstance().getGraph(keyspace)) {
+            graph.admin().enableReadOnly();
             Concept concept = graph.getConcept(ConceptId.of(req.params(ID_PARAMETER)));
 
             if(concept==null) {
@@ -140,6 +144,7 @@ public class VisualiserController {
         String keyspace = getKeyspace(req);
 
         try (GraknGraph graph = getInstance().getGraph(keyspace)) {
+            graph.admin().enableReadOnly();
             Concept concept = graph.getConcept(ConceptId.of(req.params(ID_PARAMETER)));
             return renderHALConceptOntology(concept, keyspace);
         } catch (Exception e) {
@@ -158,6 +163,7 @@ public class VisualiserController {
         String keyspace = getKeyspace(req);
 
         try (GraknGraph graph = getInstance().getGraph(keyspace)) {
+            graph.admin().enableReadOnly();
             JSONObject responseObj = new JSONObject();
             responseObj.put(ROLES_JSON_FIELD, instances(graph.admin().getMetaRoleType()));
             responseObj.put(ENTITIES_JSON_FIELD, instances(graph.admin().getMetaEntityType()));
@@ -183,19 +189,33 @@ public class VisualiserController {
         String keyspace = getKeyspace(req);
         boolean useReasoner = parseBoolean(req.queryParams("reasoner"));
         boolean materialise = parseBoolean(req.queryParams("materialise"));
+        String acceptType = getAcceptType(req);
+
+        QueryCache.Key cacheKey = QueryCache.key(keyspace, req.queryParams(QUERY_FIELD), useReasoner, materialise, acceptType);
+        String cachedResult = queryCache.get(cacheKey);
+        if (cachedResult != null) return cachedResult;
+        long generation = queryCache.getGeneration(keyspace);
 
         try (GraknGraph graph = getInstance().getGraph(keyspace)) {
+            //Materialised inferences are written to the graph
+            if (!materialise) graph.admin().enableReadOnly();
             QueryBuilder qb = graph.graql().infer(useReasoner).materialise(materialise);
             Query parsedQuery = qb.parse(req.queryParams(QUERY_FIELD));
             if (parsedQuery instanceof MatchQuery || parsedQuery instanceof AggregateQuery || parsedQuery instanceof ComputeQuery) {
-                switch (getAcceptType(req)) {
+                String result;
+                switch (acceptType) {
                     case HAL_CONTENTTYPE:
-                        return formatAsHAL((MatchQuery) parsedQuery, keyspace);
+                        result = formatAsHAL((MatchQuery) parsedQuery, keyspace);
+                        break;
                     case GRAQL_CONTENTTYPE:
-                        return formatAsGraql(parsedQuery);
+                        result = formatAsGraql(parsedQuery);
+                        break;
                     default:
-                        return formatAsHAL((MatchQuery)parsedQuery, keyspace);
+                        result = formatAsHAL((MatchQuery)parsedQuery, keyspace);
                 }
+
+                if (parsedQuery.isReadOnly()) queryCache.put(cacheKey, generation, result);
+                return result;
             } else {
                 throw new GraknEngineServerException(500, "Only \"read-only\" queries are allowed from Grakn web-dashboard.");
             }
@@ -248,9 +268,10 @@ public class VisualiserController {
     @ApiOperation(value = "Pre materialise all the rules on the graph.")
     @ApiImplicitParam(name = "keyspace", value = "Name of graph to use", dataType = "string", paramType = "query")
     private String preMaterialiseAll(Request req, Response res) {
-        try (GraknGraph graph = getInstance().getGraph(getKeyspace(req))) {
-            //TODO: Fix ugly casting here
-            Reasoner.precomputeInferences(graph);
+        String keyspace = getKeyspace(req);
+        try (GraknGraph graph = getInstance().getGraph(keyspace)) {
+            Reasoner.precomputeInferences(graph, () -> getInstance().getGraph(keyspace),
+                    properties.getAvailableThreads());
             return "Done.";
         } catch (Exception e) {
             throw new GraknEngineServerException(500, e);
@@ -19,6 +19,7 @@
 package ai.grakn.engine.loader;
 
 import ai.grakn.GraknGraph;
+import ai.grakn.engine.GraknEngineServer;
 import ai.grakn.engine.tasks.BackgroundTask;
 import ai.grakn.engine.postprocessing.EngineCache;
 import ai.grakn.engine.util.ConfigProperties;
@@ -27,6 +28,7 @@ import ai.grakn.factory.EngineGraknGraphFactory;
 import ai.grakn.graql.Graql;
 import ai.grakn.graql.InsertQuery;
 import ai.grakn.graql.QueryBuilder;
+import ai.grakn.graql.internal.query.BatchInsertQueryExecutor;
 import mjson.Json;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -48,6 +50,9 @@ import static java.util.stream.Collectors.toList;
  * Task that will load data into a graph. It uses the engine running on the
  * engine executing the task.
  *
+ * The indices of the castings and resources it puts are locked with the index locks of the engine until the
+ * transaction ends, so concurrent loaders do not create duplicates of them.
+ *
  * The task will then submit all modified concepts for post processing.
  *
  * @author Alexandra Orth
@@ -81,15 +86,16 @@ public class LoaderTask implements BackgroundTask {
     }
 
     private void attemptInsertions(String keyspace, Collection<InsertQuery> inserts) {
-        try(GraknGraph graph = EngineGraknGraphFactory.getInstance().getGraphBatchLoading(keyspace)) {
-            for (int i = 0; i < repeatCommits; i++) {
+        for (int i = 0; i < repeatCommits; i++) {
+            //Each attempt gets its own transaction, so the indices locked by a failed attempt are released
+            try(GraknGraph graph = EngineGraknGraphFactory.getInstance().getGraphBatchLoading(keyspace)) {
                 if(insertQueriesInOneTransaction(graph, inserts)){
                     return;
                 }
             }
-
-            throwException("Could not insert");
         }
+
+        throwException("Could not insert");
     }
 
     /**
@@ -102,8 +108,9 @@ public class LoaderTask implements BackgroundTask {
 
         try {
             graph.showImplicitConcepts(true);
+            graph.admin().useIndexLocks(GraknEngineServer.getIndexLocks());
 
-            inserts.forEach(q -> q.withGraph(graph).execute());
+            new BatchInsertQueryExecutor(graph).insertAll(inserts);
 
             // commit the transaction
             graph.admin().commit(EngineCache.getInstance());
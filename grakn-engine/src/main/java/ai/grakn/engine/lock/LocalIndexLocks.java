@@ -0,0 +1,91 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.lock;
+
+import ai.grakn.engine.util.ConfigProperties;
+import ai.grakn.graph.admin.ConceptIndexLocks;
+import com.google.common.util.concurrent.Striped;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import static ai.grakn.engine.util.ConfigProperties.LOADER_INDEX_LOCK_TIMEOUT;
+
+/**
+ * <p>
+ *     Index locks shared by the transactions of a single engine.
+ * </p>
+ *
+ * <p>
+ *     Indices are hashed onto a fixed number of reentrant locks, so memory does not grow with the number of indices.
+ *     Two indices sharing a lock only make their transactions wait for each other.
+ * </p>
+ *
+ * @author agent
+ */
+public class LocalIndexLocks implements ConceptIndexLocks {
+    static final int NUM_STRIPES = 1024;
+
+    private final Striped<Lock> locks;
+    private final int stripes;
+    private final long timeout;
+
+    public LocalIndexLocks(){
+        this(NUM_STRIPES, ConfigProperties.getInstance().getPropertyAsLong(LOADER_INDEX_LOCK_TIMEOUT));
+    }
+
+    /**
+     * @param stripes The number of locks the indices are hashed onto
+     * @param timeout The time in milliseconds to wait for an index locked by another thread
+     */
+    public LocalIndexLocks(int stripes, long timeout){
+        this.locks = Striped.lock(stripes);
+        this.stripes = stripes;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public int getStripe(String keyspace, String index) {
+        return Math.floorMod((keyspace + index).hashCode(), stripes);
+    }
+
+    @Override
+    public boolean tryLock(String keyspace, String index) {
+        try {
+            return lock(keyspace, index).tryLock(timeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public boolean tryLockWithoutWaiting(String keyspace, String index) {
+        return lock(keyspace, index).tryLock();
+    }
+
+    @Override
+    public void unlock(String keyspace, String index) {
+        lock(keyspace, index).unlock();
+    }
+
+    private Lock lock(String keyspace, String index){
+        return locks.getAt(getStripe(keyspace, index));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.lock;
+
+import ai.grakn.engine.tasks.manager.ZookeeperConnection;
+import ai.grakn.engine.util.ConfigProperties;
+import ai.grakn.exception.EngineStorageException;
+import ai.grakn.graph.admin.ConceptIndexLocks;
+import org.apache.curator.framework.recipes.locks.InterProcessMutex;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static ai.grakn.engine.tasks.config.ConfigHelper.client;
+import static ai.grakn.engine.tasks.config.ZookeeperPaths.INDEX_LOCK_PATH;
+import static ai.grakn.engine.util.ConfigProperties.LOADER_INDEX_LOCK_TIMEOUT;
+
+/**
+ * <p>
+ *     Index locks shared by the transactions of every engine connected to the same Zookeeper.
+ * </p>
+ *
+ * <p>
+ *     Like {@link LocalIndexLocks} the indices of a keyspace are hashed onto a fixed number of locks, each of which
+ *     is a Zookeeper mutex.
+ * </p>
+ *
+ * @author agent
+ */
+public class ZookeeperIndexLocks implements ConceptIndexLocks, AutoCloseable {
+    private final ZookeeperConnection zookeeper;
+    private final Map<String, InterProcessMutex> mutexes = new ConcurrentHashMap<>();
+    private final long timeout;
+
+    public ZookeeperIndexLocks(){
+        this.zookeeper = new ZookeeperConnection(client());
+        this.timeout = ConfigProperties.getInstance().getPropertyAsLong(LOADER_INDEX_LOCK_TIMEOUT);
+    }
+
+    @Override
+    public int getStripe(String keyspace, String index) {
+        return Math.floorMod(index.hashCode(), LocalIndexLocks.NUM_STRIPES);
+    }
+
+    @Override
+    public boolean tryLock(String keyspace, String index) {
+        return acquire(keyspace, index, timeout);
+    }
+
+    @Override
+    public boolean tryLockWithoutWaiting(String keyspace, String index) {
+        return acquire(keyspace, index, 0);
+    }
+
+    @Override
+    public void unlock(String keyspace, String index) {
+        zookeeper.release(mutex(keyspace, index));
+    }
+
+    @Override
+    public void close() {
+        zookeeper.close();
+    }
+
+    private boolean acquire(String keyspace, String index, long timeout){
+        try {
+            return mutex(keyspace, index).acquire(timeout, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            throw new EngineStorageException("Error acquiring index lock from zookeeper.", e);
+        }
+    }
+
+    private InterProcessMutex mutex(String keyspace, String index){
+        String path = String.format(INDEX_LOCK_PATH, keyspace, getStripe(keyspace, index));
+        return mutexes.computeIfAbsent(path, p -> new InterProcessMutex(zookeeper.connection(), p));
+    }
+}
@@ -20,6 +20,7 @@ package ai.grakn.engine.postprocessing;
 
 import ai.grakn.GraknGraph;
 import ai.grakn.concept.ConceptId;
+import ai.grakn.engine.cache.QueryCache;
 import ai.grakn.engine.util.ConfigProperties;
 import ai.grakn.factory.EngineGraknGraphFactory;
 import ai.grakn.util.ErrorMessage;
@@ -89,6 +90,7 @@ class ConceptFixer {
 
                 //Commit the fix
                 graph.admin().commitNoLogs();
+                QueryCache.getInstance().invalidate(keyspace);
 
                 //Finally clear the cache
                 jobFinaliser.accept(EngineCache.getInstance());
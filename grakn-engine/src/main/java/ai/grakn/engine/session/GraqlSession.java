@@ -23,6 +23,7 @@ import ai.grakn.GraknGraphFactory;
 import ai.grakn.concept.ResourceType;
 import ai.grakn.concept.Type;
 import ai.grakn.concept.TypeName;
+import ai.grakn.engine.cache.QueryCache;
 import ai.grakn.exception.ConceptException;
 import ai.grakn.exception.GraknValidationException;
 import ai.grakn.graql.Printer;
@@ -37,6 +38,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ExecutorService;
@@ -74,6 +77,10 @@ class GraqlSession {
     private final GraknGraphFactory factory;
     private final String outputFormat;
     private Printer printer;
+    private String printerFormat;
+    private final QueryCache queryCache = QueryCache.getInstance();
+    // Results are not cached while the transaction holds changes which are not committed
+    private boolean uncommittedChanges = false;
     private StringBuilder queryStringBuilder = new StringBuilder();
     private final Logger LOG = LoggerFactory.getLogger(GraqlSession.class);
 
@@ -97,6 +104,7 @@ class GraqlSession {
         this.factory = factory;
         this.outputFormat = outputFormat;
         this.printer = getPrinter();
+        this.printerFormat = outputFormat;
 
         queryExecutor.submit(() -> {
             try {
@@ -207,13 +215,31 @@ class GraqlSession {
                 String queryString = queryStringBuilder.toString();
                 queryStringBuilder = new StringBuilder();
 
-                queries = graph.graql().infer(infer).materialise(materialise).parseList(queryString);
-
-                // Return results unless query is cancelled
-                queries.stream().flatMap(query -> query.resultsString(printer)).forEach(result -> {
-                    if (queryCancelled) return;
-                    sendQueryResult(result);
-                });
+                String keyspace = graph.getKeyspace();
+                QueryCache.Key cacheKey = QueryCache.key(keyspace, queryString, infer, materialise,
+                        printerFormat + ":" + showImplicitTypes);
+                List<String> cachedResults = uncommittedChanges ? null : queryCache.get(cacheKey);
+
+                if (cachedResults != null) {
+                    cachedResults.forEach(this::sendQueryResult);
+                } else {
+                    long generation = queryCache.getGeneration(keyspace);
+                    queries = graph.graql().infer(infer).materialise(materialise).parseList(queryString);
+
+                    // Return results unless query is cancelled
+                    List<String> results = new ArrayList<>();
+                    queries.stream().flatMap(query -> query.resultsString(printer)).forEach(result -> {
+                        if (queryCancelled) return;
+                        sendQueryResult(result);
+                        results.add(result);
+                    });
+
+                    if (!queries.stream().allMatch(Query::isReadOnly)) {
+                        uncommittedChanges = true;
+                    } else if (!uncommittedChanges && !queryCancelled) {
+                        queryCache.put(cacheKey, generation, results);
+                    }
+                }
                 queryCancelled = false;
             } catch (IllegalArgumentException | IllegalStateException | ConceptException e) {
                 errorMessage = e.getMessage();
@@ -229,6 +255,7 @@ class GraqlSession {
                 if (errorMessage != null) {
                     if (queries != null && !queries.stream().allMatch(Query::isReadOnly)) {
                         graph.close();
+                        uncommittedChanges = false;
                     }
                     sendQueryError(errorMessage);
                 }
@@ -250,6 +277,8 @@ class GraqlSession {
             try {
                 graph.commitOnClose();
                 graph.close();
+                queryCache.invalidate(graph.getKeyspace());
+                uncommittedChanges = false;
             } catch (GraknValidationException e) {
                 sendCommitError(e.getMessage());
             } finally {
@@ -265,6 +294,7 @@ class GraqlSession {
     void rollback() {
         queryExecutor.submit(() -> {
             graph.close();
+            uncommittedChanges = false;
             attemptRefresh();
         });
     }
@@ -275,6 +305,8 @@ class GraqlSession {
     void clean() {
         queryExecutor.submit(() -> {
             graph.clear();
+            queryCache.invalidate(graph.getKeyspace());
+            uncommittedChanges = true;
             attemptRefresh();
         });
     }
@@ -295,6 +327,7 @@ class GraqlSession {
                     .filter(Objects::nonNull)
                     .toArray(ResourceType[]::new);
             printer = getPrinter(displayOptions);
+            printerFormat = outputFormat + Arrays.toString(Arrays.stream(displayOptions).map(Type::getName).toArray());
         });
     }
 
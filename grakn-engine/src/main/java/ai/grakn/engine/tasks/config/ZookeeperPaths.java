@@ -39,4 +39,5 @@ public interface ZookeeperPaths {
     String SINGLE_ENGINE_PATH = ALL_ENGINE_PATH + "/%s";
     String ZK_TASK_PATH =  TASKS_PATH_PREFIX + "/%s";
     String ZK_ENGINE_TASK_PATH = ALL_ENGINE_PATH + "/%s/%s";
+    String INDEX_LOCK_PATH = "/index-locks/%s/%s";
 }
@@ -54,7 +54,12 @@ public class ConfigProperties {
 
     public static final String HAL_DEGREE_PROPERTY = "halBuilder.degree";
 
+    public static final String QUERY_CACHE_MAX_SIZE = "cache.query-results.max-size";
+    public static final String QUERY_CACHE_TTL = "cache.query-results.ttl";
+
     public static final String LOADER_REPEAT_COMMITS = "loader.repeat-commits";
+    public static final String LOADER_INDEX_LOCKS = "loader.index-locks";
+    public static final String LOADER_INDEX_LOCK_TIMEOUT = "loader.index-lock-timeout";
     public static final String POST_PROCESSING_DELAY = "backgroundTasks.post-processing-delay";
     public static final String TIME_LAPSE = "backgroundTasks.time-lapse";
 
@@ -22,10 +22,12 @@ import ai.grakn.Grakn;
 import ai.grakn.GraknGraph;
 import ai.grakn.engine.util.ConfigProperties;
 import ai.grakn.util.ErrorMessage;
+import mjson.Json;
 
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <p>
@@ -77,6 +79,27 @@ public class EngineGraknGraphFactory {
         FactoryBuilder.refresh();
     }
 
+    /**
+     *
+     * @return How often a graph has been requested from each open factory, how long threads waited for it and how
+     * many transactions are open on it
+     */
+    public Json getGraphStatus(){
+        Json status = Json.array();
+        for (InternalFactory<?, ?> factory : FactoryBuilder.getFactories()) {
+            if(factory instanceof AbstractInternalFactory){
+                AbstractInternalFactory<?, ?> graphFactory = (AbstractInternalFactory<?, ?>) factory;
+                status.add(Json.object(
+                        "keyspace", graphFactory.getKeyspace(),
+                        "requests", graphFactory.getGraphRequests(),
+                        "waitMillis", TimeUnit.NANOSECONDS.toMillis(graphFactory.getGraphWaitNanos()),
+                        "activeTransactions", graphFactory.getActiveTransactions(false),
+                        "activeBatchTransactions", graphFactory.getActiveTransactions(true)));
+            }
+        }
+        return status;
+    }
+
     private GraknGraph getGraph(String keyspace, boolean batchLoading){
         return FactoryBuilder.getFactory(keyspace, Grakn.DEFAULT_URI, properties).getGraph(batchLoading);
     }
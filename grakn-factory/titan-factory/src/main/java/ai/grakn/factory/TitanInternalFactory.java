@@ -56,6 +56,9 @@ import java.util.Set;
 class TitanInternalFactory extends AbstractInternalFactory<GraknTitanGraph, TitanGraph> {
     private final static String DEFAULT_CONFIG = "backend-default";
 
+    //The schema only needs to be built once per keyspace unless the keyspace is cleared
+    private volatile boolean indicesBuilt = false;
+
     TitanInternalFactory(String keyspace, String engineUrl, Properties properties) {
         super(keyspace, engineUrl, properties);
     }
@@ -75,7 +78,7 @@ class TitanInternalFactory extends AbstractInternalFactory<GraknTitanGraph, Tita
 
     @Override
     GraknTitanGraph buildGraknGraphFromTinker(TitanGraph graph, boolean batchLoading) {
-        return new GraknTitanGraph(graph, super.keyspace, super.engineUrl, batchLoading);
+        return new GraknTitanGraph(graph, super.keyspace, super.engineUrl, batchLoading, () -> indicesBuilt = false);
     }
 
     @Override
@@ -83,9 +86,12 @@ class TitanInternalFactory extends AbstractInternalFactory<GraknTitanGraph, Tita
         return newTitanGraph(super.keyspace, super.engineUrl, super.properties, batchLoading);
     }
 
-    private synchronized TitanGraph newTitanGraph(String name, String address, Properties properties, boolean batchLoading){
+    private TitanGraph newTitanGraph(String name, String address, Properties properties, boolean batchLoading){
         TitanGraph titanGraph = configureGraph(name, address, properties, batchLoading);
-        buildTitanIndexes(titanGraph);
+        if(!indicesBuilt){ //Graphs are only built while holding the factory lock
+            buildTitanIndexes(titanGraph);
+            indicesBuilt = true;
+        }
         titanGraph.tx().onClose(Transaction.CLOSE_BEHAVIOR.ROLLBACK);
         return titanGraph;
     }
@@ -41,8 +41,19 @@ import org.apache.tinkerpop.gremlin.structure.Vertex;
  * @author fppt
  */
 public class GraknTitanGraph extends AbstractGraknGraph<TitanGraph> {
+    private final Runnable onClear;
+
     public GraknTitanGraph(TitanGraph graph, String name, String engineUrl, boolean batchLoading){
+        this(graph, name, engineUrl, batchLoading, () -> {});
+    }
+
+    /**
+     *
+     * @param onClear Executed after the graph has been cleared, so that any schema built on the keyspace can be rebuilt
+     */
+    public GraknTitanGraph(TitanGraph graph, String name, String engineUrl, boolean batchLoading, Runnable onClear){
         super(graph, name, engineUrl, batchLoading);
+        this.onClear = onClear;
     }
 
     /**
@@ -67,6 +78,7 @@ public class GraknTitanGraph extends AbstractGraknGraph<TitanGraph> {
         TitanGraph titanGraph = getTinkerPopGraph();
         titanGraph.close();
         TitanCleanup.clear(titanGraph);
+        onClear.run();
     }
 
     @Override
@@ -25,6 +25,7 @@ import org.apache.tinkerpop.gremlin.structure.Graph;
 
 import javax.annotation.CheckReturnValue;
 import java.util.Properties;
+import java.util.concurrent.atomic.LongAdder;
 
 import static javax.annotation.meta.When.MAYBE;
 
@@ -51,12 +52,15 @@ abstract class AbstractInternalFactory<M extends AbstractGraknGraph<G>, G extend
     protected final String engineUrl;
     protected final Properties properties;
 
-    protected M graknGraph = null;
-    private M batchLoadingGraknGraph = null;
+    protected volatile M graknGraph = null;
+    private volatile M batchLoadingGraknGraph = null;
 
     protected G graph = null;
     private G batchLoadingGraph = null;
 
+    private final LongAdder graphRequests = new LongAdder();
+    private final LongAdder graphWaitNanos = new LongAdder();
+
     private SystemKeyspace<M, G> systemKeyspace;
 
     AbstractInternalFactory(String keyspace, String engineUrl, Properties properties){
@@ -84,43 +88,121 @@ abstract class AbstractInternalFactory<M extends AbstractGraknGraph<G>, G extend
 
     abstract G buildTinkerPopGraph(boolean batchLoading);
 
+    /**
+     * Gets the graph of this keyspace and opens a transaction on it for the calling thread.
+     * The factory lock is only taken when the graph needs to be built or rebuilt. Otherwise only the inner graph is
+     * locked while the thread bound transaction is opened.
+     *
+     * @param batchLoading A flag which indicates if the graph has batch loading enabled or not.
+     * @return An instance of Grakn graph
+     */
     @Override
-    public synchronized M getGraph(boolean batchLoading){
-        if(batchLoading){
-            batchLoadingGraknGraph = getGraph(batchLoadingGraknGraph, true);
-            batchLoadingGraknGraph.openTransaction();
-            return batchLoadingGraknGraph;
-        } else {
-            graknGraph = getGraph(graknGraph, false);
-            graknGraph.openTransaction();
-            return graknGraph;
+    public M getGraph(boolean batchLoading){
+        long start = System.nanoTime();
+        try {
+            M graph = reuseGraph(batchLoading ? batchLoadingGraknGraph : graknGraph);
+            if(graph == null){
+                graph = buildGraph(batchLoading);
+            }
+            graph.openTransaction();
+            return graph;
+        } finally {
+            graphRequests.increment();
+            graphWaitNanos.add(System.nanoTime() - start);
         }
     }
-    protected M getGraph(M graknGraph, boolean batchLoading){
+
+    /**
+     *
+     * @param graknGraph A previously built graph, may be null
+     * @return The provided graph with a new transaction open, or null if the graph needs to be built again
+     */
+    private M reuseGraph(M graknGraph){
         if(graknGraph == null){
-            graknGraph = buildGraknGraphFromTinker(getTinkerPopGraph(batchLoading), batchLoading);
-            if (!SystemKeyspace.SYSTEM_GRAPH_NAME.equalsIgnoreCase(this.keyspace)) {
-                systemKeyspace.keyspaceOpened(this.keyspace);
-            }
-        } else {
-            if(graknGraph.isClosed()){
-                graknGraph.openTransaction();
-            }
+            return null;
+        }
+
+        if(graknGraph.isClosed()){
+            graknGraph.openTransaction();
+        }
 
-            //This check exists because the innerGraph could be closed while the grakn graph is still flagged as open.
-            G innerGraph = graknGraph.getTinkerPopGraph();
-            synchronized (innerGraph){
-                if(isClosed(innerGraph)){
-                    graknGraph = buildGraknGraphFromTinker(getTinkerPopGraph(batchLoading), batchLoading);
-                } else {
-                    getGraphWithNewTransaction(graknGraph.getTinkerPopGraph());
-                }
+        //This check exists because the innerGraph could be closed while the grakn graph is still flagged as open.
+        G innerGraph = graknGraph.getTinkerPopGraph();
+        synchronized (innerGraph){
+            if(isClosed(innerGraph)){
+                return null;
             }
+            getGraphWithNewTransaction(innerGraph);
         }
 
         return graknGraph;
     }
 
+    /**
+     *
+     * @param batchLoading A flag which indicates if the graph has batch loading enabled or not.
+     * @return A newly built graph, or the graph built by another thread while waiting for the factory lock
+     */
+    private synchronized M buildGraph(boolean batchLoading){
+        M existingGraph = batchLoading ? batchLoadingGraknGraph : graknGraph;
+
+        M graph = reuseGraph(existingGraph);
+        if(graph != null){
+            return graph;
+        }
+
+        graph = buildGraknGraphFromTinker(getTinkerPopGraph(batchLoading), batchLoading);
+        if (existingGraph == null && !SystemKeyspace.SYSTEM_GRAPH_NAME.equalsIgnoreCase(this.keyspace)) {
+            systemKeyspace.keyspaceOpened(this.keyspace);
+        }
+
+        if(batchLoading){
+            batchLoadingGraknGraph = graph;
+        } else {
+            graknGraph = graph;
+        }
+
+        return graph;
+    }
+
+    /**
+     *
+     * @return The keyspace of the graphs built by this factory
+     */
+    public String getKeyspace(){
+        return keyspace;
+    }
+
+    /**
+     *
+     * @return The number of times a graph has been requested from this factory
+     */
+    public long getGraphRequests(){
+        return graphRequests.sum();
+    }
+
+    /**
+     *
+     * @return The total time in nanoseconds threads have spent waiting to get a graph from this factory
+     */
+    public long getGraphWaitNanos(){
+        return graphWaitNanos.sum();
+    }
+
+    /**
+     *
+     * @param batchLoading A flag which indicates if the graph has batch loading enabled or not.
+     * @return The number of transactions currently open on the graph, or 0 if the graph has not been built
+     */
+    public int getActiveTransactions(boolean batchLoading){
+        M graph = batchLoading ? batchLoadingGraknGraph : graknGraph;
+        //The inner graph is checked because the grakn graph is only flagged as closed for the calling thread
+        if(graph == null || isClosed(graph.getTinkerPopGraph())){
+            return 0;
+        }
+        return graph.numOpenTx();
+    }
+
     @Override
     public synchronized G getTinkerPopGraph(boolean batchLoading){
         if(batchLoading){
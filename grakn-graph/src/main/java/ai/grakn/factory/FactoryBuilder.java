@@ -23,6 +23,7 @@ import ai.grakn.util.ErrorMessage;
 import org.apache.tinkerpop.shaded.minlog.Log;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.Collection;
 import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.Properties;
@@ -111,6 +112,14 @@ class FactoryBuilder {
         return internalFactory;
     }
 
+    /**
+     *
+     * @return Every factory which has been built and not yet cleared
+     */
+    static Collection<InternalFactory> getFactories(){
+        return openFactories.values();
+    }
+
     /**
      * Clears all connections.
      */
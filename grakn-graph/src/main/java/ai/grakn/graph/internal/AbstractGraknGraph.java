@@ -40,7 +40,10 @@ import ai.grakn.exception.InvalidConceptValueException;
 import ai.grakn.exception.MoreThanOneConceptException;
 import ai.grakn.factory.SystemKeyspace;
 import ai.grakn.graph.admin.ConceptCache;
+import ai.grakn.graph.admin.ConceptIndexLocks;
 import ai.grakn.graph.admin.GraknAdmin;
+import ai.grakn.graph.admin.GraphChangeListeners;
+import ai.grakn.graph.internal.computer.GraknSparkComputer;
 import ai.grakn.graql.QueryBuilder;
 import ai.grakn.graql.internal.query.QueryBuilderImpl;
 import ai.grakn.util.EngineCommunicator;
@@ -49,7 +52,10 @@ import ai.grakn.util.REST;
 import ai.grakn.util.Schema;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.verification.ReadOnlyStrategy;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
@@ -63,16 +69,22 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -95,6 +107,11 @@ import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.outE;
  * @param <G> A vendor specific implementation of a Tinkerpop {@link Graph}.
  */
 public abstract class AbstractGraknGraph<G extends Graph> implements GraknGraph, GraknAdmin {
+    //Commits with nothing to post process only tell engine to drop its caches, which is done in the background
+    private static final ExecutorService commitNotifier = Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setNameFormat("grakn-commit-notifier-%d").setDaemon(true).build());
+    private static final Set<String> pendingCommitNotifications = ConcurrentHashMap.newKeySet();
+
     protected final Logger LOG = LoggerFactory.getLogger(AbstractGraknGraph.class);
     private final String keyspace;
     private final String engine;
@@ -107,6 +124,8 @@ public abstract class AbstractGraknGraph<G extends Graph> implements GraknGraph,
     private final ThreadLocal<Boolean> localIsOpen = new ThreadLocal<>();
     private final ThreadLocal<String> localClosedReason = new ThreadLocal<>();
     private final ThreadLocal<Boolean> localCommitRequired = new ThreadLocal<>();
+    private final ThreadLocal<Boolean> localReadOnly = new ThreadLocal<>();
+    private final ThreadLocal<ConceptIndexLocks> localIndexLocks = new ThreadLocal<>();
     private final ThreadLocal<Map<TypeName, Type>> localCloneCache = new ThreadLocal<>();
 
     private Cache<TypeName, Type> cachedOntology = CacheBuilder.newBuilder()
@@ -184,6 +203,112 @@ public abstract class AbstractGraknGraph<G extends Graph> implements GraknGraph,
         localShowImplicitStructures.set(flag);
     }
 
+    @Override
+    public void enableReadOnly(){
+        ConceptLog conceptLog = localConceptLog.get();
+        if(conceptLog != null && conceptLog.hasChanges()){
+            throw new GraphRuntimeException(ErrorMessage.READ_ONLY_WITH_CHANGES.getMessage(getKeyspace()));
+        }
+        localReadOnly.set(true);
+
+        //Start again with a concept log which only keeps the most recently used concepts
+        releaseIndexLocks();
+        localConceptLog.remove();
+    }
+
+    @Override
+    public boolean isReadOnly(){
+        return getBooleanFromLocalThread(localReadOnly);
+    }
+
+    @Override
+    public boolean hasChanges(){
+        ConceptLog conceptLog = localConceptLog.get();
+        return conceptLog != null && conceptLog.hasChanges();
+    }
+
+    @Override
+    public boolean hasRuleChanges(){
+        ConceptLog conceptLog = localConceptLog.get();
+        return conceptLog != null && conceptLog.hasRuleChanges();
+    }
+
+    @Override
+    public void useIndexLocks(ConceptIndexLocks indexLocks){
+        localIndexLocks.set(indexLocks);
+    }
+
+    @Override
+    public void lockIndices(Map<ResourceType<?>, Set<Object>> resources, Map<RoleType, Set<Instance>> rolePlayers){
+        ConceptIndexLocks indexLocks = localIndexLocks.get();
+        if(indexLocks == null) return;
+
+        Set<String> indices = new HashSet<>();
+        resources.forEach((type, values) ->
+                values.forEach(value -> indices.add(ResourceImpl.generateResourceIndex(type, value.toString()))));
+        rolePlayers.forEach((role, instances) ->
+                instances.forEach(instance -> indices.add(castingLockIndex((RoleTypeImpl) role, (InstanceImpl) instance))));
+
+        indices.stream()
+                .sorted(Comparator.comparingInt(index -> indexLocks.getStripe(getKeyspace(), index)))
+                .forEach(this::lockIndex);
+    }
+
+    /**
+     *
+     * @return true if the transaction bound to the current thread locks the indices of the castings and resources it puts
+     */
+    boolean isUsingIndexLocks(){
+        return localIndexLocks.get() != null;
+    }
+
+    /**
+     * Castings of a resource are locked with the index of the resource, which is known before the resource exists, so
+     * the castings of every resource a batch refers to can be locked up front together with the resources.
+     *
+     * @param role The role of the casting
+     * @param rolePlayer The role player of the casting
+     * @return The index which is locked before the casting is looked up and possibly created
+     */
+    private static String castingLockIndex(RoleTypeImpl role, InstanceImpl rolePlayer){
+        if(rolePlayer.isResource()) return rolePlayer.getIndex();
+        return CastingImpl.generateNewHash(role, rolePlayer);
+    }
+
+    /**
+     * Locks the index of a casting or resource until the transaction is committed or closed, so no other transaction
+     * using the same locks can create a concept with the same index in the meantime.
+     *
+     * The transaction only waits for an index whose stripe comes after every stripe it holds, so transactions never
+     * wait on each other in a cycle. Every index a transaction needs should therefore be locked up front with
+     * {@link #lockIndices(Map, Map)}. An index which was not, and whose stripe comes before one already held, fails
+     * the transaction straight away.
+     *
+     * @param index The unique index of the casting or resource about to be looked up and possibly created
+     */
+    void lockIndex(String index){
+        ConceptIndexLocks indexLocks = localIndexLocks.get();
+        if(indexLocks == null || getConceptLog().isIndexLocked(index)) return;
+
+        int stripe = indexLocks.getStripe(getKeyspace(), index);
+        if(stripe < getConceptLog().getHighestLockedStripe()){
+            throw new GraphRuntimeException(ErrorMessage.INDEX_LOCK_OUT_OF_ORDER.getMessage(index, getKeyspace()));
+        }
+
+        if(!indexLocks.tryLock(getKeyspace(), index)){
+            throw new GraphRuntimeException(ErrorMessage.INDEX_LOCK_TIMEOUT.getMessage(index, getKeyspace()));
+        }
+        getConceptLog().trackLockedIndex(index, stripe);
+    }
+
+    private void releaseIndexLocks(){
+        ConceptIndexLocks indexLocks = localIndexLocks.get();
+        ConceptLog conceptLog = localConceptLog.get();
+        if(indexLocks != null && conceptLog != null){
+            conceptLog.getLockedIndices().forEach(index -> indexLocks.unlock(getKeyspace(), index));
+        }
+    }
+
     @Override
     public GraknAdmin admin(){
         return this;
@@ -297,7 +422,7 @@ public abstract class AbstractGraknGraph<G extends Graph> implements GraknGraph,
     ConceptLog getConceptLog() {
         ConceptLog conceptLog = localConceptLog.get();
         if(conceptLog == null){
-            localConceptLog.set(conceptLog = new ConceptLog(this));
+            localConceptLog.set(conceptLog = new ConceptLog(this, isReadOnly()));
             loadOntologyCacheIntoTransactionCache(conceptLog);
         }
         return conceptLog;
@@ -375,11 +500,22 @@ public abstract class AbstractGraknGraph<G extends Graph> implements GraknGraph,
         }
     }
 
+    /**
+     * Fails as soon as a read only transaction tries to change the graph, rather than when it is committed.
+     */
+    void checkMutationAllowed(){
+        if(isReadOnly()){
+            throw new GraphRuntimeException(ErrorMessage.READ_ONLY_MUTATION.getMessage(getKeyspace()));
+        }
+    }
+
     //----------------------------------------------Concept Functionality-----------------------------------------------
     //------------------------------------ Construction
     Vertex addVertex(Schema.BaseType baseType){
+        checkMutationAllowed();
         Vertex vertex = getTinkerPopGraph().addVertex(baseType.name());
         vertex.property(Schema.ConceptProperty.ID.name(), vertex.id().toString());
+        getConceptLog().trackCreatedConcept(ConceptId.of(vertex.id().toString()));
         return vertex;
     }
 
@@ -646,6 +782,10 @@ public abstract class AbstractGraknGraph<G extends Graph> implements GraknGraph,
     CastingImpl putCasting(RoleTypeImpl role, InstanceImpl rolePlayer, RelationImpl relation){
         CastingImpl foundCasting  = null;
         if(rolePlayer != null) {
+            //No other transaction can refer to a role player created by this one, unless it is a resource
+            if(rolePlayer.isResource() || !getConceptLog().isCreated(rolePlayer.getId())) {
+                lockIndex(castingLockIndex(role, rolePlayer));
+            }
             foundCasting = getCasting(role, rolePlayer);
         }
 
@@ -656,6 +796,7 @@ public abstract class AbstractGraknGraph<G extends Graph> implements GraknGraph,
         // Relation To Casting
         EdgeImpl relationToCasting = relation.putEdge(foundCasting, Schema.EdgeLabel.CASTING);
         relationToCasting.setProperty(Schema.EdgeProperty.ROLE_TYPE, role.getId().getValue());
+        relation.addCasting(foundCasting, role, rolePlayer);
         getConceptLog().trackConceptForValidation(relation); //The relation is explicitly tracked so we can look them up without committing
 
         putShortcutEdges(relation, relation.type(), foundCasting);
@@ -704,7 +845,7 @@ public abstract class AbstractGraknGraph<G extends Graph> implements GraknGraph,
         InstanceImpl fromRolePlayer = (InstanceImpl) from;
         InstanceImpl toRolePlayer = (InstanceImpl) to;
 
-        String hash = calculateShortcutHash(relation, relationType, fromRole, fromRolePlayer, toRole, toRolePlayer);
+        String hash = IndexHash.shortcut(relation, relationType, fromRole, fromRolePlayer, toRole, toRolePlayer);
         boolean exists = getTinkerPopGraph().traversal().V(fromRolePlayer.getId().getRawValue()).
                     local(outE(Schema.EdgeLabel.SHORTCUT.getLabel()).has(Schema.EdgeProperty.SHORTCUT_HASH.name(), hash)).
                     hasNext();
@@ -730,24 +871,6 @@ public abstract class AbstractGraknGraph<G extends Graph> implements GraknGraph,
         }
     }
 
-    private String calculateShortcutHash(Relation relation, RelationType relationType, RoleType fromRole, Instance fromRolePlayer, RoleType toRole, Instance toRolePlayer){
-        String hash = "";
-        String relationIdValue = relationType.getId().getValue();
-        String fromIdValue = fromRolePlayer.getId().getValue();
-        String fromRoleValue = fromRole.getId().getValue();
-        String toIdValue = toRolePlayer.getId().getValue();
-        String toRoleValue = toRole.getId().getValue();
-        String assertionIdValue = relation.getId().getValue();
-
-        if(relationIdValue != null) hash += relationIdValue;
-        if(fromIdValue != null) hash += fromIdValue;
-        if(fromRoleValue != null) hash += fromRoleValue;
-        if(toIdValue != null) hash += toIdValue;
-        if(toRoleValue != null) hash += toRoleValue;
-        hash += String.valueOf(assertionIdValue);
-
-        return hash;
-    }
 
     private RelationImpl getRelation(RelationType relationType, Map<RoleType, Instance> roleMap){
         String hash = generateNewHash(relationType, roleMap);
@@ -776,6 +899,8 @@ public abstract class AbstractGraknGraph<G extends Graph> implements GraknGraph,
 
     private void innerClear(){
         clearGraph();
+        GraknSparkComputer.invalidate(getKeyspace());
+        GraphChangeListeners.changed(getKeyspace(), true);
         closeGraph(ErrorMessage.CLOSED_CLEAR.getMessage());
     }
 
@@ -804,7 +929,9 @@ public abstract class AbstractGraknGraph<G extends Graph> implements GraknGraph,
         }
         localClosedReason.set(closedReason);
         localIsOpen.set(false);
+        localReadOnly.remove();
         clearLocalVariables();
+        localIndexLocks.remove();
     }
 
     /**
@@ -818,6 +945,7 @@ public abstract class AbstractGraknGraph<G extends Graph> implements GraknGraph,
      * Commits the graph
      * @throws GraknValidationException when the graph does not conform to the object concept
      */
+    @Override
     public void commit() throws GraknValidationException {
         commit(this::submitCommitLogs);
     }
@@ -850,10 +978,14 @@ public abstract class AbstractGraknGraph<G extends Graph> implements GraknGraph,
 
     private void clearLocalVariables(){
         getConceptLog().writeToCentralCache(false);
+        releaseIndexLocks();
         localConceptLog.remove();
     }
 
     public void commit(BiConsumer<Set<Pair<String, ConceptId>>, Set<Pair<String,ConceptId>>> conceptLogger) throws GraknValidationException {
+        if(isReadOnly()){
+            throw new GraphRuntimeException(ErrorMessage.READ_ONLY_COMMIT.getMessage(getKeyspace()));
+        }
         validateGraph();
 
         Set<Pair<String, ConceptId>> castings = getConceptLog().getModifiedCastings().stream().
@@ -863,15 +995,23 @@ public abstract class AbstractGraknGraph<G extends Graph> implements GraknGraph,
                 map(resource -> new Pair<>(resource.getIndex(), resource.getId())).collect(Collectors.toSet());
 
 
+        boolean changed = getConceptLog().hasChanges();
+        boolean rulesChanged = getConceptLog().hasRuleChanges();
+
         LOG.trace("Graph is valid. Committing graph . . . ");
         commitTransaction();
+        if(changed) {
+            GraknSparkComputer.invalidate(getKeyspace());
+            GraphChangeListeners.changed(getKeyspace(), rulesChanged);
+        }
 
         LOG.trace("Graph committed.");
         getConceptLog().writeToCentralCache(true);
         clearLocalVariables();
 
         //No post processing should ever be done for the system keyspace
-        if(!keyspace.equalsIgnoreCase(SystemKeyspace.SYSTEM_GRAPH_NAME) && (!castings.isEmpty() || !resources.isEmpty())) {
+        //Engine hears of every change, even without anything to post process, so it can drop its caches
+        if(!keyspace.equalsIgnoreCase(SystemKeyspace.SYSTEM_GRAPH_NAME) && changed) {
             conceptLogger.accept(castings, resources);
         }
     }
@@ -899,6 +1039,11 @@ public abstract class AbstractGraknGraph<G extends Graph> implements GraknGraph,
     }
 
     private void submitCommitLogs(Set<Pair<String, ConceptId>> castings, Set<Pair<String, ConceptId>> resources){
+        if(castings.isEmpty() && resources.isEmpty()){
+            notifyEngineOfCommit();
+            return;
+        }
+
         JSONArray jsonArray = new JSONArray();
 
         loadCommitLogConcepts(jsonArray, Schema.BaseType.CASTING, castings);
@@ -909,6 +1054,28 @@ public abstract class AbstractGraknGraph<G extends Graph> implements GraknGraph,
         LOG.debug("Response from engine [" + EngineCommunicator.contactEngine(getCommitLogEndPoint(), REST.HttpConn.POST_METHOD, postObject.toString()) + "]");
 
     }
+
+    /**
+     * Tells engine about a commit with nothing to post process without blocking the committing thread, so engine can
+     * drop what it has cached for the keyspace. Notifications which are still waiting to be sent are not repeated.
+     */
+    private void notifyEngineOfCommit(){
+        String endPoint = getCommitLogEndPoint();
+        if(Grakn.IN_MEMORY.equals(endPoint) || !pendingCommitNotifications.add(endPoint)) return;
+
+        commitNotifier.submit(() -> {
+            //Commits made while the notification is being sent need a notification of their own
+            pendingCommitNotifications.remove(endPoint);
+            try {
+                JSONObject postObject = new JSONObject();
+                postObject.put("concepts", new JSONArray());
+                EngineCommunicator.contactEngine(endPoint, REST.HttpConn.POST_METHOD, postObject.toString());
+            } catch (RuntimeException e){
+                LOG.warn("Could not tell engine about a commit to keyspace [" + keyspace + "]", e);
+            }
+        });
+    }
+
     private void loadCommitLogConcepts(JSONArray jsonArray, Schema.BaseType baseType, Set<Pair<String, ConceptId>> concepts){
         concepts.forEach(concept -> {
             JSONObject jsonObject = new JSONObject();
@@ -938,6 +1105,88 @@ public abstract class AbstractGraknGraph<G extends Graph> implements GraknGraph,
         }
     }
 
+    /**
+     * Rebuilds the indices of relations, castings and shortcut edges which were built by an older version of Grakn.
+     * Castings which were created while batch loading keep their indices, they are merged by post processing.
+     * Only the ids of the elements are read up front. The elements themselves are read and committed a batch of ids
+     * at a time, so the keyspace is never held in memory.
+     *
+     * @param batchSize The number of elements to read before committing
+     * @return the number of indices which were rebuilt
+     */
+    @Override
+    public long rebuildIndices(int batchSize){
+        long rebuilt = 0;
+
+        rebuilt += rebuildIndices(g -> g.V().hasLabel(Schema.BaseType.RELATION.name()), GraphTraversalSource::V, batchSize, vertex -> {
+            RelationImpl relation = getElementFactory().buildConcept(vertex);
+            String index = generateNewHash(relation.type(), relation.rolePlayers());
+            if(index.equals(relation.getIndex())) return false;
+
+            relation.setProperty(Schema.ConceptProperty.INDEX, index);
+            return true;
+        });
+
+        rebuilt += rebuildIndices(g -> g.V().hasLabel(Schema.BaseType.CASTING.name()), GraphTraversalSource::V, batchSize, vertex -> {
+            CastingImpl casting = getElementFactory().buildConcept(vertex);
+            String oldIndex = casting.getProperty(Schema.ConceptProperty.INDEX);
+            InstanceImpl rolePlayer = casting.getRolePlayer();
+            if(rolePlayer == null || (oldIndex != null && oldIndex.startsWith(CastingImpl.BATCH_INDEX_PREFIX))) {
+                return false;
+            }
+
+            String index = CastingImpl.generateNewHash((RoleTypeImpl) casting.getRole(), rolePlayer);
+            if(index.equals(oldIndex)) return false;
+
+            casting.setProperty(Schema.ConceptProperty.INDEX, index);
+            return true;
+        });
+
+        rebuilt += rebuildIndices(g -> g.E().hasLabel(Schema.EdgeLabel.SHORTCUT.getLabel()), GraphTraversalSource::E, batchSize, rawEdge -> {
+            EdgeImpl edge = getElementFactory().buildEdge(rawEdge, this);
+            Relation relation = getConcept(ConceptId.of(edge.getProperty(Schema.EdgeProperty.RELATION_ID)));
+            if(relation == null) return false;
+
+            String index = IndexHash.shortcut(relation, relation.type(),
+                    getRoleType(edge.getProperty(Schema.EdgeProperty.FROM_ROLE_NAME)), edge.getSource(),
+                    getRoleType(edge.getProperty(Schema.EdgeProperty.TO_ROLE_NAME)), edge.getTarget());
+            if(index.equals(edge.getProperty(Schema.EdgeProperty.SHORTCUT_HASH))) return false;
+
+            edge.setProperty(Schema.EdgeProperty.SHORTCUT_HASH, index);
+            return true;
+        });
+
+        return rebuilt;
+    }
+
+    /**
+     * Reads the ids of the elements once and rebuilds their indices a batch of ids at a time, committing after every
+     * batch. The commits are not logged, as rebuilding indices creates nothing to post process.
+     *
+     * @param elements The traversal of the elements whose indices are rebuilt
+     * @param elementsById Looks up the elements with the given ids
+     * @param batchSize The number of elements to rebuild before committing
+     * @param rebuild Rebuilds the index of an element, returning true if it changed
+     * @return the number of indices which were rebuilt
+     */
+    private <E extends Element> long rebuildIndices(Function<GraphTraversalSource, GraphTraversal<?, E>> elements,
+                                                    BiFunction<GraphTraversalSource, Object[], GraphTraversal<?, E>> elementsById,
+                                                    int batchSize, Predicate<E> rebuild){
+        List<Object> ids = elements.apply(getTinkerPopGraph().traversal()).id().toList();
+
+        long rebuilt = 0;
+        long read = 0;
+        for(List<Object> batch : Lists.partition(ids, batchSize)){
+            for(E element : elementsById.apply(getTinkerPopGraph().traversal(), batch.toArray()).toList()){
+                if(rebuild.test(element)) rebuilt++;
+            }
+            commitNoLogs();
+            read += batch.size();
+            LOG.debug("Rebuilt [" + rebuilt + "] indices of [" + read + "/" + ids.size() + "] elements");
+        }
+        return rebuilt;
+    }
+
     //------------------------------------------ Fixing Code for Postprocessing ----------------------------------------
     /**
      * Merges the provided duplicate castings.
@@ -1020,6 +1269,7 @@ public abstract class AbstractGraknGraph<G extends Graph> implements GraknGraph,
                     EdgeImpl assertionToCasting = addEdge(otherRelation, mainCasting, Schema.EdgeLabel.CASTING);
                     assertionToCasting.setProperty(Schema.EdgeProperty.ROLE_TYPE, role.getId().getValue());
                 }
+                otherRelation.clearCachedRolePlayers();
             }
 
             getConceptLog().removeConcept(otherCasting);
@@ -44,6 +44,8 @@ import java.util.stream.Collectors;
  * @author fppt
  */
 class CastingImpl extends InstanceImpl<CastingImpl, RoleType> {
+    //Castings created while batch loading are given a random index so that their duplicates can be merged later
+    static final String BATCH_INDEX_PREFIX = "CastingBaseId_";
 
     CastingImpl(AbstractGraknGraph graknGraph, Vertex v) {
         super(graknGraph, v);
@@ -87,8 +89,9 @@ class CastingImpl extends InstanceImpl<CastingImpl, RoleType> {
      */
     public CastingImpl setHash(RoleTypeImpl role, InstanceImpl rolePlayer){
         String hash;
-        if(getGraknGraph().isBatchLoadingEnabled()) {
-            hash = "CastingBaseId_" + this.getId().getValue() + UUID.randomUUID().toString();
+        //Castings put while their indices are locked cannot be duplicated, so they keep their real index
+        if(getGraknGraph().isBatchLoadingEnabled() && !getGraknGraph().isUsingIndexLocks()) {
+            hash = BATCH_INDEX_PREFIX + this.getId().getValue() + UUID.randomUUID().toString();
         } else {
             hash = generateNewHash(role, rolePlayer);
         }
@@ -103,7 +106,7 @@ class CastingImpl extends InstanceImpl<CastingImpl, RoleType> {
      * @return A unique hash for the casting.
      */
     public static String generateNewHash(RoleTypeImpl role, InstanceImpl rolePlayer){
-        return "Casting-Role-" + role.getId() + "-RolePlayer-" + rolePlayer.getId();
+        return IndexHash.casting(role, rolePlayer);
     }
 
     /**
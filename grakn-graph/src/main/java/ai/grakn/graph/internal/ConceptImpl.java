@@ -45,9 +45,15 @@ import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 
-import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Objects;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 
 /**
@@ -95,12 +101,14 @@ abstract class ConceptImpl<T extends Concept> implements Concept {
      */
     private T setProperty(String key, Object value){
         if(value == null) {
+            graknGraph.checkMutationAllowed();
             getVertex().property(key).remove();
         } else {
             VertexProperty<Object> foundProperty = getVertex().property(key);
             if(foundProperty.isPresent() && foundProperty.value().equals(value)){
                return getThis();
             } else {
+                graknGraph.checkMutationAllowed();
                 getVertex().property(key, value);
             }
         }
@@ -145,12 +153,13 @@ abstract class ConceptImpl<T extends Concept> implements Concept {
      * Deletes the node and adds it neighbours for validation
      */
     void deleteNode(){
+        graknGraph.checkMutationAllowed();
         // tracking
         getVertex().edges(Direction.BOTH).
                 forEachRemaining(
                         e -> {
-                            graknGraph.getConceptLog().trackConceptForValidation(getGraknGraph().getElementFactory().buildConcept(e.inVertex()));
-                            graknGraph.getConceptLog().trackConceptForValidation(getGraknGraph().getElementFactory().buildConcept(e.outVertex()));}
+                            graknGraph.getConceptLog().trackConceptForValidation(getGraknGraph().getElementFactory().buildConcept(TypeImpl.shardOwner(e.inVertex())));
+                            graknGraph.getConceptLog().trackConceptForValidation(getGraknGraph().getElementFactory().buildConcept(TypeImpl.shardOwner(e.outVertex())));}
                 );
         graknGraph.getConceptLog().removeConcept(this);
         // delete node
@@ -409,15 +418,7 @@ abstract class ConceptImpl<T extends Concept> implements Concept {
      * @return The neighbouring concepts found by traversing outgoing edges of a specific type
      */
     <X extends Concept> Set<X> getOutgoingNeighbours(Schema.EdgeLabel edgeType){
-        Set<X> outgoingNeighbours = new HashSet<>();
-
-        getEdgesOfType(Direction.OUT, edgeType).forEach(edge -> {
-            X found = edge.getTarget();
-            if(found != null) {
-                outgoingNeighbours.add(found);
-            }
-        });
-        return outgoingNeighbours;
+        return this.<X>streamOutgoingNeighbours(edgeType).collect(Collectors.toSet());
     }
 
     /**
@@ -426,14 +427,25 @@ abstract class ConceptImpl<T extends Concept> implements Concept {
      * @return The neighbouring concepts found by traversing incoming edges of a specific type
      */
     <X extends Concept> Set<X> getIncomingNeighbours(Schema.EdgeLabel edgeType){
-        Set<X> incomingNeighbours = new HashSet<>();
-        getEdgesOfType(Direction.IN, edgeType).forEach(edge -> {
-            X found = edge.getSource();
-            if(found != null){
-                incomingNeighbours.add(found);
-            }
-        });
-        return incomingNeighbours;
+        return this.<X>streamIncomingNeighbours(edgeType).collect(Collectors.toSet());
+    }
+
+    /**
+     *
+     * @param edgeType The edge label to traverse
+     * @return The neighbouring concepts found by lazily traversing outgoing edges of a specific type
+     */
+    <X extends Concept> Stream<X> streamOutgoingNeighbours(Schema.EdgeLabel edgeType){
+        return streamEdgesOfType(Direction.OUT, edgeType).map(EdgeImpl::<X>getTarget).filter(Objects::nonNull);
+    }
+
+    /**
+     *
+     * @param edgeType The edge label to traverse
+     * @return The neighbouring concepts found by lazily traversing incoming edges of a specific type
+     */
+    <X extends Concept> Stream<X> streamIncomingNeighbours(Schema.EdgeLabel edgeType){
+        return streamEdgesOfType(Direction.IN, edgeType).map(EdgeImpl::<X>getSource).filter(Objects::nonNull);
     }
 
     /**
@@ -498,10 +510,20 @@ abstract class ConceptImpl<T extends Concept> implements Concept {
      * @return A collection of edges from this concept in a particular direction of a specific type
      */
     Set<EdgeImpl> getEdgesOfType(Direction direction, Schema.EdgeLabel type){
-        Set<EdgeImpl> edges = new HashSet<>();
-        getVertex().edges(direction, type.getLabel()).
-                forEachRemaining(e -> edges.add(new EdgeImpl(e, getGraknGraph())));
-        return edges;
+        return streamEdgesOfType(direction, type).collect(Collectors.toSet());
+    }
+
+    /**
+     *
+     * @param direction The direction of the edges to retrieve
+     * @param type The type of the edges to retrieve
+     * @return A stream of the edges from this concept in a particular direction of a specific type, which are read
+     * from the vertex as the stream is consumed
+     */
+    Stream<EdgeImpl> streamEdgesOfType(Direction direction, Schema.EdgeLabel type){
+        Iterator<Edge> edges = getVertex().edges(direction, type.getLabel());
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(edges, Spliterator.NONNULL), false)
+                .map(edge -> new EdgeImpl(edge, getGraknGraph()));
     }
 
     /**
@@ -549,6 +571,7 @@ abstract class ConceptImpl<T extends Concept> implements Concept {
      * @return The edge created
      */
     EdgeImpl addEdge(ConceptImpl toConcept, Schema.EdgeLabel type) {
+        graknGraph.checkMutationAllowed();
         return getGraknGraph().getElementFactory().buildEdge(toConcept.addEdgeFrom(getVertex(), type.getLabel()), graknGraph);
     }
 
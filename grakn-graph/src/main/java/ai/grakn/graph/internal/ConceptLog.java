@@ -22,6 +22,9 @@ import ai.grakn.concept.Concept;
 import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.Type;
 import ai.grakn.concept.TypeName;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.Weigher;
 
 import java.util.HashMap;
 import java.util.HashSet;
@@ -44,10 +47,13 @@ import java.util.Set;
  *
  */
 class ConceptLog {
+    //The number of instances a read only transaction keeps for reuse. Types do not count towards it and are always kept.
+    static final long READ_ONLY_CACHE_SIZE = 10_000L;
+
     private final AbstractGraknGraph<?> graknGraph;
 
-    //Caches any concept which has been touched before
-    private final Map<ConceptId, ConceptImpl> conceptCache = new HashMap<>();
+    //Caches any concept which has been touched before, or only the most recently used ones in a read only transaction
+    private final Map<ConceptId, ConceptImpl> conceptCache;
     private final Map<TypeName, TypeImpl> typeCache = new HashMap<>();
 
     //We Track Modified Concepts For Validation
@@ -62,9 +68,33 @@ class ConceptLog {
     //We Track Relations so that we can look them up before they are completely defined and indexed on commit
     private final Map<String, RelationImpl> modifiedRelations = new HashMap<>();
 
+    //We Track If Anything Was Added Or Removed So That Caches Of The Keyspace Can Be Dropped On Commit
+    private boolean changed = false;
+
+    //We Track If Rules Were Added Or Removed So That Compiled Rules Of The Keyspace Can Be Dropped On Commit
+    private boolean rulesChanged = false;
+
+    //We Track The Indices Locked By This Transaction So They Can Be Released When It Ends
+    private final Set<String> lockedIndices = new HashSet<>();
+
+    //We Track The Highest Stripe Locked By This Transaction So It Only Waits For Stripes In Order
+    private int highestLockedStripe = -1;
 
-    ConceptLog(AbstractGraknGraph<?> graknGraph) {
+    //We Track The Concepts Created By This Transaction As No Other Transaction Can Refer To Them Before Commit
+    private final Set<ConceptId> createdConcepts = new HashSet<>();
+
+
+    ConceptLog(AbstractGraknGraph<?> graknGraph, boolean readOnly) {
         this.graknGraph = graknGraph;
+        if(readOnly){
+            Cache<ConceptId, ConceptImpl> boundedCache = CacheBuilder.newBuilder()
+                    .maximumWeight(READ_ONLY_CACHE_SIZE)
+                    .weigher((Weigher<ConceptId, ConceptImpl>) (id, concept) -> concept.isType() ? 0 : 1)
+                    .build();
+            conceptCache = boundedCache.asMap();
+        } else {
+            conceptCache = new HashMap<>();
+        }
     }
 
     /**
@@ -89,6 +119,8 @@ class ConceptLog {
     void trackConceptForValidation(ConceptImpl concept) {
         if (!modifiedConcepts.contains(concept)) {
             modifiedConcepts.add(concept);
+            markChanged();
+            if (concept.isRule()) markRulesChanged();
 
             if (concept.isCasting()) {
                 modifiedCastings.add(concept.asCasting());
@@ -143,6 +175,8 @@ class ConceptLog {
      */
     @SuppressWarnings("SuspiciousMethodCalls")
     void removeConcept(ConceptImpl concept){
+        markChanged();
+        if (concept.isRule()) markRulesChanged();
         modifiedConcepts.remove(concept);
         modifiedCastings.remove(concept);
         modifiedResources.remove(concept);
@@ -152,6 +186,88 @@ class ConceptLog {
         }
     }
 
+    /**
+     * Records that the transaction has changes, so caches of the keyspace are dropped on commit.
+     */
+    private void markChanged(){
+        changed = true;
+    }
+
+    /**
+     * Records that a rule has been added or removed, so the compiled rules of the keyspace are dropped on commit.
+     */
+    private void markRulesChanged(){
+        rulesChanged = true;
+    }
+
+    /**
+     *
+     * @return true if any rule has been added or removed within the transaction
+     */
+    boolean hasRuleChanges(){
+        return rulesChanged;
+    }
+
+    /**
+     *
+     * @return true if any concept has been added, modified or removed within the transaction
+     */
+    boolean hasChanges(){
+        return changed;
+    }
+
+    /**
+     *
+     * @param index The unique index of a casting or resource which has been locked by the transaction
+     * @param stripe The stripe the index has been locked with
+     */
+    void trackLockedIndex(String index, int stripe){
+        lockedIndices.add(index);
+        highestLockedStripe = Math.max(highestLockedStripe, stripe);
+    }
+
+    /**
+     *
+     * @return The highest stripe locked by the transaction, or -1 if it has not locked any
+     */
+    int getHighestLockedStripe(){
+        return highestLockedStripe;
+    }
+
+    /**
+     *
+     * @param id The id of a concept which has been created by the transaction
+     */
+    void trackCreatedConcept(ConceptId id){
+        createdConcepts.add(id);
+    }
+
+    /**
+     *
+     * @param id The id of a concept
+     * @return true if the concept has been created by the transaction
+     */
+    boolean isCreated(ConceptId id){
+        return createdConcepts.contains(id);
+    }
+
+    /**
+     *
+     * @param index The unique index of a casting or resource
+     * @return true if the index has already been locked by the transaction
+     */
+    boolean isIndexLocked(String index){
+        return lockedIndices.contains(index);
+    }
+
+    /**
+     *
+     * @return All the indices which have been locked by the transaction
+     */
+    Set<String> getLockedIndices(){
+        return lockedIndices;
+    }
+
     /**
      * Gets a cached relation by index. This way we can find non committed relations quickly.
      *
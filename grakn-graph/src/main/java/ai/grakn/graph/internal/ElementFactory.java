@@ -60,15 +60,15 @@ final class ElementFactory {
     private <X extends ConceptImpl> X getOrBuildConcept(Vertex v, Function<Vertex, X> conceptBuilder){
         ConceptId conceptId = ConceptId.of(v.id().toString());
 
-        if(!graknGraph.getConceptLog().isConceptCached(conceptId)){
-            X newConcept = conceptBuilder.apply(v);
-            graknGraph.getConceptLog().cacheConcept(newConcept);
-        }
-
+        //The concept is kept rather than read back as a read only transaction may evict it from its cache
         X concept = graknGraph.getConceptLog().getCachedConcept(conceptId);
+        if(concept == null){
+            concept = conceptBuilder.apply(v);
+            graknGraph.getConceptLog().cacheConcept(concept);
+        }
 
-        //Only track concepts which have been modified.
-        if(graknGraph.isConceptModified(concept)) {
+        //Only track concepts which have been modified. Nothing is tracked in read only transactions.
+        if(!graknGraph.isReadOnly() && graknGraph.isConceptModified(concept)) {
             graknGraph.getConceptLog().trackConceptForValidation(concept);
         }
 
@@ -146,51 +146,56 @@ final class ElementFactory {
             return null;
         }
 
+        //Shards are part of the structure of a type rather than concepts of their own
+        if(type == Schema.BaseType.SHARD) return null;
+
         ConceptId conceptId = ConceptId.of(v.id());
 
-        if(!graknGraph.getConceptLog().isConceptCached(conceptId)){
-            ConceptImpl concept;
-            switch (type) {
-                case RELATION:
-                    concept = new RelationImpl(graknGraph, v);
-                    break;
-                case CASTING:
-                    concept = new CastingImpl(graknGraph, v);
-                    break;
-                case TYPE:
-                    concept = new TypeImpl<>(graknGraph, v);
-                    break;
-                case ROLE_TYPE:
-                    concept = new RoleTypeImpl(graknGraph, v);
-                    break;
-                case RELATION_TYPE:
-                    concept = new RelationTypeImpl(graknGraph, v);
-                    break;
-                case ENTITY:
-                    concept = new EntityImpl(graknGraph, v);
-                    break;
-                case ENTITY_TYPE:
-                    concept = new EntityTypeImpl(graknGraph, v);
-                    break;
-                case RESOURCE_TYPE:
-                    concept = new ResourceTypeImpl<>(graknGraph, v);
-                    break;
-                case RESOURCE:
-                    concept = new ResourceImpl<>(graknGraph, v);
-                    break;
-                case RULE:
-                    concept = new RuleImpl(graknGraph, v);
-                    break;
-                case RULE_TYPE:
-                    concept = new RuleTypeImpl(graknGraph, v);
-                    break;
-                default:
-                    throw new RuntimeException("Unknown base type");
-            }
-            graknGraph.getConceptLog().cacheConcept(concept);
+        X cachedConcept = graknGraph.getConceptLog().getCachedConcept(conceptId);
+        if(cachedConcept != null) return cachedConcept;
+
+        ConceptImpl concept;
+        switch (type) {
+            case RELATION:
+                concept = new RelationImpl(graknGraph, v);
+                break;
+            case CASTING:
+                concept = new CastingImpl(graknGraph, v);
+                break;
+            case TYPE:
+                concept = new TypeImpl<>(graknGraph, v);
+                break;
+            case ROLE_TYPE:
+                concept = new RoleTypeImpl(graknGraph, v);
+                break;
+            case RELATION_TYPE:
+                concept = new RelationTypeImpl(graknGraph, v);
+                break;
+            case ENTITY:
+                concept = new EntityImpl(graknGraph, v);
+                break;
+            case ENTITY_TYPE:
+                concept = new EntityTypeImpl(graknGraph, v);
+                break;
+            case RESOURCE_TYPE:
+                concept = new ResourceTypeImpl<>(graknGraph, v);
+                break;
+            case RESOURCE:
+                concept = new ResourceImpl<>(graknGraph, v);
+                break;
+            case RULE:
+                concept = new RuleImpl(graknGraph, v);
+                break;
+            case RULE_TYPE:
+                concept = new RuleTypeImpl(graknGraph, v);
+                break;
+            default:
+                throw new RuntimeException("Unknown base type");
         }
+        graknGraph.getConceptLog().cacheConcept(concept);
 
-        return graknGraph.getConceptLog().getCachedConcept(conceptId);
+        //noinspection unchecked
+        return (X) concept;
     }
 
     EdgeImpl buildEdge(org.apache.tinkerpop.gremlin.structure.Edge edge, AbstractGraknGraph graknGraph){
@@ -0,0 +1,124 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graph.internal;
+
+import ai.grakn.concept.Concept;
+import ai.grakn.concept.Instance;
+import ai.grakn.concept.Relation;
+import ai.grakn.concept.RelationType;
+import ai.grakn.concept.RoleType;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.BaseEncoding;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ *     Builds the indices of relations, castings and shortcut edges.
+ * </p>
+ *
+ * <p>
+ *     Each index is a 128 bit hash of the ids making up the concept, prefixed with the kind of the concept so the
+ *     indices of different kinds never clash. The indices are always 23 characters long, no matter how many role
+ *     players a relation has or how long the ids are.
+ * </p>
+ *
+ * <p>
+ *     The role players of a relation are hashed one by one and summed, so the index does not depend on the order of
+ *     the role players and they do not need to be sorted.
+ * </p>
+ *
+ * @author agent
+ */
+final class IndexHash {
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+    private static final BaseEncoding ENCODING = BaseEncoding.base64Url().omitPadding();
+
+    private static final char RELATION = 'R';
+    private static final char CASTING = 'C';
+    private static final char SHORTCUT = 'S';
+
+    private IndexHash(){}
+
+    /**
+     *
+     * @param relationType The type of the relation
+     * @param roleMap The roles of the relation and their role players, which may be null
+     * @return The index of the relation
+     */
+    static String relation(RelationType relationType, Map<RoleType, Instance> roleMap){
+        List<HashCode> hashes = new ArrayList<>(roleMap.size());
+        roleMap.forEach((role, rolePlayer) -> hashes.add(put(put(newHasher(RELATION), role), rolePlayer).hash()));
+
+        Hasher hasher = put(newHasher(RELATION), relationType);
+        if(!hashes.isEmpty()) {
+            hasher.putBytes(Hashing.combineUnordered(hashes).asBytes());
+        }
+        return encode(RELATION, hasher);
+    }
+
+    /**
+     *
+     * @param role The role of the casting
+     * @param rolePlayer The role player of the casting
+     * @return The index of the casting
+     */
+    static String casting(RoleType role, Instance rolePlayer){
+        return encode(CASTING, put(put(newHasher(CASTING), role), rolePlayer));
+    }
+
+    /**
+     *
+     * @return The index of the shortcut edge from one role player of a relation to another
+     */
+    static String shortcut(Relation relation, RelationType relationType, RoleType fromRole, Instance fromRolePlayer,
+                           RoleType toRole, Instance toRolePlayer){
+        Hasher hasher = newHasher(SHORTCUT);
+        put(hasher, relationType);
+        put(hasher, fromRole);
+        put(hasher, fromRolePlayer);
+        put(hasher, toRole);
+        put(hasher, toRolePlayer);
+        put(hasher, relation);
+        return encode(SHORTCUT, hasher);
+    }
+
+    private static Hasher newHasher(char kind){
+        return HASH_FUNCTION.newHasher().putChar(kind);
+    }
+
+    //The length is hashed before each id so that the boundaries between ids are part of the hash
+    private static Hasher put(Hasher hasher, Concept concept){
+        if(concept == null || concept.getId() == null){
+            return hasher.putInt(-1);
+        }
+        String id = concept.getId().getValue();
+        return hasher.putInt(id.length()).putString(id, StandardCharsets.UTF_8);
+    }
+
+    private static String encode(char kind, Hasher hasher){
+        return kind + ENCODING.encode(hasher.hash().asBytes());
+    }
+}
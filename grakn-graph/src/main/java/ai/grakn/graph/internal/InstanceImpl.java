@@ -31,11 +31,13 @@ import ai.grakn.concept.TypeName;
 import ai.grakn.exception.ConceptException;
 import ai.grakn.util.ErrorMessage;
 import ai.grakn.util.Schema;
+import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -59,7 +61,11 @@ import java.util.stream.Collectors;
  */
 abstract class InstanceImpl<T extends Instance, V extends Type> extends ConceptImpl<T> implements Instance {
     private ComponentCache<TypeName> cachedInternalType = new ComponentCache<>(() -> TypeName.of(getProperty(Schema.ConceptProperty.TYPE)));
-    private ComponentCache<V> cachedType = new ComponentCache<>(() -> getOutgoingNeighbour(Schema.EdgeLabel.ISA));
+    private ComponentCache<V> cachedType = new ComponentCache<>(() -> {
+        Iterator<Vertex> isa = getVertex().vertices(Direction.OUT, Schema.EdgeLabel.ISA.getLabel());
+        if(!isa.hasNext()) return null;
+        return getGraknGraph().getElementFactory().buildConcept(TypeImpl.shardOwner(isa.next()));
+    });
 
     InstanceImpl(AbstractGraknGraph graknGraph, Vertex v) {
         super(graknGraph, v);
@@ -83,11 +89,13 @@ abstract class InstanceImpl<T extends Instance, V extends Type> extends ConceptI
             getGraknGraph().getConceptLog().trackConceptForValidation(casting);
 
             for(RelationImpl relation : relations) {
+                relation.clearCachedRolePlayers();
                 getGraknGraph().getConceptLog().trackConceptForValidation(relation);
                 relation.cleanUp();
             }
 
             casting.deleteNode();
+            relations.forEach(RelationImpl::clearCachedRolePlayers);
         }
     }
 
@@ -107,7 +115,7 @@ abstract class InstanceImpl<T extends Instance, V extends Type> extends ConceptI
         Set<ConceptId> resourceTypesIds = Arrays.stream(resourceTypes).map(Concept::getId).collect(Collectors.toSet());
 
         Set<Resource<?>> resources = new HashSet<>();
-        this.getOutgoingNeighbours(Schema.EdgeLabel.SHORTCUT).forEach(concept -> {
+        this.streamOutgoingNeighbours(Schema.EdgeLabel.SHORTCUT).forEach(concept -> {
             if(concept.isResource()) {
                 Resource<?> resource = concept.asResource();
                 if(resourceTypesIds.isEmpty() || resourceTypesIds.contains(resource.type().getId())) {
@@ -124,7 +132,7 @@ abstract class InstanceImpl<T extends Instance, V extends Type> extends ConceptI
      */
     public Set<CastingImpl> castings(){
         Set<CastingImpl> castings = new HashSet<>();
-        getIncomingNeighbours(Schema.EdgeLabel.ROLE_PLAYER).forEach(casting -> castings.add((CastingImpl) casting));
+        streamIncomingNeighbours(Schema.EdgeLabel.ROLE_PLAYER).forEach(casting -> castings.add((CastingImpl) casting));
         return castings;
     }
 
@@ -162,7 +170,7 @@ abstract class InstanceImpl<T extends Instance, V extends Type> extends ConceptI
     public Collection<RoleType> playsRoles() {
         Set<RoleType> roleTypes = new HashSet<>();
         ConceptImpl<?> parent = this;
-        parent.getIncomingNeighbours(Schema.EdgeLabel.ROLE_PLAYER).forEach(c -> roleTypes.add(((CastingImpl)c).getRole()));
+        parent.streamIncomingNeighbours(Schema.EdgeLabel.ROLE_PLAYER).forEach(c -> roleTypes.add(((CastingImpl)c).getRole()));
         return roleTypes;
     }
 
@@ -206,7 +214,7 @@ abstract class InstanceImpl<T extends Instance, V extends Type> extends ConceptI
     protected T type(V type) {
         if(type != null){
             setInternalType(type.getName());
-            putEdge(type, Schema.EdgeLabel.ISA);
+            ((TypeImpl<?, ?>) type).linkInstance(getVertex());
             cachedType.set(type);
         }
         return getThis();
@@ -36,8 +36,6 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
-import java.util.SortedSet;
-import java.util.TreeSet;
 
 /**
  * <p>
@@ -52,12 +50,26 @@ import java.util.TreeSet;
  *
  */
 class RelationImpl extends InstanceImpl<Relation, RelationType> implements Relation {
+    private ComponentCache<Set<CastingImpl>> cachedCastings = new ComponentCache<>(() -> {
+        Set<CastingImpl> castings = new HashSet<>();
+        streamOutgoingNeighbours(Schema.EdgeLabel.CASTING).forEach(casting -> castings.add(((CastingImpl) casting)));
+        return castings;
+    });
+    private ComponentCache<Map<RoleType, Instance>> cachedCastingRolePlayers = new ComponentCache<>(() -> {
+        Map<RoleType, Instance> roleMap = new HashMap<>();
+        getMappingCasting().forEach(casting -> roleMap.put(casting.getRole(), casting.getRolePlayer()));
+        return roleMap;
+    });
+
     RelationImpl(AbstractGraknGraph graknGraph, Vertex v) {
         super(graknGraph, v);
     }
 
     RelationImpl(AbstractGraknGraph graknGraph, Vertex v, RelationType type) {
         super(graknGraph, v, type);
+        //A brand new relation has no castings so there is no need to ever read them from the database
+        cachedCastings.set(new HashSet<>());
+        cachedCastingRolePlayers.set(new HashMap<>());
     }
 
     /**
@@ -65,9 +77,29 @@ class RelationImpl extends InstanceImpl<Relation, RelationType> implements Relat
      * @return All the castings this relation is connected with
      */
     public Set<CastingImpl> getMappingCasting() {
-        Set<CastingImpl> castings = new HashSet<>();
-        getOutgoingNeighbours(Schema.EdgeLabel.CASTING).forEach(casting -> castings.add(((CastingImpl) casting)));
-        return castings;
+        return new HashSet<>(cachedCastings.get());
+    }
+
+    /**
+     * Records a casting which has just been linked to this relation so that the role players do not need to be
+     * read from the database again within this transaction.
+     *
+     * @param casting The casting which has been linked to this relation
+     * @param roleType The role of the casting
+     * @param rolePlayer The role player of the casting
+     */
+    void addCasting(CastingImpl casting, RoleType roleType, Instance rolePlayer){
+        cachedCastings.ifPresent(castings -> castings.add(casting));
+        cachedCastingRolePlayers.ifPresent(roleMap -> roleMap.put(roleType, rolePlayer));
+    }
+
+    /**
+     * Clears the cached castings and role players of this relation.
+     * This must be called whenever castings or role players of this relation are removed or merged.
+     */
+    void clearCachedRolePlayers(){
+        cachedCastings.clear();
+        cachedCastingRolePlayers.clear();
     }
 
     /**
@@ -84,18 +116,7 @@ class RelationImpl extends InstanceImpl<Relation, RelationType> implements Relat
      * @return A unique hash identifying this relation
      */
     public static String generateNewHash(RelationType relationType, Map<RoleType, Instance> roleMap){
-        SortedSet<RoleType> sortedRoleIds = new TreeSet<>(roleMap.keySet());
-        StringBuilder hash = new StringBuilder();
-        hash.append("RelationType_").append(relationType.getId().getValue().replace("_", "\\_")).append("_Relation");
-
-        for(RoleType role: sortedRoleIds){
-            hash.append("_").append(role.getId().getValue().replace("_", "\\_"));
-            Instance instance = roleMap.get(role);
-            if(instance != null){
-                hash.append("_").append(instance.getId().getValue().replace("_", "\\_"));
-            }
-        }
-        return hash.toString();
+        return IndexHash.relation(relationType, roleMap);
     }
 
     /**
@@ -104,14 +125,13 @@ class RelationImpl extends InstanceImpl<Relation, RelationType> implements Relat
      */
     @Override
     public Map<RoleType, Instance> rolePlayers() {
-        Set<CastingImpl> castings = getMappingCasting();
         HashMap<RoleType, Instance> roleMap = new HashMap<>();
 
         //Gets roles based on all roles of the relation type
         type().hasRoles().forEach(roleType -> roleMap.put(roleType, null));
 
         //Get roles based on availiable castings
-        castings.forEach(casting -> roleMap.put(casting.getRole(), casting.getRolePlayer()));
+        roleMap.putAll(cachedCastingRolePlayers.get());
 
         return roleMap;
     }
@@ -123,7 +143,7 @@ class RelationImpl extends InstanceImpl<Relation, RelationType> implements Relat
     @Override
     public Set<Instance> scopes() {
         HashSet<Instance> scopes = new HashSet<>();
-        getOutgoingNeighbours(Schema.EdgeLabel.HAS_SCOPE).forEach(concept -> scopes.add(concept.asInstance()));
+        streamOutgoingNeighbours(Schema.EdgeLabel.HAS_SCOPE).forEach(concept -> scopes.add(concept.asInstance()));
         return scopes;
     }
 
@@ -197,6 +217,7 @@ class RelationImpl extends InstanceImpl<Relation, RelationType> implements Relat
      * When a relation is deleted this cleans up any solitary casting and resources.
      */
     public void cleanUp() {
+        clearCachedRolePlayers();
         boolean performDeletion = true;
         Collection<Instance> rolePlayers = rolePlayers().values();
 
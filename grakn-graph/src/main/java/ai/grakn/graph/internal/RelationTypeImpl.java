@@ -99,7 +99,7 @@ class RelationTypeImpl extends TypeImpl<RelationType, Relation> implements Relat
         ((RoleTypeImpl) roleType).addCachedRelationType(this);
 
         //Put all the instance back in for tracking because their unique hashes need to be regenerated
-        instances().forEach(instance -> getGraknGraph().getConceptLog().trackConceptForValidation((ConceptImpl) instance));
+        instancesStream().forEach(instance -> getGraknGraph().getConceptLog().trackConceptForValidation((ConceptImpl) instance));
 
         return this;
     }
@@ -131,7 +131,7 @@ class RelationTypeImpl extends TypeImpl<RelationType, Relation> implements Relat
         ((RoleTypeImpl) roleType).deleteCachedRelationType(this);
 
         //Put all the instance back in for tracking because their unique hashes need to be regenerated
-        instances().forEach(instance -> getGraknGraph().getConceptLog().trackConceptForValidation((ConceptImpl) instance));
+        instancesStream().forEach(instance -> getGraknGraph().getConceptLog().trackConceptForValidation((ConceptImpl) instance));
 
         return this;
     }
@@ -73,7 +73,7 @@ class ResourceImpl<D> extends InstanceImpl<Resource<D>, ResourceType<D>> impleme
     @Override
     public Collection<Instance> ownerInstances() {
         Set<Instance> owners = new HashSet<>();
-        this.getOutgoingNeighbours(Schema.EdgeLabel.SHORTCUT).forEach(concept -> {
+        this.streamOutgoingNeighbours(Schema.EdgeLabel.SHORTCUT).forEach(concept -> {
             if(!concept.isResource()){
                 owners.add(concept.asInstance());
             }
@@ -82,14 +82,13 @@ class ResourceTypeImpl<D> extends TypeImpl<ResourceType<D>, Resource<D>> impleme
 
         if(regex != null) {
             Pattern pattern = Pattern.compile(regex);
-            Matcher matcher;
-            for (Resource<D> resource : instances()) {
+            instancesStream().forEach(resource -> {
                 String value = (String) resource.getValue();
-                matcher = pattern.matcher(value);
+                Matcher matcher = pattern.matcher(value);
                 if(!matcher.matches()){
                     throw new InvalidConceptValueException(ErrorMessage.REGEX_INSTANCE_FAILURE.getMessage(regex, resource.getId(), value, getName()));
                 }
-            }
+            });
         }
 
         return setProperty(Schema.ConceptProperty.REGEX, regex);
@@ -98,6 +97,7 @@ class ResourceTypeImpl<D> extends TypeImpl<ResourceType<D>, Resource<D>> impleme
     @SuppressWarnings("unchecked")
     @Override
     public Resource<D> putResource(D value) {
+        getGraknGraph().lockIndex(ResourceImpl.generateResourceIndex(this, value.toString()));
         Resource<D> resource = getResource(value);
         if(resource == null){
             resource = addInstance(Schema.BaseType.RESOURCE, (vertex, type) ->
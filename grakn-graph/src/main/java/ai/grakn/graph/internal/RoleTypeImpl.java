@@ -32,6 +32,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * <p>
@@ -138,13 +139,35 @@ class RoleTypeImpl extends TypeImpl<RoleType, Instance> implements RoleType{
         return Collections.emptyList();
     }
 
+    /**
+     *
+     * @return An empty stream, as the castings of a role are not its instances.
+     */
+    @Override
+    public Stream<Instance> instancesStream(){
+        return Stream.empty();
+    }
+
+    @Override
+    public boolean hasInstances(){
+        return false;
+    }
+
+    @Override
+    public long instanceCount(){
+        return 0;
+    }
+
     /**
      *
      * @return The castings of this role
      */
     public Set<CastingImpl> castings(){
         Set<CastingImpl> castings = new HashSet<>();
-        getIncomingNeighbours(Schema.EdgeLabel.ISA).forEach(concept -> castings.add((CastingImpl) concept));
+        shards().forEach(shard -> shard.vertices(Direction.IN, Schema.EdgeLabel.ISA.getLabel()).forEachRemaining(vertex -> {
+            CastingImpl casting = getGraknGraph().getElementFactory().buildConcept(vertex);
+            if(casting != null) castings.add(casting);
+        }));
         return castings;
     }
 
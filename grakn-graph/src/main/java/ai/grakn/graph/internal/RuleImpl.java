@@ -108,7 +108,7 @@ class RuleImpl extends InstanceImpl<Rule, RuleType> implements Rule {
     @Override
     public Collection<Type> getHypothesisTypes() {
         Collection<Type> types = new HashSet<>();
-        getOutgoingNeighbours(Schema.EdgeLabel.HYPOTHESIS).forEach(concept -> types.add(concept.asType()));
+        streamOutgoingNeighbours(Schema.EdgeLabel.HYPOTHESIS).forEach(concept -> types.add(concept.asType()));
         return types;
     }
 
@@ -119,7 +119,7 @@ class RuleImpl extends InstanceImpl<Rule, RuleType> implements Rule {
     @Override
     public Collection<Type> getConclusionTypes() {
         Collection<Type> types = new HashSet<>();
-        getOutgoingNeighbours(Schema.EdgeLabel.CONCLUSION).forEach(concept -> types.add(concept.asType()));
+        streamOutgoingNeighbours(Schema.EdgeLabel.CONCLUSION).forEach(concept -> types.add(concept.asType()));
         return types;
     }
 }
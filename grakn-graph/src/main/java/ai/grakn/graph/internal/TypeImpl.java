@@ -40,11 +40,17 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * <p>
@@ -64,11 +70,15 @@ import java.util.stream.Collectors;
 class TypeImpl<T extends Type, V extends Instance> extends ConceptImpl<T> implements Type{
     protected final Logger LOG = LoggerFactory.getLogger(TypeImpl.class);
 
+    //The number of instances linked to the type vertex or to one of its shards before a new shard is allocated
+    static final long SHARDING_THRESHOLD = 10_000L;
+
     private TypeName cachedTypeName;
     private ComponentCache<Boolean> cachedIsImplicit = new ComponentCache<>(() -> getPropertyBoolean(Schema.ConceptProperty.IS_IMPLICIT));
     private ComponentCache<Boolean> cachedIsAbstract = new ComponentCache<>(() -> getPropertyBoolean(Schema.ConceptProperty.IS_ABSTRACT));
     private ComponentCache<T> cachedSuperType = new ComponentCache<>(() -> getOutgoingNeighbour(Schema.EdgeLabel.SUB));
     private ComponentCache<Set<T>> cachedDirectSubTypes = new ComponentCache<>(() -> getIncomingNeighbours(Schema.EdgeLabel.SUB));
+    private ComponentCache<Shard> cachedCurrentShard = new ComponentCache<>(this::currentShard);
 
     //This cache is different in order to keep track of which plays roles are required
     private ComponentCache<Map<RoleType, Boolean>> cachedDirectPlaysRoles = new ComponentCache<>(() -> {
@@ -133,6 +143,93 @@ class TypeImpl<T extends Type, V extends Instance> extends ConceptImpl<T> implem
         return producer.apply(instanceVertex, getThis());
     }
 
+    /**
+     * Links a new instance to the current shard of this type. A new shard is allocated whenever the current one has
+     * {@link #SHARDING_THRESHOLD} instances, so no single vertex collects the isa edges of every instance. Instances
+     * are never linked to the type vertex itself, so loading instances does not write to it.
+     *
+     * @param instance The vertex of the new instance
+     */
+    void linkInstance(Vertex instance){
+        Shard shard = cachedCurrentShard.get();
+        instance.addEdge(Schema.EdgeLabel.ISA.getLabel(), shard.vertex);
+
+        //The count is only used to decide when to rotate shards so concurrent loaders may lose increments
+        shard.count++;
+        shard.vertex.property(Schema.ConceptProperty.INSTANCE_COUNT.name(), shard.count);
+        if(shard.count >= SHARDING_THRESHOLD) cachedCurrentShard.set(createShard());
+    }
+
+    /**
+     * Looks up the current shard of this type, allocating the first one if the type has none yet. Keyspaces created
+     * before shards were introduced link their instances to the type vertex, which is kept as a read only shard.
+     *
+     * @return The shard which new instances of this type are linked to
+     */
+    private Shard currentShard(){
+        String shardId = getProperty(Schema.ConceptProperty.CURRENT_SHARD);
+        if(shardId != null){
+            Iterator<Vertex> shard = getGraknGraph().getTinkerTraversal().has(Schema.ConceptProperty.ID.name(), shardId);
+            if(shard.hasNext()) return new Shard(shard.next());
+        }
+        return createShard();
+    }
+
+    /**
+     * Allocates a new shard which new instances of this type are linked to from now on
+     *
+     * @return The new shard
+     */
+    private Shard createShard(){
+        Vertex shard = getGraknGraph().addVertex(Schema.BaseType.SHARD);
+        shard.addEdge(Schema.EdgeLabel.SHARD.getLabel(), getVertex());
+        setProperty(Schema.ConceptProperty.CURRENT_SHARD, shard.value(Schema.ConceptProperty.ID.name()));
+        return new Shard(shard);
+    }
+
+    /**
+     * A shard vertex together with the number of instances linked to it, which is read once per transaction
+     */
+    private static class Shard {
+        private final Vertex vertex;
+        private long count;
+
+        private Shard(Vertex vertex){
+            this.vertex = vertex;
+            this.count = vertex.<Long>property(Schema.ConceptProperty.INSTANCE_COUNT.name()).orElse(0L);
+        }
+    }
+
+    /**
+     * The vertices the direct instances of this type are linked to, which can be scanned independently of each other.
+     *
+     * @return The vertex of this type and the vertices of all of its shards
+     */
+    Set<Vertex> shards(){
+        Set<Vertex> shards = new HashSet<>();
+        shards.add(getVertex());
+        getVertex().vertices(Direction.IN, Schema.EdgeLabel.SHARD.getLabel()).forEachRemaining(shards::add);
+        return shards;
+    }
+
+    /**
+     *
+     * @return true if any instance or casting is linked to this type or to one of its shards
+     */
+    boolean hasDirectInstances(){
+        return shards().stream().anyMatch(shard -> shard.edges(Direction.IN, Schema.EdgeLabel.ISA.getLabel()).hasNext());
+    }
+
+    /**
+     *
+     * @param vertex The vertex an instance is linked to by its isa edge
+     * @return The vertex of the type which owns the vertex if it is a shard, otherwise the vertex itself
+     */
+    static Vertex shardOwner(Vertex vertex){
+        if(!Schema.BaseType.SHARD.name().equals(vertex.label())) return vertex;
+        return vertex.vertices(Direction.OUT, Schema.EdgeLabel.SHARD.getLabel()).next();
+    }
+
     /**
      *
      * @return A list of all the roles this Type is allowed to play.
@@ -191,7 +288,7 @@ class TypeImpl<T extends Type, V extends Instance> extends ConceptImpl<T> implem
     public void delete(){
         checkTypeMutation();
         boolean hasSubs = getVertex().edges(Direction.IN, Schema.EdgeLabel.SUB.getLabel()).hasNext();
-        boolean hasInstances = getVertex().edges(Direction.IN, Schema.EdgeLabel.ISA.getLabel()).hasNext();
+        boolean hasInstances = hasDirectInstances();
 
         if(hasSubs || hasInstances){
             throw new ConceptException(ErrorMessage.CANNOT_DELETE.getMessage(getName()));
@@ -200,6 +297,8 @@ class TypeImpl<T extends Type, V extends Instance> extends ConceptImpl<T> implem
             cachedSuperType.get();
             cachedDirectPlaysRoles.get();
 
+            //Empty shards are only part of this type
+            shards().stream().filter(shard -> !shard.equals(getVertex())).forEach(Vertex::remove);
             deleteNode();
 
             //Update neighbouring caches
@@ -298,25 +397,59 @@ class TypeImpl<T extends Type, V extends Instance> extends ConceptImpl<T> implem
      *
      * @return All the instances of this type.
      */
-    @SuppressWarnings("unchecked")
     @Override
     public Collection<V> instances() {
-        Set<V> instances = new HashSet<>();
+        return Collections.unmodifiableCollection(instancesStream().collect(Collectors.toSet()));
+    }
 
+    /**
+     *
+     * @return A stream of the instances of this type, which are only built as the stream is consumed.
+     */
+    @Override
+    public Stream<V> instancesStream() {
+        Spliterator<Vertex> vertices = Spliterators.spliteratorUnknownSize(instanceTraversal(), Spliterator.NONNULL);
+        return StreamSupport.stream(vertices, false)
+                .map(vertex -> getGraknGraph().getElementFactory().<V>buildConcept(vertex))
+                .filter(Objects::nonNull);
+    }
+
+    /**
+     *
+     * @return true if this type or any of its subtypes has at least one instance.
+     */
+    @Override
+    public boolean hasInstances() {
+        return instanceTraversal().hasNext();
+    }
+
+    /**
+     *
+     * @return The number of instances of this type, counted in the graph without building them.
+     */
+    @Override
+    public long instanceCount() {
+        return instanceTraversal().count().next();
+    }
+
+    /**
+     *
+     * @return A traversal of the vertices of the instances of this type and its subtypes, skipping castings
+     * and, unless they are visible, implicit types.
+     */
+    private GraphTraversal<Vertex, Vertex> instanceTraversal() {
         //noinspection unchecked
         GraphTraversal<Vertex, Vertex> traversal = getGraknGraph().getTinkerPopGraph().traversal().V()
                 .has(Schema.ConceptProperty.NAME.name(), getName().getValue())
                 .union(__.identity(), __.repeat(__.in(Schema.EdgeLabel.SUB.getLabel())).emit()).unfold()
-                .in(Schema.EdgeLabel.ISA.getLabel());
+                .union(__.in(Schema.EdgeLabel.ISA.getLabel()),
+                        __.in(Schema.EdgeLabel.SHARD.getLabel()).in(Schema.EdgeLabel.ISA.getLabel()))
+                .not(__.hasLabel(Schema.BaseType.CASTING.name()));
 
-        traversal.forEachRemaining(vertex -> {
-            ConceptImpl<Concept> concept = getGraknGraph().getElementFactory().buildConcept(vertex);
-            if(!concept.isCasting()){
-                instances.add((V) concept);
-            }
-        });
-
-        return Collections.unmodifiableCollection(filterImplicitStructures(instances));
+        if (!getGraknGraph().implicitConceptsVisible()) {
+            traversal = traversal.not(__.has(Schema.ConceptProperty.IS_IMPLICIT.name(), true));
+        }
+        return traversal;
     }
 
     /**
@@ -344,7 +477,7 @@ class TypeImpl<T extends Type, V extends Instance> extends ConceptImpl<T> implem
     @Override
     public Collection<Rule> getRulesOfHypothesis() {
         Set<Rule> rules = new HashSet<>();
-        getIncomingNeighbours(Schema.EdgeLabel.HYPOTHESIS).forEach(concept -> rules.add(concept.asRule()));
+        streamIncomingNeighbours(Schema.EdgeLabel.HYPOTHESIS).forEach(concept -> rules.add(concept.asRule()));
         return Collections.unmodifiableCollection(rules);
     }
 
@@ -355,7 +488,7 @@ class TypeImpl<T extends Type, V extends Instance> extends ConceptImpl<T> implem
     @Override
     public Collection<Rule> getRulesOfConclusion() {
         Set<Rule> rules = new HashSet<>();
-        getIncomingNeighbours(Schema.EdgeLabel.CONCLUSION).forEach(concept -> rules.add(concept.asRule()));
+        streamIncomingNeighbours(Schema.EdgeLabel.CONCLUSION).forEach(concept -> rules.add(concept.asRule()));
         return Collections.unmodifiableCollection(rules);
     }
 
@@ -393,7 +526,7 @@ class TypeImpl<T extends Type, V extends Instance> extends ConceptImpl<T> implem
             ((TypeImpl<T, V>) newSuperType).addCachedDirectSubType(getThis());
 
             //Track any existing data if there is some
-            instances().forEach(concept -> {
+            instancesStream().forEach(concept -> {
                 if (concept.isInstance()) {
                     ((InstanceImpl<?, ?>) concept).castings().forEach(
                             instance -> getGraknGraph().getConceptLog().trackConceptForValidation(instance));
@@ -470,7 +603,7 @@ class TypeImpl<T extends Type, V extends Instance> extends ConceptImpl<T> implem
         ((RoleTypeImpl) roleType).deleteCachedDirectPlaysByType(this);
 
         //Add castings to tracking to make sure they can still be played.
-        instances().forEach(concept -> {
+        instancesStream().forEach(concept -> {
             if (concept.isInstance()) {
                 ((InstanceImpl<?, ?>) concept).castings().forEach(casting -> getGraknGraph().getConceptLog().trackConceptForValidation(casting));
             }
@@ -64,9 +64,14 @@ import org.slf4j.Logger;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -75,15 +80,30 @@ import java.util.stream.Stream;
  * We change its behaviour so it can won't destroy the rdd after every job.
  * </p>
  *
+ * <p>
+ * The graph loaded for a keyspace is kept persisted and shared by the jobs on that keyspace until it is older than
+ * {@link #GRAPH_RDD_EXPIRY}, or until it is invalidated because the keyspace was committed to or cleared.
+ * </p>
+ *
  * @author Jason Liu
  * @author Marko A. Rodriguez
  */
 public final class GraknSparkComputer extends AbstractHadoopGraphComputer {
 
+    /**
+     * The number of milliseconds a loaded graph may be reused for, read from the computer configuration
+     */
+    public static final String GRAPH_RDD_EXPIRY = "grakn.spark.graphRDD.expiry";
+    private static final long DEFAULT_GRAPH_RDD_EXPIRY = 10 * 60 * 1000L;
+    private static final String INPUT_KEYSPACE = "cassandra.input.keyspace";
+
     private final org.apache.commons.configuration.Configuration sparkConfiguration;
     private boolean workersSet = false;
 
-    private static GraknGraphRDD graknGraphRDD = null;
+    private static final Map<String, GraknGraphRDD> graknGraphRDDs = new ConcurrentHashMap<>();
+    private static final AtomicLong graknGraphRDDVersion = new AtomicLong();
+
+    private GraknGraphRDD graknGraphRDD = null;
 
     private org.apache.commons.configuration.Configuration apacheConfiguration = null;
     private Configuration hadoopConfiguration = null;
@@ -134,115 +154,125 @@ public final class GraknSparkComputer extends AbstractHadoopGraphComputer {
 
     private Future<ComputerResult> submitWithExecutor(Executor exec) {
         getGraphRDD();
-        // create the completable future
+        // create the completable future, releasing the loaded graph once the job is done with it
         return CompletableFuture.supplyAsync(() -> {
-            final long startTime = System.currentTimeMillis();
-
-            GraknSparkMemory memory = null;
-            JavaPairRDD<Object, VertexWritable> computedGraphRDD = null;
-            JavaPairRDD<Object, ViewIncomingPayload<Object>> viewIncomingRDD = null;
-
-            ////////////////////////////////
-            // process the vertex program //
-            ////////////////////////////////
-            if (null != this.vertexProgram) {
-                // set up the vertex program and wire up configurations
-                this.mapReducers.addAll(this.vertexProgram.getMapReducers());
-                memory = new GraknSparkMemory(this.vertexProgram, this.mapReducers, graknGraphRDD.sparkContext);
-                this.vertexProgram.setup(memory);
-                memory.broadcastMemory(graknGraphRDD.sparkContext);
-                final HadoopConfiguration vertexProgramConfiguration = new HadoopConfiguration();
-                this.vertexProgram.storeState(vertexProgramConfiguration);
-                ConfigurationUtils.copy(vertexProgramConfiguration, apacheConfiguration);
-                ConfUtil.mergeApacheIntoHadoopConfiguration(vertexProgramConfiguration, hadoopConfiguration);
-                // execute the vertex program
-                while (true) {
-                    memory.setInTask(true);
-                    viewIncomingRDD = GraknSparkExecutor.executeVertexProgramIteration(
-                            graknGraphRDD.loadedGraphRDD, viewIncomingRDD, memory, vertexProgramConfiguration);
-                    memory.setInTask(false);
-                    if (this.vertexProgram.terminate(memory)) break;
-                    else {
-                        memory.incrIteration();
-                        memory.broadcastMemory(graknGraphRDD.sparkContext);
-                    }
+            try {
+                return runJob();
+            } finally {
+                graknGraphRDD.release();
+            }
+        }, exec);
+    }
+
+    private ComputerResult runJob() {
+        final long startTime = System.currentTimeMillis();
+
+        GraknSparkMemory memory = null;
+        JavaPairRDD<Object, VertexWritable> computedGraphRDD = null;
+        JavaPairRDD<Object, ViewIncomingPayload<Object>> viewIncomingRDD = null;
+
+        ////////////////////////////////
+        // process the vertex program //
+        ////////////////////////////////
+        if (null != this.vertexProgram) {
+            // set up the vertex program and wire up configurations
+            this.mapReducers.addAll(this.vertexProgram.getMapReducers());
+            memory = new GraknSparkMemory(this.vertexProgram, this.mapReducers, graknGraphRDD.sparkContext);
+            this.vertexProgram.setup(memory);
+            memory.broadcastMemory(graknGraphRDD.sparkContext);
+            final HadoopConfiguration vertexProgramConfiguration = new HadoopConfiguration();
+            this.vertexProgram.storeState(vertexProgramConfiguration);
+            ConfigurationUtils.copy(vertexProgramConfiguration, apacheConfiguration);
+            ConfUtil.mergeApacheIntoHadoopConfiguration(vertexProgramConfiguration, hadoopConfiguration);
+            // execute the vertex program
+            while (true) {
+                memory.setInTask(true);
+                viewIncomingRDD = GraknSparkExecutor.executeVertexProgramIteration(
+                        graknGraphRDD.loadedGraphRDD, viewIncomingRDD, memory, vertexProgramConfiguration);
+                memory.setInTask(false);
+                if (this.vertexProgram.terminate(memory)) break;
+                else {
+                    memory.incrIteration();
+                    memory.broadcastMemory(graknGraphRDD.sparkContext);
                 }
-                // write the computed graph to the respective output (rdd or output format)
-                final String[] elementComputeKeys = this.vertexProgram == null ? new String[0] :
-                        this.vertexProgram.getElementComputeKeys().toArray(
-                                new String[this.vertexProgram.getElementComputeKeys().size()]);
-                computedGraphRDD = GraknSparkExecutor.prepareFinalGraphRDD(
-                        graknGraphRDD.loadedGraphRDD, viewIncomingRDD, elementComputeKeys);
-                if ((hadoopConfiguration.get(Constants.GREMLIN_HADOOP_GRAPH_OUTPUT_FORMAT, null) != null ||
-                        hadoopConfiguration.get(Constants.GREMLIN_SPARK_GRAPH_OUTPUT_RDD, null) != null) &&
-                        !this.persist.equals(Persist.NOTHING)) {
-                    try {
-                        hadoopConfiguration
-                                .getClass(Constants.GREMLIN_SPARK_GRAPH_OUTPUT_RDD,
-                                        OutputFormatRDD.class, OutputRDD.class)
-                                .newInstance()
-                                .writeGraphRDD(apacheConfiguration, computedGraphRDD);
-                    } catch (final InstantiationException | IllegalAccessException e) {
-                        throw new IllegalStateException(e.getMessage(), e);
-                    }
+            }
+            // write the computed graph to the respective output (rdd or output format)
+            final String[] elementComputeKeys = this.vertexProgram == null ? new String[0] :
+                    this.vertexProgram.getElementComputeKeys().toArray(
+                            new String[this.vertexProgram.getElementComputeKeys().size()]);
+            computedGraphRDD = GraknSparkExecutor.prepareFinalGraphRDD(
+                    graknGraphRDD.loadedGraphRDD, viewIncomingRDD, elementComputeKeys);
+            if ((hadoopConfiguration.get(Constants.GREMLIN_HADOOP_GRAPH_OUTPUT_FORMAT, null) != null ||
+                    hadoopConfiguration.get(Constants.GREMLIN_SPARK_GRAPH_OUTPUT_RDD, null) != null) &&
+                    !this.persist.equals(Persist.NOTHING)) {
+                try {
+                    hadoopConfiguration
+                            .getClass(Constants.GREMLIN_SPARK_GRAPH_OUTPUT_RDD,
+                                    OutputFormatRDD.class, OutputRDD.class)
+                            .newInstance()
+                            .writeGraphRDD(apacheConfiguration, computedGraphRDD);
+                } catch (final InstantiationException | IllegalAccessException e) {
+                    throw new IllegalStateException(e.getMessage(), e);
                 }
             }
+        }
 
-            final boolean computedGraphCreated = computedGraphRDD != null;
-            if (!computedGraphCreated) {
-                computedGraphRDD = graknGraphRDD.loadedGraphRDD;
-            }
+        final boolean computedGraphCreated = computedGraphRDD != null;
+        if (!computedGraphCreated) {
+            computedGraphRDD = graknGraphRDD.loadedGraphRDD;
+        }
 
-            final Memory.Admin finalMemory = null == memory ? new MapMemory() : new MapMemory(memory);
-
-            //////////////////////////////
-            // process the map reducers //
-            //////////////////////////////
-            if (!this.mapReducers.isEmpty()) {
-                for (final MapReduce mapReduce : this.mapReducers) {
-                    // execute the map reduce job
-                    final HadoopConfiguration newApacheConfiguration = new HadoopConfiguration(apacheConfiguration);
-                    mapReduce.storeState(newApacheConfiguration);
-                    // map
-                    final JavaPairRDD mapRDD = GraknSparkExecutor
-                            .executeMap((JavaPairRDD) computedGraphRDD, mapReduce, newApacheConfiguration);
-                    // combine
-                    final JavaPairRDD combineRDD = mapReduce.doStage(MapReduce.Stage.COMBINE) ?
-                            GraknSparkExecutor.executeCombine(mapRDD, newApacheConfiguration) : mapRDD;
-                    // reduce
-                    final JavaPairRDD reduceRDD = mapReduce.doStage(MapReduce.Stage.REDUCE) ?
-                            GraknSparkExecutor.executeReduce(combineRDD, mapReduce, newApacheConfiguration) : combineRDD;
-                    // write the map reduce output back to disk and computer result memory
-                    try {
-                        mapReduce.addResultToMemory(finalMemory, hadoopConfiguration
-                                .getClass(Constants.GREMLIN_SPARK_GRAPH_OUTPUT_RDD,
-                                        OutputFormatRDD.class, OutputRDD.class)
-                                .newInstance()
-                                .writeMemoryRDD(apacheConfiguration, mapReduce.getMemoryKey(), reduceRDD));
-                    } catch (final InstantiationException | IllegalAccessException e) {
-                        throw new IllegalStateException(e.getMessage(), e);
-                    }
+        final Memory.Admin finalMemory = null == memory ? new MapMemory() : new MapMemory(memory);
+
+        //////////////////////////////
+        // process the map reducers //
+        //////////////////////////////
+        if (!this.mapReducers.isEmpty()) {
+            for (final MapReduce mapReduce : this.mapReducers) {
+                // execute the map reduce job
+                final HadoopConfiguration newApacheConfiguration = new HadoopConfiguration(apacheConfiguration);
+                mapReduce.storeState(newApacheConfiguration);
+                // map
+                final JavaPairRDD mapRDD = GraknSparkExecutor
+                        .executeMap((JavaPairRDD) computedGraphRDD, mapReduce, newApacheConfiguration);
+                // combine
+                final JavaPairRDD combineRDD = mapReduce.doStage(MapReduce.Stage.COMBINE) ?
+                        GraknSparkExecutor.executeCombine(mapRDD, newApacheConfiguration) : mapRDD;
+                // reduce
+                final JavaPairRDD reduceRDD = mapReduce.doStage(MapReduce.Stage.REDUCE) ?
+                        GraknSparkExecutor.executeReduce(combineRDD, mapReduce, newApacheConfiguration) : combineRDD;
+                // write the map reduce output back to disk and computer result memory
+                try {
+                    mapReduce.addResultToMemory(finalMemory, hadoopConfiguration
+                            .getClass(Constants.GREMLIN_SPARK_GRAPH_OUTPUT_RDD,
+                                    OutputFormatRDD.class, OutputRDD.class)
+                            .newInstance()
+                            .writeMemoryRDD(apacheConfiguration, mapReduce.getMemoryKey(), reduceRDD));
+                } catch (final InstantiationException | IllegalAccessException e) {
+                    throw new IllegalStateException(e.getMessage(), e);
                 }
             }
+        }
 
-            // unpersist the computed graph if it will not be used again (no PersistedOutputRDD)
-            if (!graknGraphRDD.outputToSpark || this.persist.equals(GraphComputer.Persist.NOTHING)) {
-                computedGraphRDD.unpersist();
+        // unpersist the computed graph if it will not be used again (no PersistedOutputRDD)
+        // the loaded graph itself is kept for the next job on this keyspace
+        if (computedGraphCreated &&
+                (!graknGraphRDD.outputToSpark || this.persist.equals(GraphComputer.Persist.NOTHING))) {
+            computedGraphRDD.unpersist();
+        }
+        // delete any file system or rdd data if persist nothing
+        if (null != graknGraphRDD.outputLocation && this.persist.equals(GraphComputer.Persist.NOTHING)) {
+            if (graknGraphRDD.outputToHDFS) {
+                graknGraphRDD.fileSystemStorage.rm(graknGraphRDD.outputLocation);
             }
-            // delete any file system or rdd data if persist nothing
-            if (null != graknGraphRDD.outputLocation && this.persist.equals(GraphComputer.Persist.NOTHING)) {
-                if (graknGraphRDD.outputToHDFS) {
-                    graknGraphRDD.fileSystemStorage.rm(graknGraphRDD.outputLocation);
-                }
-                if (graknGraphRDD.outputToSpark) {
-                    graknGraphRDD.sparkContextStorage.rm(graknGraphRDD.outputLocation);
-                }
+            if (graknGraphRDD.outputToSpark) {
+                graknGraphRDD.sparkContextStorage.rm(graknGraphRDD.outputLocation);
             }
-            // update runtime and return the newly computed graph
-            finalMemory.setRuntime(System.currentTimeMillis() - startTime);
-            return new DefaultComputerResult(InputOutputHelper.getOutputGraph(
-                    apacheConfiguration, this.resultGraph, this.persist), finalMemory.asImmutable());
-        }, exec);
+        }
+        // update runtime and return the newly computed graph
+        finalMemory.setRuntime(System.currentTimeMillis() - startTime);
+        return new DefaultComputerResult(InputOutputHelper.getOutputGraph(
+                apacheConfiguration, this.resultGraph, this.persist), finalMemory.asImmutable());
     }
 
     /////////////////
@@ -311,20 +341,99 @@ public final class GraknSparkComputer extends AbstractHadoopGraphComputer {
                 .submit().get();
     }
 
-    private synchronized void getGraphRDD() {
-        if (graknGraphRDD == null) {
-            logger.debug("Creating a new Grakn Graph RDD");
-            graknGraphRDD = new GraknGraphRDD(this);
+    private void getGraphRDD() {
+        String keyspace = hadoopConfiguration.get(INPUT_KEYSPACE, "").toLowerCase();
+        long expiry = hadoopConfiguration.getLong(GRAPH_RDD_EXPIRY, DEFAULT_GRAPH_RDD_EXPIRY);
+
+        synchronized (GraknSparkComputer.class) {
+            GraknGraphRDD cached = graknGraphRDDs.get(keyspace);
+            if (cached != null && System.currentTimeMillis() - cached.loadedAt <= expiry) {
+                logger.debug("Reusing version " + cached.version + " of the Grakn Graph RDD of " + keyspace);
+                graknGraphRDD = cached;
+                graknGraphRDD.acquire();
+                return;
+            }
+
+            if (cached != null) cached.invalidate();
+            logger.debug("Creating a new Grakn Graph RDD of " + keyspace);
+            graknGraphRDD = new GraknGraphRDD(this, keyspace);
+            graknGraphRDD.acquire();
+            graknGraphRDDs.put(keyspace, graknGraphRDD);
+        }
+    }
+
+    /**
+     * Drop the loaded graph of a keyspace, so that the next job on it reads the keyspace again. Jobs which are still
+     * running on the dropped graph keep using it, and it is only unpersisted once the last of them is done.
+     *
+     * @param keyspace the keyspace which has changed
+     * @return true if a loaded graph was dropped
+     */
+    public static boolean invalidate(String keyspace) {
+        synchronized (GraknSparkComputer.class) {
+            GraknGraphRDD removed = graknGraphRDDs.remove(keyspace.toLowerCase());
+            if (removed == null) return false;
+            removed.invalidate();
+            return true;
         }
     }
 
+    /**
+     * @return a description of the loaded graph of every keyspace
+     */
+    public static Set<Snapshot> getSnapshots() {
+        return graknGraphRDDs.values().stream()
+                .map(rdd -> new Snapshot(rdd.keyspace, rdd.version, rdd.loadedAt))
+                .collect(Collectors.toSet());
+    }
+
     public static void clear() {
-        graknGraphRDD = null;
+        graknGraphRDDs.keySet().forEach(GraknSparkComputer::invalidate);
         Spark.close();
     }
 
+    /**
+     * A description of the graph loaded for a keyspace
+     */
+    public static final class Snapshot {
+        private final String keyspace;
+        private final long version;
+        private final long loadedAt;
+
+        private Snapshot(String keyspace, long version, long loadedAt) {
+            this.keyspace = keyspace;
+            this.version = version;
+            this.loadedAt = loadedAt;
+        }
+
+        /**
+         * @return the keyspace the graph was loaded from
+         */
+        public String getKeyspace() {
+            return keyspace;
+        }
+
+        /**
+         * @return a number which is larger for every graph loaded
+         */
+        public long getVersion() {
+            return version;
+        }
+
+        /**
+         * @return the time in milliseconds since the epoch when the graph was loaded
+         */
+        public long getLoadedAt() {
+            return loadedAt;
+        }
+    }
+
     private static class GraknGraphRDD {
 
+        private final String keyspace;
+        private final long version = graknGraphRDDVersion.incrementAndGet();
+        private final long loadedAt = System.currentTimeMillis();
+
         private Storage fileSystemStorage;
         private Storage sparkContextStorage;
 
@@ -340,7 +449,12 @@ public final class GraknSparkComputer extends AbstractHadoopGraphComputer {
 
         private boolean inputFromSpark;
 
-        private GraknGraphRDD(GraknSparkComputer graknSparkComputer) {
+        // the number of jobs using the loaded graph, which is unpersisted when it is invalidated and no job uses it
+        private int jobs = 0;
+        private boolean invalidated = false;
+
+        private GraknGraphRDD(GraknSparkComputer graknSparkComputer, String keyspace) {
+            this.keyspace = keyspace;
 
             fileSystemStorage = FileSystemStorage.open(graknSparkComputer.hadoopConfiguration);
             sparkContextStorage = SparkContextStorage.open(graknSparkComputer.apacheConfiguration);
@@ -410,5 +524,19 @@ public final class GraknSparkComputer extends AbstractHadoopGraphComputer {
                 throw new IllegalStateException(e.getMessage(), e);
             }
         }
+
+        private synchronized void acquire() {
+            jobs++;
+        }
+
+        private synchronized void release() {
+            jobs--;
+            if (invalidated && jobs == 0) loadedGraphRDD.unpersist(false);
+        }
+
+        private synchronized void invalidate() {
+            invalidated = true;
+            if (jobs == 0) loadedGraphRDD.unpersist(false);
+        }
     }
 }
@@ -30,6 +30,13 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import static ai.grakn.util.ErrorMessage.NULL_VALUE;
 import static junit.framework.TestCase.assertFalse;
 import static junit.framework.TestCase.assertTrue;
@@ -91,6 +98,27 @@ public class GraknTinkerGraphFactoryTest {
         assertEquals(mg1.getTinkerPopGraph(), mg2.getTinkerPopGraph());
     }
 
+    @Test
+    public void testGraphSharedAcrossThreads() throws ExecutionException, InterruptedException {
+        TinkerInternalFactory factory = new TinkerInternalFactory("concurrent", Grakn.IN_MEMORY, null);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+
+        Set<Future<GraknGraph>> futures = new HashSet<>();
+        for(int i = 0; i < 20; i ++){
+            futures.add(pool.submit(() -> factory.getGraph(false)));
+        }
+
+        Set<GraknGraph> graphs = new HashSet<>();
+        for (Future<GraknGraph> future : futures) {
+            graphs.add(future.get());
+        }
+        pool.shutdown();
+
+        assertEquals(1, graphs.size());
+        assertEquals(20, factory.getGraphRequests());
+        assertTrue(factory.getGraphWaitNanos() > 0);
+    }
+
     @Test
     public void testGetTinkerPopGraph(){
         Graph mg1 = tinkerGraphFactory.getTinkerPopGraph(false);
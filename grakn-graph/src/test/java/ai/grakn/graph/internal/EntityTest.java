@@ -98,15 +98,15 @@ public class EntityTest extends GraphTestBase{
                 putRolePlayer(role2, rolePlayer2).
                 putRolePlayer(role3, rolePlayer3);
 
-        assertEquals(20, graknGraph.getTinkerPopGraph().traversal().V().toList().size());
-        assertEquals(34, graknGraph.getTinkerPopGraph().traversal().E().toList().size());
+        assertEquals(25, graknGraph.getTinkerPopGraph().traversal().V().toList().size());
+        assertEquals(39, graknGraph.getTinkerPopGraph().traversal().E().toList().size());
 
         ConceptId idOfDeleted = rolePlayer1.getId();
         rolePlayer1.delete();
 
         assertNull(graknGraph.getConcept(idOfDeleted));
-        assertEquals(18, graknGraph.getTinkerPopGraph().traversal().V().toList().size());
-        assertEquals(26, graknGraph.getTinkerPopGraph().traversal().E().toList().size());
+        assertEquals(23, graknGraph.getTinkerPopGraph().traversal().V().toList().size());
+        assertEquals(31, graknGraph.getTinkerPopGraph().traversal().E().toList().size());
     }
 
     @Test
@@ -127,16 +127,16 @@ public class EntityTest extends GraphTestBase{
                 putRolePlayer(role3, null);
 
         long value = graknGraph.getTinkerPopGraph().traversal().V().count().next();
-        assertEquals(16, value);
+        assertEquals(19, value);
         value = graknGraph.getTinkerPopGraph().traversal().E().count().next();
-        assertEquals(20, value);
+        assertEquals(23, value);
 
         ConceptId idOfDeleted = rolePlayer1.getId();
         rolePlayer1.delete();
 
         assertNull(graknGraph.getConcept(idOfDeleted));
-        assertEquals(13, graknGraph.getTinkerPopGraph().traversal().V().toList().size());
-        assertEquals(15, graknGraph.getTinkerPopGraph().traversal().E().toList().size());
+        assertEquals(16, graknGraph.getTinkerPopGraph().traversal().V().toList().size());
+        assertEquals(18, graknGraph.getTinkerPopGraph().traversal().E().toList().size());
     }
 
     @Test
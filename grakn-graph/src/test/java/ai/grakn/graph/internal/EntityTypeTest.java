@@ -33,6 +33,8 @@ import ai.grakn.exception.ConceptException;
 import ai.grakn.graql.Pattern;
 import ai.grakn.util.ErrorMessage;
 import ai.grakn.util.Schema;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -329,6 +331,52 @@ public class EntityTypeTest extends GraphTestBase{
         assertTrue(data.contains(musicVideo));
     }
 
+    @Test
+    public void testStreamInstances(){
+        EntityType production = graknGraph.putEntityType("Production");
+        EntityType movie = graknGraph.putEntityType("Movie").superType(production);
+        EntityType series = graknGraph.putEntityType("Series").superType(production);
+        Entity musicVideo = production.addEntity();
+        Entity godfather = movie.addEntity();
+
+        assertEquals(new HashSet<>(production.instances()), production.instancesStream().collect(toSet()));
+        assertThat(production.instancesStream().collect(toSet()), containsInAnyOrder(musicVideo, godfather));
+
+        assertTrue(production.hasInstances());
+        assertTrue(movie.hasInstances());
+        assertFalse(series.hasInstances());
+
+        assertEquals(2, production.instanceCount());
+        assertEquals(1, movie.instanceCount());
+        assertEquals(0, series.instanceCount());
+    }
+
+    @Test
+    public void testInstancesOfShardedType(){
+        EntityType movie = graknGraph.putEntityType("Movie");
+        for (long i = 0; i <= TypeImpl.SHARDING_THRESHOLD; i++) {
+            movie.addEntity();
+        }
+        Entity sequel = movie.addEntity();
+
+        //The type vertex is kept as a shard of older keyspaces but new instances are never linked to it
+        Vertex typeVertex = ((TypeImpl<?, ?>) movie).getVertex();
+        assertEquals(3, ((TypeImpl<?, ?>) movie).shards().size());
+        assertFalse(typeVertex.edges(Direction.IN, Schema.EdgeLabel.ISA.getLabel()).hasNext());
+        assertFalse(typeVertex.property(Schema.ConceptProperty.INSTANCE_COUNT.name()).isPresent());
+        Vertex shard = ((EntityImpl) sequel).getVertex().vertices(Direction.OUT, Schema.EdgeLabel.ISA.getLabel()).next();
+        assertEquals(Schema.BaseType.SHARD.name(), shard.label());
+        assertEquals(typeVertex, TypeImpl.shardOwner(shard));
+
+        assertEquals(movie, sequel.type());
+        assertTrue(movie.instances().contains(sequel));
+        assertEquals(TypeImpl.SHARDING_THRESHOLD + 2, movie.instanceCount());
+
+        expectedException.expect(ConceptException.class);
+        expectedException.expectMessage(CANNOT_DELETE.getMessage(movie.getName()));
+        movie.delete();
+    }
+
     @Test
     public void testCircularSub(){
         EntityType entityType = graknGraph.putEntityType("Entity");
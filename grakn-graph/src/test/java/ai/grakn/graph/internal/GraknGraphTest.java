@@ -15,19 +15,27 @@ import ai.grakn.concept.Type;
 import ai.grakn.concept.TypeName;
 import ai.grakn.exception.GraknValidationException;
 import ai.grakn.exception.GraphRuntimeException;
+import ai.grakn.graph.admin.ConceptIndexLocks;
 import ai.grakn.util.ErrorMessage;
 import ai.grakn.util.Schema;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.verification.VerificationException;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 import static ai.grakn.graql.Graql.var;
 import static org.hamcrest.Matchers.containsInAnyOrder;
@@ -72,6 +80,135 @@ public class GraknGraphTest extends GraphTestBase {
         graknGraph.getTinkerTraversal().drop().iterate();
     }
 
+    @Test
+    public void testReadOnlyTransaction() throws GraknValidationException {
+        EntityType entityType = graknGraph.putEntityType("VALUE");
+        Entity entity = entityType.addEntity();
+        graknGraph.commit();
+
+        graknGraph.enableReadOnly();
+        assertTrue(graknGraph.isReadOnly());
+        assertEquals(entity, graknGraph.getConcept(entity.getId()));
+        assertEquals(entityType, graknGraph.getEntityType("VALUE"));
+
+        expectedException.expect(GraphRuntimeException.class);
+        expectedException.expectMessage(ErrorMessage.READ_ONLY_COMMIT.getMessage(graknGraph.getKeyspace()));
+        graknGraph.commit();
+    }
+
+    @Test
+    public void testReadOnlyTransactionFailsOnFirstChange() throws GraknValidationException {
+        EntityType entityType = graknGraph.putEntityType("VALUE");
+        graknGraph.commit();
+
+        graknGraph.enableReadOnly();
+        entityType = graknGraph.getEntityType("VALUE");
+
+        expectedException.expect(GraphRuntimeException.class);
+        expectedException.expectMessage(ErrorMessage.READ_ONLY_MUTATION.getMessage(graknGraph.getKeyspace()));
+        entityType.addEntity();
+    }
+
+    @Test
+    public void testReadOnlyTransactionWithChanges(){
+        graknGraph.putEntityType("VALUE");
+
+        expectedException.expect(GraphRuntimeException.class);
+        expectedException.expectMessage(ErrorMessage.READ_ONLY_WITH_CHANGES.getMessage(graknGraph.getKeyspace()));
+        graknGraph.enableReadOnly();
+    }
+
+    @Test
+    public void testIndexLocksAreHeldUntilCommit() throws GraknValidationException {
+        Set<String> locked = new HashSet<>();
+        graknGraph.admin().useIndexLocks(new ConceptIndexLocks() {
+            @Override
+            public int getStripe(String keyspace, String index) {
+                return 0;
+            }
+
+            @Override
+            public boolean tryLock(String keyspace, String index) {
+                return locked.add(index);
+            }
+
+            @Override
+            public boolean tryLockWithoutWaiting(String keyspace, String index) {
+                return locked.add(index);
+            }
+
+            @Override
+            public void unlock(String keyspace, String index) {
+                locked.remove(index);
+            }
+        });
+
+        ResourceType<String> resourceType = graknGraph.putResourceType("Resource Type", ResourceType.DataType.STRING);
+        resourceType.putResource("a");
+        resourceType.putResource("a");
+        assertEquals(Collections.singleton(ResourceImpl.generateResourceIndex(resourceType, "a")), locked);
+
+        graknGraph.admin().commitNoLogs();
+        assertTrue(locked.isEmpty());
+    }
+
+    @Test
+    public void testIndicesLockedUpFrontAreLockedInStripeOrder() {
+        ResourceType<String> resourceType = graknGraph.putResourceType("Resource Type", ResourceType.DataType.STRING);
+        List<String> locked = new ArrayList<>();
+        graknGraph.admin().useIndexLocks(stripeByHashCodeLocks(locked));
+
+        Set<Object> values = new HashSet<>(Arrays.asList("c", "a", "b"));
+        graknGraph.admin().lockIndices(Collections.singletonMap(resourceType, values), Collections.emptyMap());
+
+        List<String> expected = values.stream()
+                .map(value -> ResourceImpl.generateResourceIndex(resourceType, value.toString()))
+                .sorted(Comparator.comparingInt(String::hashCode))
+                .collect(Collectors.toList());
+        assertEquals(expected, locked);
+
+        //Indices locked up front are not locked again when their concepts are put
+        resourceType.putResource("a");
+        assertEquals(expected, locked);
+    }
+
+    @Test
+    public void testIndexNotLockedUpFrontBeforeHighestStripeHeldFails() {
+        List<String> locked = new ArrayList<>();
+        graknGraph.admin().useIndexLocks(stripeByHashCodeLocks(locked));
+
+        graknGraph.lockIndex("a");
+        graknGraph.lockIndex("c");
+
+        expectedException.expect(GraphRuntimeException.class);
+        expectedException.expectMessage(ErrorMessage.INDEX_LOCK_OUT_OF_ORDER.getMessage("b", graknGraph.getKeyspace()));
+
+        graknGraph.lockIndex("b");
+    }
+
+    private static ConceptIndexLocks stripeByHashCodeLocks(List<String> locked) {
+        return new ConceptIndexLocks() {
+            @Override
+            public int getStripe(String keyspace, String index) {
+                return index.hashCode();
+            }
+
+            @Override
+            public boolean tryLock(String keyspace, String index) {
+                return locked.add(index);
+            }
+
+            @Override
+            public boolean tryLockWithoutWaiting(String keyspace, String index) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void unlock(String keyspace, String index) {
+            }
+        };
+    }
+
     @Test
     public void testAddCastingWithDuplicates() {
         //Artificially Make First Casting
@@ -107,6 +244,35 @@ public class GraknGraphTest extends GraphTestBase {
         relation.addEdge(casting, Schema.EdgeLabel.CASTING);// Assertion to Casting
     }
 
+    @Test
+    public void testRebuildIndicesOfOldKeyspace() throws GraknValidationException {
+        RoleType husband = graknGraph.putRoleType("husband");
+        RoleType wife = graknGraph.putRoleType("wife");
+        RelationType marriage = graknGraph.putRelationType("marriage").hasRole(husband).hasRole(wife);
+        EntityType person = graknGraph.putEntityType("person").playsRole(husband).playsRole(wife);
+        RelationImpl relation = (RelationImpl) marriage.addRelation().
+                putRolePlayer(husband, person.addEntity()).putRolePlayer(wife, person.addEntity());
+        graknGraph.commit();
+
+        //Replace the indices with ones built by an older version
+        String relationIndex = relation.getIndex();
+        relation.setProperty(Schema.ConceptProperty.INDEX, "RelationType_" + marriage.getId() + "_Relation");
+        relation.getMappingCasting().forEach(casting ->
+                casting.setProperty(Schema.ConceptProperty.INDEX, "Casting-Role-" + casting.getRole().getId()));
+        graknGraph.getTinkerPopGraph().traversal().E().hasLabel(Schema.EdgeLabel.SHORTCUT.getLabel()).
+                forEachRemaining(edge -> edge.property(Schema.EdgeProperty.SHORTCUT_HASH.name(), "old"));
+
+        assertEquals(5, graknGraph.rebuildIndices(2));
+        assertEquals(relationIndex, relation.getIndex());
+        relation.getMappingCasting().forEach(casting -> assertEquals(
+                CastingImpl.generateNewHash((RoleTypeImpl) casting.getRole(), casting.getRolePlayer()),
+                casting.getIndex()));
+        graknGraph.getTinkerPopGraph().traversal().E().hasLabel(Schema.EdgeLabel.SHORTCUT.getLabel()).
+                forEachRemaining(edge -> assertEquals(23, edge.<String>value(Schema.EdgeProperty.SHORTCUT_HASH.name()).length()));
+
+        assertEquals(0, graknGraph.rebuildIndices(2));
+    }
+
     @Test
     public void testGetResourcesByValue(){
         assertEquals(0, graknGraph.getResourcesByValue("Bob").size());
@@ -40,6 +40,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -310,16 +311,13 @@ public class RelationTest extends GraphTestBase{
 
         graknGraph.commit();
         relation = (RelationImpl) graknGraph.getRelationType("relation type").instances().iterator().next();
-        assertEquals(getFakeId(relation.type(), roleMap), relation.getIndex());
-    }
-    private String getFakeId(RelationType relationType, TreeMap<RoleType, Instance> roleMap){
-        String itemIdentifier = "RelationType_" + relationType.getId() + "_Relation";
-        for(Map.Entry<RoleType, Instance> entry: roleMap.entrySet()){
-            itemIdentifier = itemIdentifier + "_" + entry.getKey().getId();
-            if(entry.getValue() != null)
-                itemIdentifier = itemIdentifier + "_" + entry.getValue().getId();
-        }
-        return itemIdentifier;
+        assertEquals(RelationImpl.generateNewHash(relation.type(), roleMap), relation.getIndex());
+        assertEquals(23, relation.getIndex().length());
+
+        //The index does not depend on the order of the role players
+        Map<RoleType, Instance> reversedRoleMap = new TreeMap<>(Collections.reverseOrder());
+        reversedRoleMap.putAll(roleMap);
+        assertEquals(relation.getIndex(), RelationImpl.generateNewHash(relation.type(), reversedRoleMap));
     }
 
     @Test
@@ -440,6 +438,30 @@ public class RelationTest extends GraphTestBase{
         assertTrue(relation.rolePlayers().values().contains(godfather));
     }
 
+    @Test
+    public void testCachedRolePlayersMatchDatabase(){
+        Map<RoleType, Instance> cachedRolePlayers = relation.rolePlayers();
+        Set<CastingImpl> cachedCastings = relation.getMappingCasting();
+
+        relation.clearCachedRolePlayers();
+
+        assertEquals(cachedRolePlayers, relation.rolePlayers());
+        assertEquals(cachedCastings, relation.getMappingCasting());
+        assertEquals(2, cachedCastings.size());
+    }
+
+    @Test
+    public void testCachedRolePlayersUpdatedOnRolePlayerDeletion(){
+        relation.putRolePlayer(role3, type.addEntity());
+        assertEquals(3, relation.getMappingCasting().size());
+
+        rolePlayer1.delete();
+
+        assertNull(relation.rolePlayers().get(role1));
+        assertEquals(rolePlayer2, relation.rolePlayers().get(role2));
+        assertEquals(2, relation.getMappingCasting().size());
+    }
+
     @Test
     public void testAddRelationshipWithNullRole(){
         expectedException.expect(RuntimeException.class);
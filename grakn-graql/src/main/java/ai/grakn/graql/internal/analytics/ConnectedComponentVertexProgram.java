@@ -23,12 +23,13 @@ import ai.grakn.util.ErrorMessage;
 import ai.grakn.util.Schema;
 import com.google.common.collect.Sets;
 import org.apache.tinkerpop.gremlin.process.computer.Memory;
+import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
 import org.apache.tinkerpop.gremlin.process.computer.Messenger;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
-import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -54,6 +55,9 @@ public class ConnectedComponentVertexProgram extends GraknVertexProgram<String>
 
     private static final String MESSAGE_FROM_ROLE_PLAYER = "R";
     private static final String MESSAGE_FROM_ASSERTION = "A";
+    private static final String MESSAGE_FROM_BOTH = "RA";
+
+    private static final MessageCombiner<String> MAX_COMBINER = ConnectedComponentVertexProgram::combine;
 
     public ConnectedComponentVertexProgram() {
     }
@@ -72,6 +76,11 @@ public class ConnectedComponentVertexProgram extends GraknVertexProgram<String>
         return MEMORY_COMPUTE_KEYS;
     }
 
+    @Override
+    public Optional<MessageCombiner<String>> getMessageCombiner() {
+        return Optional.of(MAX_COMBINER);
+    }
+
     @Override
     public void setup(final Memory memory) {
         LOGGER.debug("ConnectedComponentVertexProgram Started !!!!!!!!");
@@ -97,16 +106,13 @@ public class ConnectedComponentVertexProgram extends GraknVertexProgram<String>
                 break;
             case 1:
                 if (vertex.label().equals(Schema.BaseType.CASTING.name())) {
-                    Set<String> messageSet = new HashSet<>();
-                    boolean hasBothMessages = false;
+                    String markers = null;
                     Iterator<String> iterator = messenger.receiveMessages();
                     while (iterator.hasNext()) {
-                        messageSet.add(iterator.next());
-                        if (messageSet.size() == 2) {
-                            hasBothMessages = true;
-                            break;
-                        }
+                        String message = iterator.next();
+                        markers = markers == null ? message : combine(markers, message);
                     }
+                    boolean hasBothMessages = MESSAGE_FROM_BOTH.equals(markers);
                     // casting is active if both its assertion and role-player is in the subgraph
                     vertex.property(IS_ACTIVE_CASTING, hasBothMessages);
                     if (hasBothMessages) {
@@ -135,7 +141,7 @@ public class ConnectedComponentVertexProgram extends GraknVertexProgram<String>
     private void update(Vertex vertex, Messenger<String> messenger, Memory memory) {
         String currentMax = vertex.value(CLUSTER_LABEL);
         String max = IteratorUtils.reduce(messenger.receiveMessages(), currentMax,
-                (a, b) -> a.compareTo(b) > 0 ? a : b);
+                ConnectedComponentVertexProgram::combine);
         if (max.compareTo(currentMax) > 0) {
             vertex.property(CLUSTER_LABEL, max);
             messenger.sendMessage(messageScopeIn, max);
@@ -144,6 +150,23 @@ public class ConnectedComponentVertexProgram extends GraknVertexProgram<String>
         }
     }
 
+    /**
+     * Combines two messages. In the first iteration the messages are markers which are merged so that a casting knows
+     * it heard from both its role-player and its assertion. Afterwards the messages are cluster labels and the
+     * largest label is kept.
+     */
+    private static String combine(String a, String b) {
+        if (isMarker(a) && isMarker(b)) {
+            return a.equals(b) ? a : MESSAGE_FROM_BOTH;
+        }
+        return a.compareTo(b) > 0 ? a : b;
+    }
+
+    private static boolean isMarker(String message) {
+        return MESSAGE_FROM_ROLE_PLAYER.equals(message) || MESSAGE_FROM_ASSERTION.equals(message) ||
+                MESSAGE_FROM_BOTH.equals(message);
+    }
+
     @Override
     public boolean terminate(final Memory memory) {
         LOGGER.debug("Finished Iteration " + memory.getIteration());
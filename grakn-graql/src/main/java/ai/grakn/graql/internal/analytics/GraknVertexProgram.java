@@ -24,6 +24,7 @@ import com.google.common.collect.Sets;
 import org.apache.commons.configuration.Configuration;
 import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
 import org.apache.tinkerpop.gremlin.process.computer.Memory;
+import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
 import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
 import org.apache.tinkerpop.gremlin.process.computer.Messenger;
 import org.apache.tinkerpop.gremlin.process.computer.VertexProgram;
@@ -33,7 +34,6 @@ import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Iterator;
 import java.util.Set;
 
 /**
@@ -69,6 +69,13 @@ public abstract class GraknVertexProgram<T> extends CommonOLAP implements Vertex
     static final Set<MessageScope> messageScopeSetCasting =
             Sets.newHashSet(messageScopeInCasting, messageScopeOutRolePlayer);
 
+    // a message from a role-player is kept apart from the number of assertions when messages are summed
+    static final long MESSAGE_FROM_ROLE_PLAYER = 1L << 32;
+    static final long MESSAGE_FROM_ASSERTION = 1L;
+
+    // only valid for programs where messages are summed or checked for presence
+    static final MessageCombiner<Long> SUM_COMBINER = (a, b) -> a + b;
+
     @Override
     public Set<MessageScope> getMessageScopes(final Memory memory) {
         return messageScopeSet;
@@ -128,31 +135,25 @@ public abstract class GraknVertexProgram<T> extends CommonOLAP implements Vertex
     void degreeStepInstance(Vertex vertex, Messenger<Long> messenger) {
         String type = vertex.label();
         if (type.equals(Schema.BaseType.ENTITY.name()) || type.equals(Schema.BaseType.RESOURCE.name())) {
-            // each role-player sends 1 to castings following incoming edges
-            messenger.sendMessage(messageScopeInRolePlayer, 1L);
+            // each role-player sends a role-player message to castings following incoming edges
+            messenger.sendMessage(messageScopeInRolePlayer, MESSAGE_FROM_ROLE_PLAYER);
         } else if (type.equals(Schema.BaseType.RELATION.name())) {
-            // the assertion can also be role-player, so sending 1 to castings following incoming edges
-            messenger.sendMessage(messageScopeInRolePlayer, 1L);
-            // send -1 to castings following outgoing edges
-            messenger.sendMessage(messageScopeOutCasting, -1L);
+            // the assertion can also be role-player, so sending a role-player message following incoming edges
+            messenger.sendMessage(messageScopeInRolePlayer, MESSAGE_FROM_ROLE_PLAYER);
+            // send an assertion message to castings following outgoing edges
+            messenger.sendMessage(messageScopeOutCasting, MESSAGE_FROM_ASSERTION);
         }
     }
 
     void degreeStepCasting(Messenger<Long> messenger) {
-        boolean hasRolePlayer = false;
-        long assertionCount = 0;
-        Iterator<Long> iterator = messenger.receiveMessages();
-        while (iterator.hasNext()) {
-            long message = iterator.next();
-            // count number of assertions connected
-            if (message < 0) assertionCount++;
-            else hasRolePlayer = true;
-        }
+        // the messages may already have been summed by the combiner
+        long messageSum = getMessageCount(messenger);
 
         // make sure this role-player is in the subgraph
-        if (hasRolePlayer) {
+        if (messageSum >= MESSAGE_FROM_ROLE_PLAYER) {
             messenger.sendMessage(messageScopeInCasting, 1L);
-            messenger.sendMessage(messageScopeOutRolePlayer, assertionCount);
+            // count number of assertions connected
+            messenger.sendMessage(messageScopeOutRolePlayer, messageSum % MESSAGE_FROM_ROLE_PLAYER);
         }
     }
 
@@ -0,0 +1,235 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.analytics;
+
+import ai.grakn.GraknGraph;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.Instance;
+import ai.grakn.concept.Relation;
+import ai.grakn.concept.Type;
+import ai.grakn.concept.TypeName;
+import ai.grakn.util.Schema;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * <p>
+ *     A compact, read-only adjacency view of the instances of a set of types.
+ * </p>
+ *
+ * <p>
+ *     Every instance of the selected types is given a dense index. Castings are not represented: each casting between
+ *     a selected relation and a selected role-player becomes a pair of edges, one in each direction, stored in
+ *     compressed sparse row form. A role-player taking part in the same relation twice has two edges to it, so the
+ *     number of edges of an instance is the same as the degree computed by {@link DegreeVertexProgram}.
+ * </p>
+ *
+ * <p>
+ *     The largest id of the castings of each relation is kept, so clusters can be labelled the same way as by
+ *     {@link ConnectedComponentVertexProgram}, which labels castings too.
+ * </p>
+ *
+ * @author agent
+ */
+public class InstanceGraphProjection {
+
+    private static final String CASTING = "casting";
+    private static final String ROLE_PLAYER = "rolePlayer";
+
+    private final Set<TypeName> selectedTypes;
+    private final ConceptId[] ids;
+    private final TypeName[] types;
+    private final Map<ConceptId, Integer> indices;
+    private final int[] offsets;
+    private final int[] neighbours;
+    private final ConceptId[] largestCastingIds;
+
+    private InstanceGraphProjection(Set<TypeName> selectedTypes, ConceptId[] ids, TypeName[] types,
+                                    Map<ConceptId, Integer> indices, int[] offsets, int[] neighbours,
+                                    ConceptId[] largestCastingIds) {
+        this.selectedTypes = selectedTypes;
+        this.ids = ids;
+        this.types = types;
+        this.indices = indices;
+        this.offsets = offsets;
+        this.neighbours = neighbours;
+        this.largestCastingIds = largestCastingIds;
+    }
+
+    /**
+     * Build the projection of the given types by reading the graph in the current transaction.
+     *
+     * @param graph the graph to read
+     * @param selectedTypes the types of the instances to include, which must already contain all of their subtypes
+     * @param maxInstances the largest number of instances the projection may hold
+     * @return the projection, or empty if there are more instances than the budget allows
+     */
+    public static Optional<InstanceGraphProjection> build(GraknGraph graph, Set<TypeName> selectedTypes,
+                                                          int maxInstances) {
+        List<ConceptId> ids = new ArrayList<>();
+        List<TypeName> types = new ArrayList<>();
+        Map<ConceptId, Integer> indices = new HashMap<>();
+        List<Relation> relations = new ArrayList<>();
+
+        for (TypeName typeName : selectedTypes) {
+            Type type = graph.getType(typeName);
+            if (type == null) continue;
+
+            // instances are read lazily, so a projection over the budget is abandoned before loading them all
+            Iterator<? extends Instance> instances = type.instancesStream().iterator();
+            while (instances.hasNext()) {
+                Instance instance = instances.next();
+                if (indices.containsKey(instance.getId())) continue;
+
+                indices.put(instance.getId(), ids.size());
+                ids.add(instance.getId());
+                types.add(instance.type().getName());
+                if (instance.isRelation()) relations.add(instance.asRelation());
+
+                if (ids.size() > maxInstances) return Optional.empty();
+            }
+        }
+
+        int[] sources = new int[16];
+        int[] targets = new int[16];
+        int edgeCount = 0;
+        int[] degrees = new int[ids.size()];
+        ConceptId[] largestCastingIds = new ConceptId[ids.size()];
+
+        for (Relation relation : relations) {
+            int relationIndex = indices.get(relation.getId());
+
+            // castings are read as vertices, as their ids are needed to label clusters
+            Iterator<Map<String, Vertex>> castings = graph.admin().getTinkerTraversal()
+                    .has(Schema.ConceptProperty.ID.name(), relation.getId().getValue())
+                    .out(Schema.EdgeLabel.CASTING.getLabel()).as(CASTING)
+                    .out(Schema.EdgeLabel.ROLE_PLAYER.getLabel()).as(ROLE_PLAYER)
+                    .<Vertex>select(CASTING, ROLE_PLAYER);
+            while (castings.hasNext()) {
+                Map<String, Vertex> casting = castings.next();
+                Integer rolePlayerIndex = indices.get(ConceptId.of(casting.get(ROLE_PLAYER).id()));
+                if (rolePlayerIndex == null) continue;
+
+                ConceptId castingId = ConceptId.of(casting.get(CASTING).id());
+                if (largestCastingIds[relationIndex] == null ||
+                        castingId.getValue().compareTo(largestCastingIds[relationIndex].getValue()) > 0) {
+                    largestCastingIds[relationIndex] = castingId;
+                }
+
+                if (edgeCount + 2 > sources.length) {
+                    sources = Arrays.copyOf(sources, sources.length * 2);
+                    targets = Arrays.copyOf(targets, targets.length * 2);
+                }
+                sources[edgeCount] = relationIndex;
+                targets[edgeCount++] = rolePlayerIndex;
+                sources[edgeCount] = rolePlayerIndex;
+                targets[edgeCount++] = relationIndex;
+                degrees[relationIndex]++;
+                degrees[rolePlayerIndex]++;
+            }
+        }
+
+        int[] offsets = new int[ids.size() + 1];
+        for (int i = 0; i < degrees.length; i++) {
+            offsets[i + 1] = offsets[i] + degrees[i];
+        }
+
+        int[] neighbours = new int[edgeCount];
+        int[] next = Arrays.copyOf(offsets, degrees.length);
+        for (int edge = 0; edge < edgeCount; edge++) {
+            neighbours[next[sources[edge]]++] = targets[edge];
+        }
+
+        return Optional.of(new InstanceGraphProjection(selectedTypes,
+                ids.toArray(new ConceptId[ids.size()]), types.toArray(new TypeName[types.size()]),
+                indices, offsets, neighbours, largestCastingIds));
+    }
+
+    /**
+     * @return the types of the instances in this projection
+     */
+    public Set<TypeName> selectedTypes() {
+        return selectedTypes;
+    }
+
+    /**
+     * @return the number of instances in this projection
+     */
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * @param index the index of an instance
+     * @return the id of the instance
+     */
+    public ConceptId getId(int index) {
+        return ids[index];
+    }
+
+    /**
+     * @param index the index of an instance
+     * @return the name of the direct type of the instance
+     */
+    public TypeName getType(int index) {
+        return types[index];
+    }
+
+    /**
+     * @param id the id of an instance
+     * @return the index of the instance, or empty if it is not in this projection
+     */
+    public Optional<Integer> indexOf(ConceptId id) {
+        return Optional.ofNullable(indices.get(id));
+    }
+
+    /**
+     * @param index the index of an instance
+     * @return the largest id of the castings connecting the instance, if it is a relation, to instances in this
+     * projection, or empty if there are none
+     */
+    public Optional<ConceptId> getLargestCastingId(int index) {
+        return Optional.ofNullable(largestCastingIds[index]);
+    }
+
+    /**
+     * @param index the index of an instance
+     * @return the number of castings connecting the instance to other instances in this projection
+     */
+    public int degree(int index) {
+        return offsets[index + 1] - offsets[index];
+    }
+
+    /**
+     * @param index the index of an instance
+     * @param position a position between zero and the degree of the instance
+     * @return the index of the neighbour at the given position
+     */
+    public int neighbour(int index, int position) {
+        return neighbours[offsets[index] + position];
+    }
+}
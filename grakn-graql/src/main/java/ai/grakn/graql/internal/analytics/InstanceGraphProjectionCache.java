@@ -0,0 +1,111 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.analytics;
+
+import ai.grakn.GraknGraph;
+import ai.grakn.concept.TypeName;
+import ai.grakn.graph.admin.GraphChangeListeners;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
+import org.javatuples.Pair;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ *     Keeps recently built {@link InstanceGraphProjection}s so that successive compute queries over the same types
+ *     do not read the graph again.
+ * </p>
+ *
+ * <p>
+ *     Projections are dropped when a graph of the same keyspace in this JVM commits changes or is cleared. A
+ *     transaction with changes which are not committed neither reads nor fills the cache. Writes made elsewhere
+ *     cannot be seen, so projections also expire a short while after they were built.
+ * </p>
+ *
+ * @author agent
+ */
+public class InstanceGraphProjectionCache {
+
+    /**
+     * The system property setting the largest number of instances which compute queries project into memory instead of
+     * using the graph computer
+     */
+    public static final String MAX_INSTANCES_PROPERTY = "grakn.analytics.max-projection-size";
+
+    private static final long EXPIRY_SECONDS = 60;
+    private static final long MAX_PROJECTIONS = 16;
+
+    private static final Cache<Pair<String, Set<TypeName>>, InstanceGraphProjection> projections =
+            CacheBuilder.newBuilder()
+                    .maximumSize(MAX_PROJECTIONS)
+                    .expireAfterWrite(EXPIRY_SECONDS, TimeUnit.SECONDS)
+                    .build();
+
+    // Counts the invalidations of each keyspace, so a projection built while the keyspace changed is not kept
+    private static final Map<String, Long> generations = new ConcurrentHashMap<>();
+
+    static {
+        GraphChangeListeners.register((keyspace, rulesChanged) -> invalidate(keyspace));
+    }
+
+    private InstanceGraphProjectionCache() {
+    }
+
+    /**
+     * Get the projection of the given types, building it if there is none cached.
+     *
+     * @param graph the graph to read if the projection must be built
+     * @param selectedTypes the types of the instances to include, which must already contain all of their subtypes
+     * @param maxInstances the largest number of instances the projection may hold
+     * @return the projection, or empty if there are more instances than the budget allows
+     */
+    public static Optional<InstanceGraphProjection> get(GraknGraph graph, Set<TypeName> selectedTypes,
+                                                        int maxInstances) {
+        //Changes which are not committed must not be seen by other transactions
+        if (graph.admin().hasChanges()) return InstanceGraphProjection.build(graph, selectedTypes, maxInstances);
+
+        Pair<String, Set<TypeName>> key = Pair.with(graph.getKeyspace(), ImmutableSet.copyOf(selectedTypes));
+
+        InstanceGraphProjection projection = projections.getIfPresent(key);
+        if (projection != null && projection.size() <= maxInstances) return Optional.of(projection);
+
+        long generation = generations.getOrDefault(key.getValue0(), 0L);
+        Optional<InstanceGraphProjection> built = InstanceGraphProjection.build(graph, key.getValue1(), maxInstances);
+        built.ifPresent(result -> {
+            if (generations.getOrDefault(key.getValue0(), 0L) == generation) projections.put(key, result);
+        });
+        return built;
+    }
+
+    /**
+     * Drop every projection of the given keyspace.
+     *
+     * @param keyspace the keyspace which has changed
+     */
+    public static void invalidate(String keyspace) {
+        generations.merge(keyspace, 1L, Long::sum);
+        projections.asMap().keySet().removeIf(key -> key.getValue0().equals(keyspace));
+    }
+}
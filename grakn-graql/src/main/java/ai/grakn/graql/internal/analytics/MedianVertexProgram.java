@@ -24,6 +24,7 @@ import ai.grakn.util.Schema;
 import com.google.common.collect.Sets;
 import org.apache.commons.configuration.Configuration;
 import org.apache.tinkerpop.gremlin.process.computer.Memory;
+import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
 import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
 import org.apache.tinkerpop.gremlin.process.computer.Messenger;
 import org.apache.tinkerpop.gremlin.structure.Graph;
@@ -31,6 +32,7 @@ import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 
 import static ai.grakn.graql.internal.analytics.DegreeStatisticsVertexProgram.VISITED;
@@ -153,6 +155,11 @@ public class MedianVertexProgram extends GraknVertexProgram<Long> {
         }
     }
 
+    @Override
+    public Optional<MessageCombiner<Long>> getMessageCombiner() {
+        return Optional.of(SUM_COMBINER);
+    }
+
     @Override
     public void safeExecute(final Vertex vertex, Messenger<Long> messenger, final Memory memory) {
         switch (memory.getIteration()) {
@@ -0,0 +1,128 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.analytics;
+
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.TypeName;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>
+ *     Disjoint sets over the instances of an {@link InstanceGraphProjection}, used to find connected components
+ *     in a single pass over the edges instead of the many supersteps of {@link ConnectedComponentVertexProgram}.
+ * </p>
+ *
+ * <p>
+ *     Sets are merged by size and paths are halved while finding, so every operation takes almost constant time.
+ * </p>
+ *
+ * @author agent
+ */
+public class UnionFind {
+
+    private final int[] parents;
+    private final int[] sizes;
+
+    /**
+     * @param size the number of elements, each of which starts in a set of its own
+     */
+    public UnionFind(int size) {
+        parents = new int[size];
+        sizes = new int[size];
+        for (int i = 0; i < size; i++) {
+            parents[i] = i;
+            sizes[i] = 1;
+        }
+    }
+
+    /**
+     * @param element an element
+     * @return the representative of the set containing the element
+     */
+    public int find(int element) {
+        while (parents[element] != element) {
+            parents[element] = parents[parents[element]];
+            element = parents[element];
+        }
+        return element;
+    }
+
+    /**
+     * Merge the sets containing the two elements.
+     */
+    public void union(int a, int b) {
+        int rootA = find(a);
+        int rootB = find(b);
+        if (rootA == rootB) return;
+
+        if (sizes[rootA] < sizes[rootB]) {
+            int swap = rootA;
+            rootA = rootB;
+            rootB = swap;
+        }
+        parents[rootB] = rootA;
+        sizes[rootA] += sizes[rootB];
+    }
+
+    /**
+     * Find the connected components of a projection.
+     * <p>
+     * Each cluster is labelled by the largest id of the instances and castings in it, so the labels are the same as
+     * those of {@link ConnectedComponentVertexProgram}. An instance which is not connected to anything is labelled by
+     * its own id.
+     *
+     * @param projection the instances to cluster
+     * @param memberTypes the types of the instances to report as members
+     * @return a map from the label of each cluster to the ids of its members, leaving out clusters without members
+     */
+    public static Map<String, Set<String>> clusterMembers(InstanceGraphProjection projection,
+                                                         Set<TypeName> memberTypes) {
+        UnionFind sets = new UnionFind(projection.size());
+        for (int i = 0; i < projection.size(); i++) {
+            for (int k = 0; k < projection.degree(i); k++) {
+                int neighbour = projection.neighbour(i, k);
+                // every edge is stored in both directions, so each is only followed once
+                if (neighbour > i) sets.union(i, neighbour);
+            }
+        }
+
+        String[] labels = new String[projection.size()];
+        for (int i = 0; i < projection.size(); i++) {
+            int root = sets.find(i);
+            String id = projection.getId(i).getValue();
+            if (labels[root] == null || id.compareTo(labels[root]) > 0) labels[root] = id;
+
+            String castingId = projection.getLargestCastingId(i).map(ConceptId::getValue).orElse(null);
+            if (castingId != null && castingId.compareTo(labels[root]) > 0) labels[root] = castingId;
+        }
+
+        Map<String, Set<String>> clusters = new HashMap<>();
+        for (int i = 0; i < projection.size(); i++) {
+            if (memberTypes.contains(projection.getType(i))) {
+                clusters.computeIfAbsent(labels[sets.find(i)], label -> new HashSet<>())
+                        .add(projection.getId(i).getValue());
+            }
+        }
+        return clusters;
+    }
+}
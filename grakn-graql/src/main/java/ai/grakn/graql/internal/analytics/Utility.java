@@ -46,7 +46,8 @@ public class Utility {
      * @return the type
      */
     static TypeName getVertexType(Vertex vertex) {
-        return TypeName.of(vertex.value(Schema.ConceptProperty.TYPE.name()));
+        // shards of types have no type of their own, so they never belong to the selected types
+        return TypeName.of(vertex.<String>property(Schema.ConceptProperty.TYPE.name()).orElse(""));
     }
 
     /**
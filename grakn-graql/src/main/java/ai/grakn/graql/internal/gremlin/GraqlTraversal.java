@@ -23,6 +23,7 @@ import ai.grakn.graql.VarName;
 import ai.grakn.graql.internal.gremlin.fragment.Fragment;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.Hashing;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
@@ -68,11 +69,25 @@ public class GraqlTraversal {
     /**
      * Get the {@code GraphTraversal} that this {@code GraqlTraversal} represents.
      */
+    public GraphTraversal<Vertex, Map<String, Vertex>> getGraphTraversal(GraknGraph graph) {
+        return getGraphTraversal(graph, 0, 1);
+    }
+
+    /**
+     * Get the {@code GraphTraversal} that one partition of this {@code GraqlTraversal} represents.
+     * <p>
+     * Each conjunction is split on the first variable which is expected to match more than one vertex, so that the
+     * fragments after it are only applied to the vertices of the partition. Together the partitions find every result.
+     *
+     * @param partition the partition to traverse, from 0 until the number of partitions
+     * @param partitions the number of partitions
+     */
     // Because 'union' accepts an array, we can't use generics
     @SuppressWarnings("unchecked")
-    public GraphTraversal<Vertex, Map<String, Vertex>> getGraphTraversal(GraknGraph graph) {
-        Traversal[] traversals =
-                fragments.stream().map(list -> getConjunctionTraversal(graph, list)).toArray(Traversal[]::new);
+    public GraphTraversal<Vertex, Map<String, Vertex>> getGraphTraversal(GraknGraph graph, int partition, int partitions) {
+        Traversal[] traversals = fragments.stream()
+                .map(list -> getConjunctionTraversal(graph, list, partition, partitions))
+                .toArray(Traversal[]::new);
 
         return graph.admin().getTinkerTraversal().limit(1).union(traversals);
     }
@@ -81,7 +96,7 @@ public class GraqlTraversal {
      * @return a gremlin traversal that represents this inner query
      */
     private GraphTraversal<Vertex, Map<String, Vertex>> getConjunctionTraversal(
-            GraknGraph graph, ImmutableList<Fragment> fragmentList
+            GraknGraph graph, ImmutableList<Fragment> fragmentList, int partition, int partitions
     ) {
         GraphTraversal<Vertex, Vertex> traversal = graph.admin().getTinkerTraversal();
 
@@ -89,10 +104,28 @@ public class GraqlTraversal {
 
         // Apply fragments in order into one single traversal
         VarName currentName = null;
+        boolean partitioned = partitions == 1;
+        double traversers = 1;
 
         for (Fragment fragment : fragmentList) {
+            // Estimate the number of vertices reached, like the cost of the fragment without the restart penalty
+            if (foundNames.contains(fragment.getStart())) {
+                traversers = fragment.fragmentCost(traversers);
+            } else {
+                traversers = fragment.fragmentCost(NUM_VERTICES_ESTIMATE) * traversers;
+            }
+
             applyFragment(fragment, traversal, currentName, foundNames);
             currentName = fragment.getEnd().orElse(fragment.getStart());
+
+            if (!partitioned && traversers > 1) {
+                applyPartition(traversal, partition, partitions);
+                partitioned = true;
+            }
+        }
+
+        if (!partitioned) {
+            applyPartition(traversal, partition, partitions);
         }
 
         // Select all the variable names
@@ -100,6 +133,13 @@ public class GraqlTraversal {
         return traversal.select(traversalNames[0], traversalNames[0], traversalNames);
     }
 
+    /**
+     * Only continue the traversal from the vertices of the given partition
+     */
+    private static void applyPartition(GraphTraversal<Vertex, Vertex> traversal, int partition, int partitions) {
+        traversal.filter(traverser -> Hashing.consistentHash(traverser.get().id().hashCode(), partitions) == partition);
+    }
+
     /**
      * Apply the given fragment to the traversal. Keeps track of variable names so far so that it can decide whether
      * to use "as" or "select" steps in gremlin.
@@ -29,6 +29,8 @@ import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 import java.util.Optional;
 
+import static ai.grakn.util.Schema.EdgeLabel.ISA;
+import static ai.grakn.util.Schema.EdgeLabel.SHARD;
 import static ai.grakn.util.Schema.EdgeLabel.SUB;
 
 /**
@@ -162,4 +164,20 @@ public class Fragments {
     static GraphTraversal<Vertex, Vertex> inSubs(GraphTraversal<Vertex, Vertex> traversal) {
         return traversal.union(__.identity(), __.repeat(__.in(SUB.getLabel())).emit()).unfold();
     }
+
+    /**
+     * Follow isa edges from instances to their types, passing through the shard an instance is linked to if any
+     */
+    @SuppressWarnings("unchecked")
+    static GraphTraversal<Vertex, Vertex> outIsa(GraphTraversal<Vertex, Vertex> traversal) {
+        return traversal.out(ISA.getLabel()).coalesce(__.out(SHARD.getLabel()), __.identity());
+    }
+
+    /**
+     * Follow isa edges from types to their direct instances, both those linked to the type and to its shards
+     */
+    @SuppressWarnings("unchecked")
+    static GraphTraversal<Vertex, Vertex> inIsa(GraphTraversal<Vertex, Vertex> traversal) {
+        return traversal.union(__.in(ISA.getLabel()), __.in(SHARD.getLabel()).in(ISA.getLabel()));
+    }
 }
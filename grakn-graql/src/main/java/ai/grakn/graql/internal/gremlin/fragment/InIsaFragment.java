@@ -35,7 +35,7 @@ class InIsaFragment extends AbstractFragment {
 
     @Override
     public void applyTraversal(GraphTraversal<Vertex, Vertex> traversal) {
-        Fragments.inSubs(traversal).in(Schema.EdgeLabel.ISA.getLabel());
+        Fragments.inIsa(Fragments.inSubs(traversal));
         if (!allowCastings) {
             // Make sure we never get any castings
             traversal.not(__.hasLabel(Schema.BaseType.CASTING.name()));
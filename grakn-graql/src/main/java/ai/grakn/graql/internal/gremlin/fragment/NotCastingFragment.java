@@ -32,7 +32,7 @@ class NotCastingFragment extends AbstractFragment {
 
     @Override
     public void applyTraversal(GraphTraversal<Vertex, Vertex> traversal) {
-        traversal.not(__.hasLabel(Schema.BaseType.CASTING.name()));
+        traversal.not(__.hasLabel(Schema.BaseType.CASTING.name(), Schema.BaseType.SHARD.name()));
     }
 
     @Override
@@ -24,7 +24,6 @@ import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 import static ai.grakn.util.Schema.BaseType.CASTING;
-import static ai.grakn.util.Schema.EdgeLabel.ISA;
 
 class OutIsaFragment extends AbstractFragment {
 
@@ -41,7 +40,7 @@ class OutIsaFragment extends AbstractFragment {
             // Make sure we never get castings' types
             traversal.not(__.hasLabel(CASTING.name()));
         }
-        Fragments.outSubs(traversal.out(ISA.getLabel()));
+        Fragments.outSubs(Fragments.outIsa(traversal));
     }
 
     @Override
@@ -266,7 +266,7 @@ class HALConceptData {
 
     private void generateTypeEmbedded(Representation halResource, Type type, int separationDegree) {
         if (!type.getName().equals(Schema.MetaSchema.CONCEPT.getName())) {
-            type.instances().forEach(instance -> {
+            type.instancesStream().forEach(instance -> {
 
                 if (instance.isType() && instance.asType().isImplicit()) return;
 
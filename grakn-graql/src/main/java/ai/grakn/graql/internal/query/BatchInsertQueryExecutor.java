@@ -0,0 +1,259 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.query;
+
+import ai.grakn.GraknGraph;
+import ai.grakn.concept.Concept;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.Instance;
+import ai.grakn.concept.Resource;
+import ai.grakn.concept.ResourceType;
+import ai.grakn.concept.RoleType;
+import ai.grakn.concept.Type;
+import ai.grakn.concept.TypeName;
+import ai.grakn.graql.InsertQuery;
+import ai.grakn.graql.VarName;
+import ai.grakn.graql.admin.VarAdmin;
+import ai.grakn.graql.internal.pattern.property.HasResourceProperty;
+import ai.grakn.graql.internal.pattern.property.IsaProperty;
+import ai.grakn.graql.internal.pattern.property.RelationProperty;
+import ai.grakn.graql.internal.pattern.property.ValueProperty;
+import ai.grakn.util.Schema;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * A class for executing a batch of insert queries in the same transaction.
+ *
+ * Before any query is executed, all the types, ids and resource values referred to by the batch are collected and
+ * looked up exactly once. The queries are then inserted sharing these lookups, so a batch of queries referring to the
+ * same types and resources does not repeatedly hit the indices of the graph.
+ *
+ * When the graph locks indices, the indices of all the resources of the batch, and of the castings of the existing
+ * instances playing roles in the batch, are locked together before any query is executed, so concurrent batches
+ * sharing resources or role players wait for each other in a consistent order.
+ *
+ * @author agent
+ */
+public class BatchInsertQueryExecutor {
+
+    private final GraknGraph graph;
+    private final Map<TypeName, Type> types = new HashMap<>();
+    private final Map<ConceptId, Concept> concepts = new HashMap<>();
+    private final Map<TypeName, Map<Object, Resource<Object>>> resources = new HashMap<>();
+
+    /**
+     * @param graph the graph to execute the batch on
+     */
+    public BatchInsertQueryExecutor(GraknGraph graph) {
+        this.graph = graph;
+    }
+
+    /**
+     * Insert all the given queries into the graph
+     * @param queries the insert queries to execute
+     * @return the results of every query, in the order the queries were given
+     */
+    public List<Map<VarName, Concept>> insertAll(Collection<InsertQuery> queries) {
+        List<InsertQuery> queriesWithGraph = queries.stream().map(query -> query.withGraph(graph)).collect(toList());
+
+        prefetch(queriesWithGraph.stream()
+                .filter(query -> query instanceof InsertQueryImpl)
+                .map(query -> ((InsertQueryImpl) query).getAllVars())
+                .collect(toList()));
+
+        return queriesWithGraph.stream().flatMap(query -> {
+            if (query instanceof InsertQueryImpl) {
+                return ((InsertQueryImpl) query).streamWithVarNames(Optional.of(this));
+            } else {
+                return query.admin().streamWithVarNames();
+            }
+        }).collect(toList());
+    }
+
+    /**
+     * Look up every distinct type, id and resource value referred to in the given vars, and lock every index the batch
+     * will need
+     * @param varsOfQueries the vars of each query in the batch
+     */
+    private void prefetch(Collection<Collection<VarAdmin>> varsOfQueries) {
+        Set<TypeName> typeNames = new HashSet<>();
+        Set<ConceptId> ids = new HashSet<>();
+        Map<TypeName, Set<Object>> resourceValues = new HashMap<>();
+
+        varsOfQueries.stream().flatMap(Collection::stream).forEach(var -> {
+            var.getTypeName().ifPresent(typeNames::add);
+            var.getId().ifPresent(ids::add);
+
+            Optional<TypeName> resourceTypeName =
+                    var.getProperty(IsaProperty.class).flatMap(isa -> isa.getType().getTypeName());
+
+            resourceTypeName.ifPresent(typeName -> getEqualsValue(var).ifPresent(value ->
+                    resourceValues.computeIfAbsent(typeName, t -> new HashSet<>()).add(value)
+            ));
+        });
+
+        typeNames.forEach(name -> {
+            Type type = graph.getType(name);
+            if (type != null) types.put(name, type);
+        });
+
+        ids.forEach(id -> {
+            Concept concept = graph.getConcept(id);
+            if (concept != null) concepts.put(id, concept);
+        });
+
+        Map<ResourceType<?>, Set<Object>> resourcesToLock = new HashMap<>();
+        resourceValues.forEach((typeName, values) -> {
+            Type type = types.get(typeName);
+            if (type != null && type.isResourceType()) resourcesToLock.put(type.asResourceType(), values);
+        });
+
+        Map<RoleType, Set<Instance>> rolePlayersToLock = new HashMap<>();
+        varsOfQueries.forEach(vars -> collectRolePlayers(vars, rolePlayersToLock));
+
+        graph.admin().lockIndices(resourcesToLock, rolePlayersToLock);
+
+        resourceValues.forEach((typeName, values) -> {
+            Type type = types.get(typeName);
+            if (type == null || !type.isResourceType()) return;
+
+            ResourceType<Object> resourceType = type.asResourceType();
+            Map<Object, Resource<Object>> resourcesOfType = resources.computeIfAbsent(typeName, t -> new HashMap<>());
+
+            values.forEach(value -> {
+                Resource<Object> resource = resourceType.getResource(value);
+                if (resource != null) resourcesOfType.put(value, resource);
+            });
+        });
+    }
+
+    /**
+     * Collect the existing instances which will play a role in a new casting when the given vars are inserted.
+     * Var names are only meaningful within a single query, so this must be called once per query.
+     * @param vars the vars of a single query
+     * @param rolePlayers the map to add each role and the existing instances which will play it to
+     */
+    private void collectRolePlayers(Collection<VarAdmin> vars, Map<RoleType, Set<Instance>> rolePlayers) {
+        Map<VarName, Instance> instances = new HashMap<>();
+        vars.forEach(var -> var.getId().ifPresent(id -> {
+            Concept concept = concepts.get(id);
+            if (concept != null && concept.isInstance()) instances.put(var.getVarName(), concept.asInstance());
+        }));
+
+        for (VarAdmin var : vars) {
+            var.getProperties(RelationProperty.class)
+                    .flatMap(RelationProperty::getRelationPlayers)
+                    .forEach(player -> {
+                        Instance instance = instances.get(player.getRolePlayer().getVarName());
+                        Optional<TypeName> roleName = player.getRoleType().flatMap(VarAdmin::getTypeName);
+                        if (instance != null && roleName.isPresent()) {
+                            addRolePlayer(rolePlayers, roleName.get(), instance);
+                        }
+                    });
+
+            Instance owner = instances.get(var.getVarName());
+            if (owner == null) continue;
+
+            var.getProperties(HasResourceProperty.class).forEach(property -> property.getType().ifPresent(typeName ->
+                    addRolePlayer(rolePlayers, Schema.Resource.HAS_RESOURCE_OWNER.getName(typeName), owner)
+            ));
+        }
+    }
+
+    /**
+     * @param rolePlayers the map to add the role player to
+     * @param roleName the name of the role, which is ignored if it is not a role type in the graph
+     * @param instance the existing instance which will play the role
+     */
+    private void addRolePlayer(Map<RoleType, Set<Instance>> rolePlayers, TypeName roleName, Instance instance) {
+        Type role = getType(roleName);
+        if (role != null && role.isRoleType()) {
+            rolePlayers.computeIfAbsent(role.asRoleType(), r -> new HashSet<>()).add(instance);
+        }
+    }
+
+    /**
+     * @param var a var which may have a single value
+     * @return the value the var must be equal to, if there is exactly one
+     */
+    private Optional<Object> getEqualsValue(VarAdmin var) {
+        Set<Optional<Object>> values = var.getProperties(ValueProperty.class)
+                .map(property -> property.getPredicate().equalsValue())
+                .collect(Collectors.toSet());
+
+        if (values.size() == 1) {
+            return values.iterator().next();
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @param name the name of a type
+     * @return the type with the given name
+     */
+    Type getType(TypeName name) {
+        Type type = types.get(name);
+        if (type == null) {
+            type = graph.getType(name);
+            if (type != null) types.put(name, type);
+        }
+        return type;
+    }
+
+    /**
+     * @param type a type which has been put in the graph during this batch
+     */
+    void cacheType(Type type) {
+        types.put(type.getName(), type);
+    }
+
+    /**
+     * @param id the ID of a concept
+     * @return the concept with the given ID
+     */
+    Concept getConcept(ConceptId id) {
+        Concept concept = concepts.get(id);
+        if (concept == null) {
+            concept = graph.getConcept(id);
+            if (concept != null) concepts.put(id, concept);
+        }
+        return concept;
+    }
+
+    /**
+     * @param type the type of the resource
+     * @param value the value of the resource
+     * @return the resource with the given value, creating it if it does not exist
+     */
+    Resource<Object> putResource(ResourceType<Object> type, Object value) {
+        return resources.computeIfAbsent(type.getName(), t -> new HashMap<>())
+                .computeIfAbsent(value, type::putResource);
+    }
+}
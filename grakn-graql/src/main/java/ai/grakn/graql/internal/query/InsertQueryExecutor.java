@@ -22,6 +22,7 @@ import ai.grakn.GraknGraph;
 import ai.grakn.concept.Concept;
 import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.Instance;
+import ai.grakn.concept.Resource;
 import ai.grakn.concept.ResourceType;
 import ai.grakn.concept.Type;
 import ai.grakn.concept.TypeName;
@@ -76,6 +77,7 @@ import static ai.grakn.util.ErrorMessage.NAME_NOT_FOUND;
 public class InsertQueryExecutor {
 
     private final GraknGraph graph;
+    private final Optional<BatchInsertQueryExecutor> batch;
     private final Collection<VarAdmin> vars;
     private final Map<VarName, Concept> concepts = new HashMap<>();
     private final Map<VarName, Concept> namedConcepts = new HashMap<>();
@@ -85,8 +87,18 @@ public class InsertQueryExecutor {
     private final ImmutableMap<ConceptId, List<VarAdmin>> varsById;
 
     InsertQueryExecutor(Collection<VarAdmin> vars, GraknGraph graph) {
+        this(vars, graph, Optional.empty());
+    }
+
+    /**
+     * @param vars the vars to insert
+     * @param graph the graph to insert into
+     * @param batch the batch this insert is part of, used to share type, id and resource lookups between queries
+     */
+    InsertQueryExecutor(Collection<VarAdmin> vars, GraknGraph graph, Optional<BatchInsertQueryExecutor> batch) {
         this.vars = vars;
         this.graph = graph;
+        this.batch = batch;
 
         // Group variables by variable name
         varsByVarName = ImmutableMap.copyOf(
@@ -193,11 +205,11 @@ public class InsertQueryExecutor {
         } else if (type.isPresent()) {
             return putInstance(id, var, type.get());
         } else if (id.isPresent()) {
-            Concept concept = graph.getConcept(id.get());
+            Concept concept = getConceptById(id.get());
             if (concept == null) throw new IllegalStateException(INSERT_WITHOUT_TYPE.getMessage(id.get()));
             return concept;
         } else if (typeName.isPresent()) {
-            Concept concept = graph.getType(typeName.get());
+            Concept concept = getType(typeName.get());
             if (concept == null) throw new IllegalStateException(NAME_NOT_FOUND.getMessage(typeName.get()));
             return concept;
         } else {
@@ -254,7 +266,7 @@ public class InsertQueryExecutor {
             return addOrGetInstance(id, type.asRelationType()::addRelation);
         } else if (type.isResourceType()) {
             return addOrGetInstance(id,
-                    () -> type.asResourceType().putResource(getValue(var))
+                    () -> putResource(type.asResourceType(), getValue(var))
             );
         } else if (type.isRuleType()) {
             return addOrGetInstance(id, () -> {
@@ -278,6 +290,12 @@ public class InsertQueryExecutor {
      * @return a concept with the given ID and the specified type
      */
     private Type putType(TypeName name, VarAdmin var, SubProperty sub) {
+        Type type = putTypeInGraph(name, var, sub);
+        batch.ifPresent(b -> b.cacheType(type));
+        return type;
+    }
+
+    private Type putTypeInGraph(TypeName name, VarAdmin var, SubProperty sub) {
         Type superType = getConcept(sub.getSuperType()).asType();
 
         if (superType.isEntityType()) {
@@ -304,7 +322,33 @@ public class InsertQueryExecutor {
      * @return an instance of the specified type, with the given ID if one was specified
      */
     private <T extends Type, S extends Instance> S addOrGetInstance(Optional<ConceptId> id, Supplier<S> addInstance) {
-        return id.map(graph::<S>getConcept).orElseGet(addInstance);
+        //noinspection unchecked
+        return id.map(i -> (S) getConceptById(i)).orElseGet(addInstance);
+    }
+
+    /**
+     * @param id the ID of a concept
+     * @return the concept with the given ID, using the lookups of the batch this insert is part of if there is one
+     */
+    private Concept getConceptById(ConceptId id) {
+        return batch.map(b -> b.getConcept(id)).orElseGet(() -> graph.getConcept(id));
+    }
+
+    /**
+     * @param name the name of a type
+     * @return the type with the given name, using the lookups of the batch this insert is part of if there is one
+     */
+    private Type getType(TypeName name) {
+        return batch.map(b -> b.getType(name)).orElseGet(() -> graph.getType(name));
+    }
+
+    /**
+     * @param type the type of the resource
+     * @param value the value of the resource
+     * @return the resource with the given value, using the lookups of the batch this insert is part of if there is one
+     */
+    private Resource<Object> putResource(ResourceType<Object> type, Object value) {
+        return batch.map(b -> b.putResource(type, value)).orElseGet(() -> type.putResource(value));
     }
 
     /**
@@ -108,10 +108,18 @@ class InsertQueryImpl implements InsertQueryAdmin {
 
     @Override
     public Stream<Map<VarName, Concept>> streamWithVarNames() {
+        return streamWithVarNames(Optional.empty());
+    }
+
+    /**
+     * @param batch the batch this query is executed in, used to share lookups between queries
+     * @return a stream of the results of the insert query
+     */
+    Stream<Map<VarName, Concept>> streamWithVarNames(Optional<BatchInsertQueryExecutor> batch) {
         GraknGraph theGraph =
                 getGraph().orElseThrow(() -> new IllegalStateException(ErrorMessage.NO_GRAPH.getMessage()));
 
-        InsertQueryExecutor executor = new InsertQueryExecutor(vars, theGraph);
+        InsertQueryExecutor executor = new InsertQueryExecutor(vars, theGraph, batch);
 
         return matchQuery.map(
                 query -> query.streamWithVarNames().map(executor::insertAll)
@@ -120,6 +128,13 @@ class InsertQueryImpl implements InsertQueryAdmin {
         );
     }
 
+    /**
+     * @return all variables to insert, including ones nested in other variables
+     */
+    Collection<VarAdmin> getAllVars() {
+        return vars;
+    }
+
     @Override
     public InsertQueryAdmin admin() {
         return this;
@@ -29,8 +29,9 @@ import ai.grakn.concept.ResourceType;
 import ai.grakn.concept.Type;
 import ai.grakn.concept.TypeName;
 import ai.grakn.graql.ComputeQuery;
-import ai.grakn.graql.Pattern;
 import ai.grakn.graql.Printer;
+import ai.grakn.graql.internal.analytics.InstanceGraphProjection;
+import ai.grakn.graql.internal.analytics.InstanceGraphProjectionCache;
 import ai.grakn.graql.internal.util.StringConverter;
 import ai.grakn.util.ErrorMessage;
 import ai.grakn.util.Schema;
@@ -41,22 +42,22 @@ import org.slf4j.LoggerFactory;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import static ai.grakn.graql.Graql.name;
-import static ai.grakn.graql.Graql.or;
-import static ai.grakn.graql.Graql.var;
 import static java.util.stream.Collectors.joining;
 
 abstract class AbstractComputeQuery<T> implements ComputeQuery<T> {
 
     static final Logger LOGGER = LoggerFactory.getLogger(ComputeQuery.class);
 
+    // The largest number of instances which are projected into memory instead of using the graph computer, unless
+    // another size is set with the system property InstanceGraphProjectionCache.MAX_INSTANCES_PROPERTY
+    static final int MAX_PROJECTION_SIZE = 100000;
+
     Optional<GraknGraph> graph = Optional.empty();
     String keySpace;
     Set<TypeName> subTypeNames = new HashSet<>();
@@ -138,12 +139,22 @@ abstract class AbstractComputeQuery<T> implements ComputeQuery<T> {
         return Grakn.factory(Grakn.DEFAULT_URI, keySpace).getGraphComputer();
     }
 
+    /**
+     * @param selectedTypes the types of the instances to include, which must already contain all of their subtypes
+     * @return a projection of the instances of the given types, or empty if there are too many to fit in memory
+     */
+    Optional<InstanceGraphProjection> getProjection(Set<TypeName> selectedTypes) {
+        int maxInstances = Integer.getInteger(InstanceGraphProjectionCache.MAX_INSTANCES_PROPERTY, MAX_PROJECTION_SIZE);
+        return InstanceGraphProjectionCache.get(graph.get(), selectedTypes, maxInstances);
+    }
+
     boolean selectedTypesHaveInstance() {
         if (subTypeNames.isEmpty()) return false;
 
-        List<Pattern> checkSubtypes = subTypeNames.stream()
-                .map(type -> var("x").isa(name(type))).collect(Collectors.toList());
-        return this.graph.get().graql().infer(false).match(or(checkSubtypes)).ask().execute();
+        GraknGraph theGraph = this.graph.get();
+        return subTypeNames.stream()
+                .map(theGraph::<Type>getType)
+                .anyMatch(type -> type != null && type.hasInstances());
     }
 
     boolean verticesExistInSubgraph(ConceptId... ids) {
@@ -0,0 +1,191 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.query.analytics;
+
+import ai.grakn.GraknGraph;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.TypeName;
+import ai.grakn.util.Schema;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * <p>
+ *     Finds the shortest path between two instances using a breadth-first search from both ends at once.
+ * </p>
+ *
+ * <p>
+ *     The search runs within the transaction of the graph and moves between role-players and the relations they take
+ *     part in, exactly like {@link ai.grakn.graql.internal.analytics.ShortestPathVertexProgram}. Only instances of
+ *     the given types are visited. The smaller frontier is always expanded first. Neighbours are read lazily, and as
+ *     soon as a frontier grows beyond the budget the search gives up so that the caller can fall back to the graph
+ *     computer, even in the middle of expanding an instance with many relations.
+ * </p>
+ *
+ * @author agent
+ */
+class BidirectionalPathSearch {
+
+    private final GraknGraph graph;
+    private final Set<String> subTypeNames;
+    private final int frontierBudget;
+    private boolean budgetExceeded = false;
+
+    /**
+     * @param graph the graph to search
+     * @param subTypeNames the types of the instances which may be on the path
+     * @param frontierBudget the largest frontier the search may expand before giving up
+     */
+    BidirectionalPathSearch(GraknGraph graph, Set<TypeName> subTypeNames, int frontierBudget) {
+        this.graph = graph;
+        this.subTypeNames = subTypeNames.stream().map(TypeName::getValue).collect(toSet());
+        this.frontierBudget = frontierBudget;
+    }
+
+    /**
+     * @param sourceId the id of the first instance on the path
+     * @param destinationId the id of the last instance on the path
+     * @return the ids of the instances on a shortest path, or empty if there is no path or the budget was exceeded
+     */
+    Optional<List<ConceptId>> search(ConceptId sourceId, ConceptId destinationId) {
+        Side fromSource = new Side(sourceId);
+        Side fromDestination = new Side(destinationId);
+
+        while (!fromSource.frontier.isEmpty() && !fromDestination.frontier.isEmpty()) {
+            Optional<List<ConceptId>> path;
+            if (fromSource.frontier.size() <= fromDestination.frontier.size()) {
+                path = expand(fromSource, fromDestination);
+            } else {
+                path = expand(fromDestination, fromSource).map(reversed -> {
+                    List<ConceptId> forward = new ArrayList<>(reversed);
+                    Collections.reverse(forward);
+                    return forward;
+                });
+            }
+
+            if (budgetExceeded) return Optional.empty();
+            if (path.isPresent()) return path;
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * @return true if the last search gave up because a frontier grew beyond the budget
+     */
+    boolean isBudgetExceeded() {
+        return budgetExceeded;
+    }
+
+    /**
+     * Expand a whole level of one side of the search. Every place the two sides meet is considered, so the path
+     * returned is a shortest one.
+     *
+     * @return a path from the start of the expanded side to the start of the other side, if the sides met and the
+     * next frontier stayed within the budget
+     */
+    private Optional<List<ConceptId>> expand(Side side, Side other) {
+        Set<ConceptId> nextFrontier = new HashSet<>();
+        ConceptId bestMeeting = null;
+        int bestLength = Integer.MAX_VALUE;
+
+        for (ConceptId id : side.frontier) {
+            int depth = side.depths.get(id);
+            Iterator<ConceptId> neighbours = neighbours(id);
+            while (neighbours.hasNext()) {
+                ConceptId neighbour = neighbours.next();
+                if (side.depths.containsKey(neighbour)) continue;
+
+                side.depths.put(neighbour, depth + 1);
+                side.parents.put(neighbour, id);
+                nextFrontier.add(neighbour);
+                if (nextFrontier.size() > frontierBudget) {
+                    budgetExceeded = true;
+                    return Optional.empty();
+                }
+
+                Integer otherDepth = other.depths.get(neighbour);
+                if (otherDepth != null && depth + 1 + otherDepth < bestLength) {
+                    bestLength = depth + 1 + otherDepth;
+                    bestMeeting = neighbour;
+                }
+            }
+        }
+
+        side.frontier = nextFrontier;
+        if (bestMeeting == null) return Optional.empty();
+
+        List<ConceptId> path = side.pathTo(bestMeeting);
+        Collections.reverse(path);
+        List<ConceptId> toOther = other.pathTo(bestMeeting);
+        path.addAll(toOther.subList(1, toOther.size()));
+        return Optional.of(path);
+    }
+
+    /**
+     * @return the instances in the subgraph which are connected to the given instance through a casting, read one at
+     * a time so that an instance with many relations is not read at once
+     */
+    private Iterator<ConceptId> neighbours(ConceptId id) {
+        return graph.admin().getTinkerTraversal()
+                .has(Schema.ConceptProperty.ID.name(), id.getValue())
+                .union(__.in(Schema.EdgeLabel.ROLE_PLAYER.getLabel()).in(Schema.EdgeLabel.CASTING.getLabel()),
+                        __.out(Schema.EdgeLabel.CASTING.getLabel()).out(Schema.EdgeLabel.ROLE_PLAYER.getLabel()))
+                .has(Schema.ConceptProperty.TYPE.name(), P.within(subTypeNames))
+                .<String>values(Schema.ConceptProperty.ID.name())
+                .map(value -> ConceptId.of(value.get()));
+    }
+
+    /**
+     * The state of the search from one end of the path
+     */
+    private static class Side {
+        private final Map<ConceptId, Integer> depths = new HashMap<>();
+        private final Map<ConceptId, ConceptId> parents = new HashMap<>();
+        private Set<ConceptId> frontier;
+
+        Side(ConceptId start) {
+            depths.put(start, 0);
+            frontier = Collections.singleton(start);
+        }
+
+        /**
+         * @return the ids from the given instance back to the start of this side, inclusive
+         */
+        List<ConceptId> pathTo(ConceptId id) {
+            List<ConceptId> path = new ArrayList<>();
+            for (ConceptId current = id; current != null; current = parents.get(current)) {
+                path.add(current);
+            }
+            return path;
+        }
+    }
+}
@@ -24,10 +24,13 @@ import ai.grakn.graql.analytics.ClusterQuery;
 import ai.grakn.graql.internal.analytics.ClusterMemberMapReduce;
 import ai.grakn.graql.internal.analytics.ClusterSizeMapReduce;
 import ai.grakn.graql.internal.analytics.ConnectedComponentVertexProgram;
+import ai.grakn.graql.internal.analytics.InstanceGraphProjection;
+import ai.grakn.graql.internal.analytics.UnionFind;
 import org.apache.tinkerpop.gremlin.process.computer.ComputerResult;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -44,7 +47,6 @@ class ClusterQueryImpl<T> extends AbstractComputeQuery<T> implements ClusterQuer
 
     @Override
     public T execute() {
-        LOGGER.info("ConnectedComponentsVertexProgram is called");
         long startTime = System.currentTimeMillis();
         initSubGraph();
         if (!selectedTypesHaveInstance()) return (T) Collections.emptyMap();
@@ -53,6 +55,15 @@ class ClusterQueryImpl<T> extends AbstractComputeQuery<T> implements ClusterQuer
         Set<TypeName> withResourceRelationTypes = getHasResourceRelationTypes();
         withResourceRelationTypes.addAll(subTypeNames);
 
+        Optional<InstanceGraphProjection> projection = getProjection(withResourceRelationTypes);
+        if (projection.isPresent()) {
+            T clusters = clusters(projection.get());
+            LOGGER.info("Clusters of the projected instances are done in "
+                    + (System.currentTimeMillis() - startTime) + " ms");
+            return clusters;
+        }
+
+        LOGGER.info("ConnectedComponentsVertexProgram is called");
         if (members) {
             if (anySize) {
                 result = getGraphComputer().compute(
@@ -84,6 +95,23 @@ class ClusterQueryImpl<T> extends AbstractComputeQuery<T> implements ClusterQuer
         }
     }
 
+    /**
+     * @param projection the instances of the selected types
+     * @return the members or sizes of the clusters, found without the graph computer
+     */
+    private T clusters(InstanceGraphProjection projection) {
+        Map<String, Set<String>> clusters = UnionFind.clusterMembers(projection, subTypeNames);
+        if (!anySize) {
+            clusters.values().removeIf(cluster -> cluster.size() != clusterSize);
+        }
+
+        if (members) return (T) clusters;
+
+        Map<String, Long> sizes = new HashMap<>();
+        clusters.forEach((label, cluster) -> sizes.put(label, (long) cluster.size()));
+        return (T) sizes;
+    }
+
     @Override
     public boolean isReadOnly() {
         return true;
@@ -23,6 +23,7 @@ import ai.grakn.concept.TypeName;
 import ai.grakn.graql.analytics.DegreeQuery;
 import ai.grakn.graql.internal.analytics.DegreeDistributionMapReduce;
 import ai.grakn.graql.internal.analytics.DegreeVertexProgram;
+import ai.grakn.graql.internal.analytics.InstanceGraphProjection;
 import ai.grakn.graql.internal.util.StringConverter;
 import ai.grakn.util.ErrorMessage;
 import com.google.common.collect.Sets;
@@ -31,6 +32,7 @@ import org.apache.tinkerpop.gremlin.process.computer.ComputerResult;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
@@ -50,7 +52,6 @@ class DegreeQueryImpl extends AbstractComputeQuery<Map<Long, Set<String>>> imple
 
     @Override
     public Map<Long, Set<String>> execute() {
-        LOGGER.info("DegreeVertexProgram is called");
         long startTime = System.currentTimeMillis();
         initSubGraph();
         if (!selectedTypesHaveInstance()) return Collections.emptyMap();
@@ -70,6 +71,15 @@ class DegreeQueryImpl extends AbstractComputeQuery<Map<Long, Set<String>>> imple
             ofTypeNames.addAll(subTypeNames);
         }
 
+        Optional<InstanceGraphProjection> projection = getProjection(withResourceRelationTypes);
+        if (projection.isPresent()) {
+            Map<Long, Set<String>> degrees = degrees(projection.get());
+            LOGGER.info("Degrees of the projected instances are done in "
+                    + (System.currentTimeMillis() - startTime) + " ms");
+            return degrees;
+        }
+
+        LOGGER.info("DegreeVertexProgram is called");
         result = getGraphComputer().compute(new DegreeVertexProgram(withResourceRelationTypes, ofTypeNames),
                 new DegreeDistributionMapReduce(ofTypeNames));
 
@@ -77,6 +87,21 @@ class DegreeQueryImpl extends AbstractComputeQuery<Map<Long, Set<String>>> imple
         return result.memory().get(DegreeDistributionMapReduce.class.getName());
     }
 
+    /**
+     * @param projection the instances of the selected types
+     * @return the ids of the instances of the types the degree is computed for, grouped by their degree
+     */
+    private Map<Long, Set<String>> degrees(InstanceGraphProjection projection) {
+        Map<Long, Set<String>> degrees = new HashMap<>();
+        for (int i = 0; i < projection.size(); i++) {
+            if (ofTypeNames.contains(projection.getType(i))) {
+                degrees.computeIfAbsent((long) projection.degree(i), degree -> new HashSet<>())
+                        .add(projection.getId(i).getValue());
+            }
+        }
+        return degrees;
+    }
+
     @Override
     public boolean isReadOnly() {
         return true;
@@ -43,16 +43,24 @@ import static ai.grakn.graql.internal.util.StringConverter.idToString;
 
 class PathQueryImpl extends AbstractComputeQuery<Optional<List<Concept>>> implements PathQuery {
 
+    // the largest frontier searched within the transaction before falling back to the graph computer
+    private static final int MAX_FRONTIER_SIZE = 5000;
+
+    private final int frontierBudget;
     private ConceptId sourceId = null;
     private ConceptId destinationId = null;
 
     PathQueryImpl(Optional<GraknGraph> graph) {
+        this(graph, MAX_FRONTIER_SIZE);
+    }
+
+    PathQueryImpl(Optional<GraknGraph> graph, int frontierBudget) {
         this.graph = graph;
+        this.frontierBudget = frontierBudget;
     }
 
     @Override
     public Optional<List<Concept>> execute() {
-        LOGGER.info("ShortestPathVertexProgram is called");
         long startTime = System.currentTimeMillis();
 
         if (sourceId == null) throw new IllegalStateException(ErrorMessage.NO_SOURCE.getMessage());
@@ -64,6 +72,20 @@ class PathQueryImpl extends AbstractComputeQuery<Optional<List<Concept>>> implem
         if (sourceId.equals(destinationId)) {
             return Optional.of(Collections.singletonList(graph.get().getConcept(sourceId)));
         }
+
+        // the search reads the transaction, so it is skipped when there are uncommitted changes the graph computer
+        // cannot see, otherwise the path found would depend on the size of the frontier
+        if (!graph.get().admin().hasChanges()) {
+            BidirectionalPathSearch search = new BidirectionalPathSearch(graph.get(), subTypeNames, frontierBudget);
+            Optional<List<ConceptId>> searchedPath = search.search(sourceId, destinationId);
+            if (!search.isBudgetExceeded()) {
+                LOGGER.debug("The path found is: " + searchedPath);
+                LOGGER.info("BidirectionalPathSearch is done in " + (System.currentTimeMillis() - startTime) + " ms");
+                return searchedPath.map(this::getInstances);
+            }
+        }
+
+        LOGGER.info("ShortestPathVertexProgram is called");
         ComputerResult result;
 
         try {
@@ -91,7 +113,11 @@ class PathQueryImpl extends AbstractComputeQuery<Optional<List<Concept>>> implem
 
         LOGGER.debug("The path found is: " + path);
         LOGGER.info("ShortestPathVertexProgram is done in " + (System.currentTimeMillis() - startTime) + " ms");
-        return Optional.of(path.stream().map(graph.get()::<Instance>getConcept).collect(Collectors.toList()));
+        return Optional.of(getInstances(path));
+    }
+
+    private List<Concept> getInstances(List<ConceptId> path) {
+        return path.stream().map(graph.get()::<Instance>getConcept).collect(Collectors.toList());
     }
 
     @Override
@@ -45,6 +45,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static ai.grakn.graql.Order.asc;
@@ -87,6 +88,26 @@ abstract class AbstractMatchQuery implements MatchQueryAdmin {
      */
     public abstract Stream<Map<VarName, Concept>> stream(Optional<GraknGraph> graph);
 
+    /**
+     * Execute the query with its starting vertices split into partitions which are matched in parallel.
+     * Queries which cannot be split are executed with {@link #stream(Optional)} instead.
+     * @param graph the graph to use to execute the query
+     * @param graphs returns the graph to use to match a partition, bound to the calling thread
+     * @param partitions the number of partitions
+     * @return a stream of results
+     */
+    Stream<Map<VarName, Concept>> parallelStream(Optional<GraknGraph> graph, Supplier<GraknGraph> graphs, int partitions) {
+        if (!graph.isPresent() && !getGraph().isPresent()) {
+            return stream(Optional.of(graphs.get()));
+        }
+        return stream(graph);
+    }
+
+    @Override
+    public final Stream<Map<String, Concept>> parallelStream(Supplier<GraknGraph> graphs, int partitions) {
+        return parallelStream(Optional.empty(), graphs, partitions).map(CommonUtil::resultVarNameToString);
+    }
+
     @Override
     public final Stream<Map<VarName, Concept>> streamWithVarNames() {
         return stream(Optional.empty());
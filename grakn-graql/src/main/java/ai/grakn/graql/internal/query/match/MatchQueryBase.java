@@ -20,6 +20,7 @@ package ai.grakn.graql.internal.query.match;
 
 import ai.grakn.GraknGraph;
 import ai.grakn.concept.Concept;
+import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.Type;
 import ai.grakn.concept.TypeName;
 import ai.grakn.graql.MatchQuery;
@@ -32,20 +33,33 @@ import ai.grakn.graql.internal.gremlin.GreedyTraversalPlan;
 import ai.grakn.graql.internal.pattern.property.VarPropertyInternal;
 import ai.grakn.graql.internal.util.CommonUtil;
 import ai.grakn.util.ErrorMessage;
+import com.google.common.base.Throwables;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static ai.grakn.graql.internal.util.CommonUtil.toImmutableSet;
 import static java.util.stream.Collectors.joining;
@@ -58,6 +72,9 @@ import static java.util.stream.Collectors.toSet;
  */
 public class MatchQueryBase extends AbstractMatchQuery {
 
+    // The number of results read ahead of the consumer when matching partitions in parallel
+    static final int READ_AHEAD = 10_000;
+
     protected final Logger LOG = LoggerFactory.getLogger(MatchQueryBase.class);
 
     private final Conjunction<PatternAdmin> pattern;
@@ -82,13 +99,124 @@ public class MatchQueryBase extends AbstractMatchQuery {
                 () -> new IllegalStateException(ErrorMessage.NO_GRAPH.getMessage())
         );
 
+        GraqlTraversal graqlTraversal = createTraversal(graph);
+        return streamPartition(graph, graqlTraversal, 0, 1);
+    }
+
+    @Override
+    Stream<Map<VarName, Concept>> parallelStream(Optional<GraknGraph> optionalGraph, Supplier<GraknGraph> graphs, int partitions) {
+        GraknGraph graph = optionalGraph.orElseGet(graphs);
+        GraqlTraversal graqlTraversal = createTraversal(graph);
+
+        // Each partition is matched in a transaction of its own, so only the ids of the results leave it
+        BlockingQueue<Object> queue = new ArrayBlockingQueue<>(READ_AHEAD);
+        Object done = new Object();
+        ExecutorService pool = Executors.newFixedThreadPool(partitions);
+
+        for (int i = 0; i < partitions; i++) {
+            int partition = i;
+            pool.submit(() -> {
+                Object last = done;
+                GraknGraph partitionGraph = null;
+                try {
+                    partitionGraph = graphs.get();
+                    partitionGraph.admin().enableReadOnly();
+                    Iterator<Map<VarName, Concept>> results =
+                            streamPartition(partitionGraph, graqlTraversal, partition, partitions).iterator();
+                    while (results.hasNext()) {
+                        queue.put(ImmutableMap.copyOf(Maps.transformValues(results.next(), Concept::getId)));
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (Throwable throwable) {
+                    last = throwable;
+                } finally {
+                    if (partitionGraph != null) partitionGraph.close();
+                }
+
+                try {
+                    queue.put(last);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        pool.shutdown();
+
+        Iterator<Map<VarName, ConceptId>> ids = new Iterator<Map<VarName, ConceptId>>() {
+            private int remaining = partitions;
+            private Object next = null;
+
+            @Override
+            public boolean hasNext() {
+                while (next == null && remaining > 0) {
+                    Object taken;
+                    try {
+                        taken = queue.take();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RuntimeException(e);
+                    }
+
+                    if (taken == done) {
+                        remaining--;
+                    } else if (taken instanceof Throwable) {
+                        throw Throwables.propagate((Throwable) taken);
+                    } else {
+                        next = taken;
+                    }
+                }
+                return next != null;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public Map<VarName, ConceptId> next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                Map<VarName, ConceptId> result = (Map<VarName, ConceptId>) next;
+                next = null;
+                return result;
+            }
+        };
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(ids, Spliterator.NONNULL), false)
+                .map(result -> getConcepts(graph, result))
+                .flatMap(CommonUtil::optionalToStream)
+                .onClose(pool::shutdownNow);
+    }
+
+    /**
+     * @param graph the graph to get the concepts from
+     * @param ids a map of concept ids where the key is the variable name
+     * @return a map of concepts where the key is the variable name, or empty if any concept is not in the graph
+     */
+    private static Optional<Map<VarName, Concept>> getConcepts(GraknGraph graph, Map<VarName, ConceptId> ids) {
+        ImmutableMap.Builder<VarName, Concept> concepts = ImmutableMap.builder();
+        for (Map.Entry<VarName, ConceptId> id : ids.entrySet()) {
+            // A concept deleted since its partition read it cannot be found, so the whole result is skipped
+            Concept concept = graph.getConcept(id.getValue());
+            if (concept == null) return Optional.empty();
+            concepts.put(id.getKey(), concept);
+        }
+        return Optional.of(concepts.build());
+    }
+
+    private GraqlTraversal createTraversal(GraknGraph graph) {
         for (VarAdmin var : pattern.getVars()) {
             var.getProperties().forEach(property -> ((VarPropertyInternal) property).checkValid(graph, var));}
 
         GraqlTraversal graqlTraversal = GreedyTraversalPlan.createTraversal(pattern);
         LOG.trace("Created query plan");
         LOG.trace(graqlTraversal.toString());
-        GraphTraversal<Vertex, Map<String, Vertex>> traversal = graqlTraversal.getGraphTraversal(graph);
+        return graqlTraversal;
+    }
+
+    private Stream<Map<VarName, Concept>> streamPartition(
+            GraknGraph graph, GraqlTraversal graqlTraversal, int partition, int partitions
+    ) {
+        GraphTraversal<Vertex, Map<String, Vertex>> traversal =
+                graqlTraversal.getGraphTraversal(graph, partition, partitions);
 
         String[] selectedNames = getSelectedNames().stream().map(VarName::getValue).toArray(String[]::new);
 
@@ -27,6 +27,7 @@ import ai.grakn.util.ErrorMessage;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 /**
@@ -50,6 +51,15 @@ class MatchQueryGraph extends MatchQueryModifier {
         return inner.stream(Optional.of(this.graph));
     }
 
+    @Override
+    Stream<Map<VarName, Concept>> parallelStream(Optional<GraknGraph> graph, Supplier<GraknGraph> graphs, int partitions) {
+        if (graph.isPresent()) {
+            throw new IllegalStateException(ErrorMessage.MULTIPLE_GRAPH.getMessage());
+        }
+
+        return inner.parallelStream(Optional.of(this.graph), graphs, partitions);
+    }
+
     @Override
     public Optional<GraknGraph> getGraph() {
         return Optional.of(graph);
@@ -28,6 +28,7 @@ import com.google.common.collect.Maps;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.joining;
@@ -58,6 +59,11 @@ class MatchQuerySelect extends MatchQueryModifier {
         });
     }
 
+    @Override
+    Stream<Map<VarName, Concept>> parallelStream(Optional<GraknGraph> graph, Supplier<GraknGraph> graphs, int partitions) {
+        return inner.parallelStream(graph, graphs, partitions).map(result -> Maps.filterKeys(result, names::contains));
+    }
+
     @Override
     protected String modifierString() {
         return " select " + names.stream().map(Object::toString).collect(joining(", ")) + ";";
@@ -20,20 +20,34 @@ package ai.grakn.graql.internal.reasoner;
 
 import ai.grakn.GraknGraph;
 import ai.grakn.concept.Concept;
+import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.Rule;
+import ai.grakn.concept.Type;
 import ai.grakn.concept.TypeName;
 import ai.grakn.exception.GraknValidationException;
 import ai.grakn.graql.VarName;
+import ai.grakn.graql.internal.reasoner.cache.AnswerIndex;
 import ai.grakn.graql.internal.reasoner.cache.LazyQueryCache;
 import ai.grakn.graql.internal.reasoner.query.ReasonerAtomicQuery;
 import ai.grakn.graql.internal.reasoner.rule.InferenceRule;
+import ai.grakn.graql.internal.reasoner.rule.RuleBase;
 import ai.grakn.util.Schema;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static ai.grakn.graql.Graql.name;
@@ -71,7 +85,7 @@ public class Reasoner {
      * @return set of inference rule contained in the graph
      */
     public static Set<Rule> getRules(GraknGraph graph) {
-        return new HashSet<>(graph.admin().getMetaRuleInference().instances());
+        return RuleBase.get(graph).getRules();
     }
 
     /**
@@ -85,28 +99,109 @@ public class Reasoner {
     }
 
     /**
-     * materialise all possible inferences
+     * Commit the graph without closing it, logging validation errors like {@link #commitGraph(GraknGraph)}
      */
+    private static void commitBatch(GraknGraph graph) {
+        try {
+            graph.admin().commit();
+        } catch (GraknValidationException e) {
+            LOG.error(e.getMessage());
+        }
+    }
 
+    /**
+     * materialise all possible inferences
+     *
+     * The inferred answers of each rule head are resolved in memory and only the ones not already in the graph
+     * are inserted, committing every {@link #getCommitFrequency()} inserted answers.
+     */
     public static void precomputeInferences(GraknGraph graph){
+        precomputeInferences(graph, getRules(graph));
+    }
+
+    /**
+     * materialise all possible inferences, resolving rules which conclude different types concurrently
+     *
+     * Transactions are bound to the thread which opened them, so each worker resolves its rules in a transaction
+     * of its own and commits it, without seeing changes which were not committed by the calling thread.
+     * Rules concluding the same type can infer the same facts, so they are always resolved by the same worker.
+     *
+     * @param graph graph whose rules are resolved
+     * @param graphs supplier of a graph of the same keyspace, called by each worker to open its own transaction
+     * @param threads maximum number of workers
+     */
+    public static void precomputeInferences(GraknGraph graph, Supplier<GraknGraph> graphs, int threads){
+        RuleBase ruleBase = RuleBase.get(graph);
+        Map<Optional<TypeName>, Set<ConceptId>> rulesByHeadType = new HashMap<>();
+        getRules(graph).forEach(rule -> {
+            Type headType = ruleBase.getRule(rule).getHead().getAtom().getType();
+            rulesByHeadType.computeIfAbsent(Optional.ofNullable(headType).map(Type::getName), type -> new HashSet<>())
+                    .add(rule.getId());
+        });
+
+        //without transactions all threads write to the same graph state, so the workers have to take turns
+        boolean transactional = graph.admin().getTinkerTraversal().asAdmin().getGraph()
+                .map(tinkerGraph -> tinkerGraph.features().graph().supportsTransactions())
+                .orElse(false);
+        ExecutorService pool = Executors.newFixedThreadPool(transactional ? threads : 1);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            rulesByHeadType.values().forEach(ruleIds -> futures.add(pool.submit(() -> {
+                try (GraknGraph workerGraph = graphs.get()) {
+                    Set<Rule> rules = ruleIds.stream()
+                            .map(id -> workerGraph.<Rule>getConcept(id))
+                            .collect(Collectors.toSet());
+                    precomputeInferences(workerGraph, rules);
+                }
+                return null;
+            })));
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof RuntimeException ? (RuntimeException) cause : new RuntimeException(e);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static void precomputeInferences(GraknGraph graph, Set<Rule> rules){
         LazyQueryCache<ReasonerAtomicQuery> cache = new LazyQueryCache<>();
         LazyQueryCache<ReasonerAtomicQuery> dCache = new LazyQueryCache<>();
         Set<ReasonerAtomicQuery> subGoals = new HashSet<>();
-        getRules(graph).forEach(rl -> {
-            InferenceRule rule = new InferenceRule(rl, graph);
+        long uncommitted = 0;
+        for (Rule rl : rules) {
+            InferenceRule rule = RuleBase.get(graph).getRule(rl);
             ReasonerAtomicQuery atomicQuery = new ReasonerAtomicQuery(rule.getHead());
+            Set<Map<VarName, Concept>> answers = new HashSet<>();
             int iter = 0;
             long dAns = 0;
             Set<ReasonerAtomicQuery> SG;
             do {
                 SG = new HashSet<>(subGoals);
-                Set<Map<VarName, Concept>> answers = atomicQuery.answerStream(SG, cache, dCache, true, iter != 0).collect(Collectors.toSet());
+                atomicQuery.answerStream(SG, cache, dCache, false, iter != 0).forEach(answers::add);
                 LOG.debug("Atom: " + atomicQuery.getAtom() + " answers: " + answers.size() + " dAns: " + dAns);
                 dAns = cache.answerSize(SG) - dAns;
-                Reasoner.commitGraph(graph);
                 iter++;
             } while (dAns != 0);
             subGoals.addAll(SG);
-        });
+
+            AnswerIndex known = new AnswerIndex(atomicQuery.DBlookup().collect(Collectors.toList()));
+            Iterator<Map<VarName, Concept>> inferred = answers.stream()
+                    .filter(answer -> !known.contains(answer))
+                    .iterator();
+            while (inferred.hasNext()) {
+                atomicQuery.materialise(inferred.next()).forEach(answer -> {});
+                if (++uncommitted >= commitFrequency) {
+                    commitBatch(graph);
+                    uncommitted = 0;
+                }
+            }
+        }
+        if (uncommitted > 0) commitBatch(graph);
     }
 }
\ No newline at end of file
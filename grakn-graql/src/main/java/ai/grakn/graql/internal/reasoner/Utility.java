@@ -37,8 +37,11 @@ import ai.grakn.graql.internal.pattern.property.ValueProperty;
 import ai.grakn.graql.internal.reasoner.atom.predicate.IdPredicate;
 import ai.grakn.graql.internal.reasoner.atom.predicate.Predicate;
 import ai.grakn.graql.internal.reasoner.atom.predicate.ValuePredicate;
+import ai.grakn.graph.admin.GraphChangeListeners;
 import ai.grakn.util.ErrorMessage;
 import ai.grakn.util.Schema;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import java.util.ArrayList;
@@ -53,6 +56,7 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import static ai.grakn.graql.Graql.name;
@@ -73,6 +77,20 @@ public class Utility {
 
     private static final String CAPTURE_MARK = "captured-";
 
+    //The number of instances after which a type is considered large and its instances are no longer counted
+    private static final long INSTANCE_COUNT_LIMIT = 1000;
+
+    private static final Cache<Pair<String, TypeName>, Long> instanceCounts = CacheBuilder.newBuilder()
+            .maximumSize(1000)
+            .expireAfterWrite(1, TimeUnit.MINUTES)
+            .build();
+
+    //Counts of a keyspace are dropped whenever changes to it are committed or it is cleared
+    static {
+        GraphChangeListeners.register((keyspace, rulesChanged) ->
+                instanceCounts.asMap().keySet().removeIf(key -> key.getKey().equals(keyspace)));
+    }
+
     /**
      * Capture a variable name, by prepending a constant to the name
      * @param var the variable name to capture
@@ -406,4 +424,28 @@ public class Utility {
     public static boolean checkTypesCompatible(Type parent, Type child) {
         return parent.equals(child) || parent.subTypes().contains(child);
     }
+
+    /**
+     * count the instances of a type up to a limit, reusing the count until the keyspace changes as it is only an estimate
+     * @param type type whose instances are counted
+     * @param graph graph of the type
+     * @return number of instances of the type and its subtypes, at most {@link #INSTANCE_COUNT_LIMIT}
+     */
+    public static long estimateInstanceCount(Type type, GraknGraph graph) {
+        //counts of uncommitted changes are not shared with other transactions
+        if (graph.admin().hasChanges()) return countInstances(type, graph);
+
+        Pair<String, TypeName> key = new Pair<>(graph.getKeyspace(), type.getName());
+        Long count = instanceCounts.getIfPresent(key);
+        if (count == null) {
+            count = countInstances(type, graph);
+            instanceCounts.put(key, count);
+        }
+        return count;
+    }
+
+    private static long countInstances(Type type, GraknGraph graph) {
+        return graph.graql().infer(false).match(var("x").isa(name(type.getName())))
+                .limit(INSTANCE_COUNT_LIMIT).stream().count();
+    }
 }
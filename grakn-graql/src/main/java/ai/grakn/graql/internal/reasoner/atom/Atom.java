@@ -17,13 +17,11 @@
  */
 package ai.grakn.graql.internal.reasoner.atom;
 
-import ai.grakn.GraknGraph;
 import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.RoleType;
 import ai.grakn.concept.Rule;
 import ai.grakn.concept.Type;
 import ai.grakn.graql.admin.ReasonerQuery;
-import ai.grakn.graql.internal.reasoner.Reasoner;
 import ai.grakn.graql.admin.VarAdmin;
 import ai.grakn.graql.VarName;
 import ai.grakn.graql.internal.reasoner.atom.binary.TypeAtom;
@@ -32,6 +30,7 @@ import ai.grakn.graql.internal.reasoner.atom.predicate.Predicate;
 import ai.grakn.graql.internal.reasoner.atom.predicate.ValuePredicate;
 import ai.grakn.graql.internal.reasoner.query.ReasonerQueryImpl;
 import ai.grakn.graql.internal.reasoner.rule.InferenceRule;
+import ai.grakn.graql.internal.reasoner.rule.RuleBase;
 import java.util.stream.Collectors;
 import javafx.util.Pair;
 
@@ -86,10 +85,10 @@ public abstract class Atom extends AtomBase {
 
     public Set<Rule> getApplicableRules() {
         Set<Rule> children = new HashSet<>();
-        GraknGraph graph = getParentQuery().graph();
-        Collection<Rule> rulesFromType = getType() != null? getType().getRulesOfConclusion() : Reasoner.getRules(graph);
+        RuleBase ruleBase = RuleBase.get(getParentQuery().graph());
+        Collection<Rule> rulesFromType = getType() != null? ruleBase.getRulesWithConclusion(getType()) : ruleBase.getRules();
         rulesFromType.forEach(rule -> {
-            InferenceRule child = new InferenceRule(rule, graph);
+            InferenceRule child = ruleBase.getRule(rule);
             boolean ruleRelevant = isRuleApplicable(child);
             if (ruleRelevant) children.add(rule);
         });
@@ -100,7 +99,7 @@ public abstract class Atom extends AtomBase {
     public boolean isRuleResolvable() {
         Type type = getType();
         return type != null
-                && !type.getRulesOfConclusion().isEmpty()
+                && RuleBase.get(getParentQuery().graph()).hasRulesWithConclusion(type)
                 && !this.getApplicableRules().isEmpty();
     }
 
@@ -43,6 +43,7 @@ import ai.grakn.graql.internal.reasoner.query.QueryAnswers;
 import ai.grakn.graql.internal.reasoner.query.ReasonerAtomicQuery;
 import ai.grakn.graql.internal.reasoner.query.ReasonerQueryImpl;
 import ai.grakn.graql.internal.reasoner.rule.InferenceRule;
+import ai.grakn.graql.internal.reasoner.rule.RuleBase;
 import ai.grakn.graql.internal.util.CommonUtil;
 import ai.grakn.util.ErrorMessage;
 import ai.grakn.util.Schema;
@@ -313,7 +314,7 @@ public class Relation extends TypeAtom {
     public boolean isRuleResolvable() {
         Type t = getType();
         if (t != null) {
-            return !t.getRulesOfConclusion().isEmpty()
+            return RuleBase.get(getParentQuery().graph()).hasRulesWithConclusion(t)
                     && !this.getApplicableRules().isEmpty();
         } else {
             GraknGraph graph = getParentQuery().graph();
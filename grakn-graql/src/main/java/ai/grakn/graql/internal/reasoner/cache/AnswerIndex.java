@@ -0,0 +1,77 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.reasoner.cache;
+
+import ai.grakn.concept.Concept;
+import ai.grakn.graql.VarName;
+import com.google.common.collect.ImmutableSet;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ *
+ * <p>
+ * Hash index over a collection of known answers, answering whether an answer is contained in any known answer.
+ * The known answers are projected on the variables of the answers being checked, so each check is a hash lookup
+ * instead of a scan over all known answers.
+ * </p>
+ *
+ * @author agent
+ *
+ */
+public class AnswerIndex {
+
+    private final Iterator<Map<VarName, Concept>> source;
+    private final List<Map<VarName, Concept>> answers = new ArrayList<>();
+    private final Map<Set<VarName>, Set<Map<VarName, Concept>>> projections = new HashMap<>();
+
+    /**
+     * @param known answers to index, which are only read the first time the index is used
+     */
+    public AnswerIndex(Iterable<Map<VarName, Concept>> known){
+        this.source = known.iterator();
+    }
+
+    /**
+     * @param answer to check
+     * @return true if some known answer binds every variable of the answer to the same concept
+     */
+    public boolean contains(Map<VarName, Concept> answer){
+        while (source.hasNext()) answers.add(source.next());
+        return projections.computeIfAbsent(ImmutableSet.copyOf(answer.keySet()), this::project).contains(answer);
+    }
+
+    private Set<Map<VarName, Concept>> project(Set<VarName> vars){
+        Set<Map<VarName, Concept>> projection = new HashSet<>();
+        answers.stream()
+                .filter(known -> known.keySet().containsAll(vars))
+                .forEach(known -> {
+                    Map<VarName, Concept> projected = new HashMap<>();
+                    vars.forEach(var -> projected.put(var, known.get(var)));
+                    projection.add(projected);
+                });
+        return projection;
+    }
+}
@@ -25,6 +25,7 @@ import ai.grakn.graql.internal.reasoner.atom.NotEquals;
 
 import ai.grakn.graql.internal.reasoner.atom.binary.TypeAtom;
 import ai.grakn.graql.internal.reasoner.atom.predicate.IdPredicate;
+import ai.grakn.graql.internal.reasoner.cache.AnswerIndex;
 import ai.grakn.graql.internal.reasoner.iterator.LazyAnswerIterator;
 import ai.grakn.graql.internal.reasoner.iterator.LazyIterator;
 import com.google.common.collect.ImmutableSet;
@@ -71,6 +72,15 @@ public class QueryAnswerStream {
         return true;
     }
 
+    /**
+     * @param answer to check
+     * @param known index of known answers
+     * @return true if the answer is not contained in any of the known answers
+     */
+    public static boolean knownFilter(Map<VarName, Concept> answer, AnswerIndex known) {
+        return !known.contains(answer);
+    }
+
     public static boolean nonEqualsFilter(Map<VarName, Concept> answer, Set<NotEquals> atoms) {
         if(atoms.isEmpty()) return true;
         for (NotEquals atom : atoms) {
@@ -25,6 +25,7 @@ import ai.grakn.graql.admin.ReasonerQuery;
 import ai.grakn.graql.internal.reasoner.atom.NotEquals;
 import ai.grakn.graql.internal.reasoner.atom.binary.TypeAtom;
 import ai.grakn.graql.internal.reasoner.atom.predicate.IdPredicate;
+import ai.grakn.graql.internal.reasoner.cache.AnswerIndex;
 
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
@@ -94,16 +95,9 @@ public class QueryAnswers extends HashSet<Map<VarName, Concept>> {
             results.removeAll(known);
             return results;
         }
+        AnswerIndex knownIndex = new AnswerIndex(known);
         QueryAnswers results = new QueryAnswers();
-        this.forEach(answer ->{
-            boolean isKnown = false;
-            Iterator<Map<VarName, Concept>> it = known.iterator();
-            while(it.hasNext() && !isKnown) {
-                Map<VarName, Concept> knownAnswer = it.next();
-                isKnown = knownAnswer.entrySet().containsAll(answer.entrySet());
-            }
-            if (!isKnown) results.add(answer);
-        });
+        this.stream().filter(answer -> !knownIndex.contains(answer)).forEach(results::add);
         return results;
     }
 
@@ -24,7 +24,6 @@ import ai.grakn.concept.RelationType;
 import ai.grakn.concept.RoleType;
 import ai.grakn.concept.Rule;
 import ai.grakn.graql.Graql;
-import ai.grakn.graql.InsertQuery;
 import ai.grakn.graql.Var;
 import ai.grakn.graql.VarName;
 import ai.grakn.graql.admin.Atomic;
@@ -38,14 +37,17 @@ import ai.grakn.graql.internal.reasoner.atom.NotEquals;
 import ai.grakn.graql.internal.reasoner.atom.binary.Relation;
 import ai.grakn.graql.internal.reasoner.atom.binary.TypeAtom;
 import ai.grakn.graql.internal.reasoner.atom.predicate.IdPredicate;
+import ai.grakn.graql.internal.reasoner.cache.AnswerIndex;
 import ai.grakn.graql.internal.reasoner.cache.Cache;
 import ai.grakn.graql.internal.reasoner.cache.LazyQueryCache;
 import ai.grakn.graql.internal.reasoner.iterator.LazyIterator;
 import ai.grakn.graql.internal.reasoner.rule.InferenceRule;
+import ai.grakn.graql.internal.reasoner.rule.RuleBase;
 import ai.grakn.util.ErrorMessage;
 import com.google.common.collect.Sets;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -202,17 +204,10 @@ public class ReasonerAtomicQuery extends ReasonerQueryImpl {
     }
 
     /**
-     * execute insert on the query and return inserted answers
+     * @return insert patterns of the query, one per combination of roles its relation role players can play
+     * if the roles are not all specified
      */
-    private Stream<Map<VarName, Concept>> insert() {
-        InsertQuery insert = Graql.insert(getPattern().getVars()).withGraph(graph());
-        return insert.stream()
-                .map(m ->
-                        m.entrySet().stream()
-                                .collect(Collectors.toMap(k -> VarName.of(k.getKey()), Map.Entry::getValue)));
-    }
-
-    private Stream<Map<VarName, Concept>> materialiseDirect() {
+    private List<Set<VarAdmin>> getMaterialisationPatterns() {
         //extrapolate if needed
         if (atom.isRelation()) {
             Relation relAtom = (Relation) atom;
@@ -223,31 +218,50 @@ public class ReasonerAtomicQuery extends ReasonerQueryImpl {
                 Set<Map<VarName, Var>> roleMaps = new HashSet<>();
                 Utility.computeRoleCombinations(rolePlayers, roles, new HashMap<>(), roleMaps);
 
-                Stream<Map<VarName, Concept>> answerStream = Stream.empty();
+                ReasonerAtomicQuery query = new ReasonerAtomicQuery(this);
+                Atom queryAtom = query.getAtom();
+                List<Set<VarAdmin>> patterns = new ArrayList<>();
                 for (Map<VarName, Var> roleMap : roleMaps) {
                     Relation relationWithRoles = new Relation(relAtom.getVarName(), relAtom.getValueVariable(),
-                            roleMap, relAtom.getPredicate(), this);
-                    this.removeAtom(relAtom);
-                    this.addAtom(relationWithRoles);
-                    answerStream = Stream.concat(answerStream, insert());
-                    this.removeAtom(relationWithRoles);
-                    this.addAtom(relAtom);
+                            roleMap, relAtom.getPredicate(), query);
+                    query.removeAtom(queryAtom);
+                    query.addAtom(relationWithRoles);
+                    patterns.add(query.getPattern().getVars());
+                    query.removeAtom(relationWithRoles);
+                    query.addAtom(queryAtom);
                 }
-                return answerStream;
-            } else {
-                return insert();
+                return patterns;
             }
-        } else {
-            return insert();
         }
+        return Collections.singletonList(getPattern().getVars());
+    }
+
+    /**
+     * execute insert of the pattern with variables bound to the concepts of the answer and return inserted answers
+     */
+    private Stream<Map<VarName, Concept>> insert(Set<VarAdmin> pattern, Map<VarName, Concept> answer) {
+        Set<VarAdmin> vars = new HashSet<>(pattern);
+        answer.forEach((var, concept) -> vars.add(IdPredicate.createIdVar(var, concept.getId())));
+        return Graql.insert(vars).withGraph(graph()).admin().streamWithVarNames();
     }
 
+    /**
+     * materialise the answers of this query, building the insert patterns once for all of them
+     * @param answers to materialise
+     * @return inserted answers
+     */
+    public Stream<Map<VarName, Concept>> materialise(Stream<Map<VarName, Concept>> answers) {
+        List<Set<VarAdmin>> patterns = getMaterialisationPatterns();
+        return answers.flatMap(answer -> patterns.stream().flatMap(pattern -> insert(pattern, answer)));
+    }
+
+    /**
+     * materialise a single answer of this query
+     * @param answer to materialise
+     * @return inserted answers
+     */
     public Stream<Map<VarName, Concept>> materialise(Map<VarName, Concept> answer) {
-        ReasonerAtomicQuery queryToMaterialise = new ReasonerAtomicQuery(this);
-        answer.entrySet().stream()
-                .map(e -> new IdPredicate(e.getKey(), e.getValue(), queryToMaterialise))
-                .forEach(queryToMaterialise::addAtom);
-        return queryToMaterialise.materialiseDirect();
+        return materialise(Stream.of(answer));
     }
 
     private Set<Map<VarName, VarName>> getPermutationUnifiers(Atom headAtom) {
@@ -295,7 +309,7 @@ public class ReasonerAtomicQuery extends ReasonerQueryImpl {
                                                          boolean materialise,
                                                          boolean differentialJoin){
         Atom atom = this.getAtom();
-        InferenceRule rule = new InferenceRule(rl, graph());
+        InferenceRule rule = RuleBase.get(graph()).getRule(rl);
         rule.unify(atom);
         ReasonerQueryImpl ruleBody = rule.getBody();
         ReasonerAtomicQuery ruleHead = rule.getHead();
@@ -314,14 +328,13 @@ public class ReasonerAtomicQuery extends ReasonerQueryImpl {
 
         if (materialise || rule.requiresMaterialisation()) {
             Set<VarName> varsToRetain = rule.hasDisconnectedHead()? ruleBody.getVarNames() : ruleHead.getVarNames();
-            LazyIterator<Map<VarName, Concept>> known = ruleHead.lazyLookup(cache);
-            LazyIterator<Map<VarName, Concept>> dknown = ruleHead.lazyLookup(dCache);
-            Stream<Map<VarName, Concept>> newAnswers = answers
+            AnswerIndex known = new AnswerIndex(ruleHead.lazyLookup(cache));
+            AnswerIndex dknown = new AnswerIndex(ruleHead.lazyLookup(dCache));
+            Stream<Map<VarName, Concept>> newAnswers = ruleHead.materialise(answers
                     .flatMap(a -> varFilterFunction.apply(a, varsToRetain))
                     .distinct()
-                    .filter(a -> knownFilter(a, known.stream()))
-                    .filter(a -> knownFilter(a, dknown.stream()))
-                    .flatMap(ruleHead::materialise);
+                    .filter(a -> knownFilter(a, known))
+                    .filter(a -> knownFilter(a, dknown)));
 
             Set<TypeAtom> mappedTypeConstraints = atom.getMappedTypeConstraints();
             answers = dCache.record(ruleHead, newAnswers)
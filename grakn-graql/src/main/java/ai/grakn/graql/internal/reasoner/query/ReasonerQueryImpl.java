@@ -44,6 +44,8 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -73,6 +75,8 @@ import static ai.grakn.graql.internal.reasoner.query.QueryAnswerStream.varFilter
  */
 public class ReasonerQueryImpl implements ReasonerQuery {
 
+    private static final int MAX_NARROWING = 16;
+
     private final GraknGraph graph;
     private final Set<Atomic> atomSet = new HashSet<>();
 
@@ -369,14 +373,6 @@ public class ReasonerQueryImpl implements ReasonerQuery {
         cstrs.forEach(con -> addAtom(AtomicFactory.create(con, this)));
     }
 
-    private Atom findFirstJoinable(Set<Atom> atoms){
-        for (Atom next : atoms) {
-            Atom atom = findNextJoinable(Sets.difference(atoms, Sets.newHashSet(next)), next.getVarNames());
-            if (atom != null) return atom;
-        }
-        return atoms.iterator().next();
-    }
-
     private Atom findNextJoinable(Set<Atom> atoms, Set<VarName> vars){
         for (Atom next : atoms) {
             if (!Sets.intersection(vars, next.getVarNames()).isEmpty()) return next;
@@ -392,11 +388,45 @@ public class ReasonerQueryImpl implements ReasonerQuery {
         return findNextJoinable(atoms, atom.getVarNames());
     }
 
+    /**
+     * estimate the number of answers of an atom from the cached answers of its query if it was already resolved,
+     * or else from the number of instances of its type, narrowed by its predicates and already bound variables
+     * @param atom atom to estimate
+     * @param boundVars variables bound by previously selected atoms
+     * @param cache resolved queries, can be null
+     * @return estimated number of answers
+     */
+    private long estimateAnswerSize(Atom atom, Set<VarName> boundVars, Cache<ReasonerAtomicQuery, ?> cache) {
+        if (!atom.getIdPredicates().isEmpty()) return 1;
+
+        long size;
+        ReasonerAtomicQuery query = cache != null ? new ReasonerAtomicQuery(atom) : null;
+        if (query != null && cache.contains(query)) {
+            size = cache.answerSize(Collections.singleton(query));
+        } else {
+            Type type = atom.getType();
+            size = type != null ? Utility.estimateInstanceCount(type, graph()) : Long.MAX_VALUE;
+        }
+        //halve the estimate for every value predicate and every variable bound by previous atoms
+        int constraints = atom.getValuePredicates().size() + Sets.intersection(atom.getVarNames(), boundVars).size();
+        return size >> Math.min(constraints, MAX_NARROWING);
+    }
+
     /**
      * atom selection function
      * @return selected atoms
      */
     public Set<Atom> selectAtoms() {
+        return selectAtoms(null);
+    }
+
+    /**
+     * atom selection function, ordering atoms so that the ones with the fewest estimated answers are resolved first
+     * and every further atom is joinable with the already selected ones where possible
+     * @param cache resolved queries whose answer sizes are used for estimates, can be null
+     * @return selected atoms
+     */
+    public Set<Atom> selectAtoms(Cache<ReasonerAtomicQuery, ?> cache) {
         Set<Atom> atoms = new HashSet<>(atomSet).stream()
                 .filter(Atomic::isAtom).map(at -> (Atom) at)
                 .collect(Collectors.toSet());
@@ -406,22 +436,28 @@ public class ReasonerQueryImpl implements ReasonerQuery {
         Set<Atom> atomsToSelect = atoms.stream()
                 .filter(Atomic::isSelectable)
                 .collect(Collectors.toSet());
+        if (atomsToSelect.size() <= 1) {
+            if (atomsToSelect.isEmpty()) {
+                throw new IllegalStateException(ErrorMessage.NO_ATOMS_SELECTED.getMessage(this.toString()));
+            }
+            return atomsToSelect;
+        }
 
         Set<Atom> orderedSelection = new LinkedHashSet<>();
-
-        Atom atom = findFirstJoinable(atomsToSelect);
         Set<VarName> joinedVars = new HashSet<>();
-        while(!atomsToSelect.isEmpty() && atom != null) {
+        while(!atomsToSelect.isEmpty()) {
+            Set<Atom> joinable = atomsToSelect.stream()
+                    .filter(at -> !Sets.intersection(joinedVars, at.getVarNames()).isEmpty())
+                    .collect(Collectors.toSet());
+            //if disjoint start from the most selective of the remaining atoms
+            Set<Atom> candidates = joinable.isEmpty() ? atomsToSelect : joinable;
+            Atom atom = candidates.stream()
+                    .min(Comparator.<Atom>comparingLong(at -> estimateAnswerSize(at, joinedVars, cache))
+                            .thenComparing(Atom::toString))
+                    .orElse(null);
             orderedSelection.add(atom);
             atomsToSelect.remove(atom);
             joinedVars.addAll(atom.getVarNames());
-            atom = findNextJoinable(atomsToSelect, joinedVars);
-        }
-        //if disjoint select at random
-        if (!atomsToSelect.isEmpty()) atomsToSelect.forEach(orderedSelection::add);
-
-        if (orderedSelection.isEmpty()) {
-            throw new IllegalStateException(ErrorMessage.NO_ATOMS_SELECTED.getMessage(this.toString()));
         }
         return orderedSelection;
     }
@@ -447,11 +483,22 @@ public class ReasonerQueryImpl implements ReasonerQuery {
                                                    Cache<ReasonerAtomicQuery, ?> cache,
                                                    Cache<ReasonerAtomicQuery, ?> dCache,
                                                    boolean materialise){
-        List<ReasonerAtomicQuery> queries = selectAtoms().stream().map(ReasonerAtomicQuery::new).collect(Collectors.toList());
+        List<ReasonerAtomicQuery> queries = selectAtoms(cache).stream().map(ReasonerAtomicQuery::new).collect(Collectors.toList());
         Iterator<ReasonerAtomicQuery> qit = queries.iterator();
         ReasonerAtomicQuery childAtomicQuery = qit.next();
         Stream<Map<VarName, Concept>> join = childAtomicQuery.answerStream(subGoals, cache, dCache, materialise, false);
         Set<VarName> joinedVars = childAtomicQuery.getVarNames();
+
+        //pass bindings of a selective first atom sideways, so that they constrain the resolution of the next atoms
+        if (qit.hasNext() && !childAtomicQuery.getAtom().getIdPredicates().isEmpty()) {
+            List<Map<VarName, Concept>> answers = join.collect(Collectors.toList());
+            Map<VarName, Concept> bindings = getCommonBindings(answers);
+            queries.stream().skip(1).forEach(q -> bindings.entrySet().stream()
+                    .filter(e -> q.getVarNames().contains(e.getKey()))
+                    .filter(e -> q.getIdPredicate(e.getKey()) == null)
+                    .forEach(e -> q.addAtom(new IdPredicate(e.getKey(), e.getValue(), q))));
+            join = answers.stream();
+        }
         while(qit.hasNext()){
             childAtomicQuery = qit.next();
             Set<VarName> joinVars = Sets.intersection(joinedVars, childAtomicQuery.getVarNames());
@@ -471,7 +518,7 @@ public class ReasonerQueryImpl implements ReasonerQuery {
                                                            Cache<ReasonerAtomicQuery, ?> dCache,
                                                            boolean materialise){
         Stream<Map<VarName, Concept>> join = Stream.empty();
-        List<ReasonerAtomicQuery> queries = selectAtoms().stream().map(ReasonerAtomicQuery::new).collect(Collectors.toList());
+        List<ReasonerAtomicQuery> queries = selectAtoms(cache).stream().map(ReasonerAtomicQuery::new).collect(Collectors.toList());
         Set<ReasonerAtomicQuery> uniqueQueries = queries.stream().collect(Collectors.toSet());
         //only do one join for transitive queries
         List<ReasonerAtomicQuery> queriesToJoin  = isTransitive()? Lists.newArrayList(uniqueQueries) : queries;
@@ -495,6 +542,17 @@ public class ReasonerQueryImpl implements ReasonerQuery {
         return join.distinct();
     }
 
+    /**
+     * @param answers answers to inspect
+     * @return variables bound to the same concept in every answer, together with that concept
+     */
+    private static Map<VarName, Concept> getCommonBindings(List<Map<VarName, Concept>> answers) {
+        if (answers.isEmpty()) return new HashMap<>();
+        Map<VarName, Concept> bindings = new HashMap<>(answers.get(0));
+        answers.forEach(answer -> bindings.entrySet().removeIf(e -> !e.getValue().equals(answer.get(e.getKey()))));
+        return bindings;
+    }
+
     Stream<Map<VarName, Concept>> computeJoin(Set<ReasonerAtomicQuery> subGoals,
                                               Cache<ReasonerAtomicQuery, ?> cache,
                                               Cache<ReasonerAtomicQuery, ?> dCache,
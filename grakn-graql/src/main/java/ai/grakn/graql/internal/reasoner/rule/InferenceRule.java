@@ -63,6 +63,11 @@ public class InferenceRule {
         head = new ReasonerAtomicQuery(conjunction(rule.getRHS().admin()), graph);
     }
 
+    public InferenceRule(InferenceRule rule){
+        body = new ReasonerQueryImpl(rule.getBody());
+        head = new ReasonerAtomicQuery(rule.getHead());
+    }
+
     private static Conjunction<VarAdmin> conjunction(PatternAdmin pattern){
         Set<VarAdmin> vars = pattern
                 .getDisjunctiveNormalForm().getPatterns()
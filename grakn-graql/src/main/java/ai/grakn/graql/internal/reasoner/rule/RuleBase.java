@@ -0,0 +1,151 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.reasoner.rule;
+
+import ai.grakn.GraknGraph;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.Rule;
+import ai.grakn.concept.Type;
+import ai.grakn.concept.TypeName;
+import ai.grakn.graph.admin.GraphChangeListeners;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.stream.Collectors.toSet;
+
+/**
+ *
+ * <p>
+ * Compiled inference rules of a keyspace. The patterns of every rule are parsed into an {@link InferenceRule} once
+ * and the rules are indexed by the types in their conclusions, so resolution only needs to copy the compiled rule
+ * instead of reading and parsing its patterns again.
+ * </p>
+ *
+ * <p>
+ * Rule bases are dropped when rule changes are committed to the keyspace and when the keyspace is cleared. A
+ * transaction which has added or removed rules it has not committed compiles its own rules and never shares them.
+ * </p>
+ *
+ * @author agent
+ *
+ */
+public class RuleBase {
+
+    private static final Map<String, RuleBase> ruleBases = new ConcurrentHashMap<>();
+
+    // Counts the invalidations of each keyspace, so a rule base built while the rules changed is not kept
+    private static final Map<String, Long> generations = new ConcurrentHashMap<>();
+
+    static {
+        GraphChangeListeners.register((keyspace, rulesChanged) -> {
+            if (rulesChanged) invalidate(keyspace);
+        });
+    }
+
+    private final GraknGraph graph;
+    private final long generation;
+    private final Map<ConceptId, InferenceRule> rules = new HashMap<>();
+    private final Map<TypeName, Set<ConceptId>> rulesByConclusionType = new HashMap<>();
+
+    private RuleBase(GraknGraph graph, long generation) {
+        this.graph = graph;
+        this.generation = generation;
+        graph.admin().getMetaRuleInference().instancesStream().forEach(rule -> {
+            rules.put(rule.getId(), new InferenceRule(rule, graph));
+            //same types as the conclusion types of the rule, which are only linked when the rule is committed
+            rule.getRHS().admin().getVars().stream()
+                    .flatMap(var -> var.getInnerVars().stream())
+                    .flatMap(var -> var.getTypeNames().stream())
+                    .forEach(type -> rulesByConclusionType.computeIfAbsent(type, t -> new HashSet<>()).add(rule.getId()));
+        });
+    }
+
+    /**
+     * @param graph the graph the rules are resolved against
+     * @return compiled rules of the keyspace of the graph
+     */
+    public static RuleBase get(GraknGraph graph) {
+        String keyspace = graph.getKeyspace();
+        long generation = generations.getOrDefault(keyspace, 0L);
+
+        //Rules which are not committed must not be seen by other transactions
+        if (graph.admin().hasRuleChanges()) return new RuleBase(graph, generation);
+
+        RuleBase ruleBase = ruleBases.get(keyspace);
+        if (ruleBase != null && ruleBase.generation == generation) return ruleBase;
+
+        ruleBase = new RuleBase(graph, generation);
+        if (generations.getOrDefault(keyspace, 0L) == generation) ruleBases.put(keyspace, ruleBase);
+        return ruleBase;
+    }
+
+    /**
+     * Drop the compiled rules of a keyspace.
+     *
+     * @param keyspace the keyspace whose rules changed
+     */
+    public static void invalidate(String keyspace) {
+        generations.merge(keyspace, 1L, Long::sum);
+        ruleBases.remove(keyspace);
+    }
+
+    /**
+     * @return all inference rules of the keyspace
+     */
+    public Set<Rule> getRules() {
+        return rules.keySet().stream()
+                .map(id -> graph.<Rule>getConcept(id))
+                .filter(Objects::nonNull)
+                .collect(toSet());
+    }
+
+    /**
+     * @param type conclusion type
+     * @return inference rules having the type in their conclusion
+     */
+    public Set<Rule> getRulesWithConclusion(Type type) {
+        return rulesByConclusionType.getOrDefault(type.getName(), Collections.emptySet()).stream()
+                .map(id -> graph.<Rule>getConcept(id))
+                .filter(Objects::nonNull)
+                .collect(toSet());
+    }
+
+    /**
+     * @param type conclusion type
+     * @return true if any inference rule has the type in its conclusion
+     */
+    public boolean hasRulesWithConclusion(Type type) {
+        return rulesByConclusionType.containsKey(type.getName());
+    }
+
+    /**
+     * @param rule inference rule of the keyspace
+     * @return a copy of the compiled rule which can be unified freely
+     */
+    public InferenceRule getRule(Rule rule) {
+        InferenceRule compiled = rules.get(rule.getId());
+        return compiled != null ? new InferenceRule(compiled) : new InferenceRule(rule, graph);
+    }
+}
@@ -130,11 +130,11 @@ public class MigrationCLI {
 
             StringBuilder builder = new StringBuilder();
             builder.append("Graph ontology contains:\n");
-            builder.append("\t ").append(graph.admin().getMetaEntityType().instances().size()).append(" entity types\n");
-            builder.append("\t ").append(graph.admin().getMetaRelationType().instances().size()).append(" relation types\n");
-            builder.append("\t ").append(graph.admin().getMetaRoleType().instances().size()).append(" role types\n");
-            builder.append("\t ").append(graph.admin().getMetaResourceType().instances().size()).append(" resource types\n");
-            builder.append("\t ").append(graph.admin().getMetaRuleType().instances().size()).append(" rule types\n\n");
+            builder.append("\t ").append(graph.admin().getMetaEntityType().instanceCount()).append(" entity types\n");
+            builder.append("\t ").append(graph.admin().getMetaRelationType().instanceCount()).append(" relation types\n");
+            builder.append("\t ").append(graph.admin().getMetaRoleType().instanceCount()).append(" role types\n");
+            builder.append("\t ").append(graph.admin().getMetaResourceType().instanceCount()).append(" resource types\n");
+            builder.append("\t ").append(graph.admin().getMetaRuleType().instanceCount()).append(" rule types\n\n");
 
             builder.append("Graph data contains:\n");
             builder.append("\t ").append(qb.match(var("x").isa(var("y")), var("y").sub(name(Schema.MetaSchema.ENTITY.getName()))).select("x").distinct().aggregate(count()).execute()).append(" entities\n");
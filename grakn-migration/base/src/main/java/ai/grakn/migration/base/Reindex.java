@@ -0,0 +1,50 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.migration.base;
+
+import ai.grakn.Grakn;
+import ai.grakn.GraknGraph;
+
+import java.util.Optional;
+
+/**
+ * Rebuild the indices of a keyspace created by an older version of Grakn, so it can be used by this one
+ * @author agent
+ */
+public class Reindex {
+
+    public static final int BATCH_SIZE = 1000;
+
+    public static void main(String[] args){
+        MigrationCLI.init(args, ReindexOptions::new).stream()
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .forEach(Reindex::runReindex);
+    }
+
+    public static void runReindex(ReindexOptions options){
+        System.out.println("Rebuilding the indices of graph " + options.getKeyspace() + " using Grakn Engine " +
+                options.getUri());
+
+        try(GraknGraph graph = Grakn.factory(options.getUri(), options.getKeyspace()).getGraph()) {
+            long rebuilt = graph.admin().rebuildIndices(options.getBatch());
+            System.out.println("Rebuilt " + rebuilt + " indices");
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.migration.base;
+
+import static java.lang.Integer.parseInt;
+
+/**
+ * Configure the default reindexing options and access arguments passed by the user
+ * @author agent
+ */
+public class ReindexOptions extends MigrationOptions {
+
+    private static final String batch = Integer.toString(Reindex.BATCH_SIZE);
+
+    public ReindexOptions(String[] args) {
+        super();
+
+        options.addOption("b", "batch", true, "Number of elements to reindex in one Grakn transaction. Default 1000.");
+
+        parse(args);
+    }
+
+    @Override
+    public int getBatch() {
+        return parseInt(command.getOptionValue("b", batch));
+    }
+}
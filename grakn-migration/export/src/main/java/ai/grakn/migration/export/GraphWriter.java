@@ -15,20 +15,48 @@
  * You should have received a copy of the GNU General Public License
  * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
  */
+
 package ai.grakn.migration.export;
 
 import ai.grakn.GraknGraph;
 import ai.grakn.concept.Concept;
 import ai.grakn.concept.Type;
+import ai.grakn.concept.TypeName;
 import ai.grakn.graql.Var;
 import ai.grakn.util.Schema;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
 
 /**
  * Export contents of a Grakn graph as a Graql insert query.
+ * <p>
+ * Patterns are written out one at a time, so the size of the graph which can be exported is not bound by memory.
+ * Data is partitioned by type and, given a supplier of graphs, the types are exported in parallel, each in a read
+ * only transaction of its own.
+ *
  * @author alexandraorth
  */
 public class GraphWriter {
@@ -36,9 +64,22 @@ public class GraphWriter {
     private static final String EOL = ";\n";
 
     private final GraknGraph graph;
+    private final Supplier<GraknGraph> graphs;
+    private final int threads;
 
     public GraphWriter(GraknGraph graph){
+        this(graph, null, 1);
+    }
+
+    /**
+     * @param graph the graph to export, used by the calling thread
+     * @param graphs supplier of a graph of the same keyspace, called by each worker to open its own transaction
+     * @param threads maximum number of types exported at the same time
+     */
+    public GraphWriter(GraknGraph graph, Supplier<GraknGraph> graphs, int threads){
         this.graph = graph;
+        this.graphs = graphs;
+        this.threads = threads;
         this.graph.showImplicitConcepts(true);
     }
 
@@ -47,7 +88,15 @@ public class GraphWriter {
      * @return Graql insert query with ontology of given graph
      */
     public String dumpOntology(){
-        return join(types().map(TypeMapper::map));
+        return toString(this::dumpOntology);
+    }
+
+    /**
+     * Export the ontology of a Grakn graph as Graql
+     * @param out where the Graql insert query with the ontology of the graph is written
+     */
+    public void dumpOntology(Writer out) throws IOException {
+        write(types(graph).map(TypeMapper::map), out);
     }
 
     /**
@@ -55,31 +104,138 @@ public class GraphWriter {
      * @return Graql insert query with data in given graph
      */
     public String dumpData(){
-        return join(types()
+        return toString(this::dumpData);
+    }
+
+    /**
+     * Export the data of a Grakn graph as Graql
+     * @param out where the Graql insert query with the data of the graph is written
+     */
+    public void dumpData(Writer out) throws IOException {
+        List<TypeName> dataTypes = types(graph)
                 .filter(t -> !t.isRoleType())
-                .flatMap(c -> c.instances().stream())
+                .map(Type::getName)
+                .collect(toList());
+
+        if (graphs == null || threads <= 1) {
+            for (TypeName type : dataTypes) {
+                write(directInstances(graph, type), out);
+            }
+            return;
+        }
+
+        //Each type is written to a file of its own by a worker, and the files are appended to the output in order
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<Path>> parts = new ArrayList<>();
+        try {
+            dataTypes.forEach(type -> parts.add(pool.submit(() -> dumpData(type))));
+            for (Future<Path> part : parts) {
+                Path path = part.get();
+                try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                    char[] buffer = new char[8192];
+                    for (int read = reader.read(buffer); read != -1; read = reader.read(buffer)) {
+                        out.write(buffer, 0, read);
+                    }
+                }
+            }
+        } catch (InterruptedException | ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) throw (IOException) cause;
+            throw cause instanceof RuntimeException ? (RuntimeException) cause : new RuntimeException(e);
+        } finally {
+            pool.shutdownNow();
+            for (Future<Path> part : parts) {
+                if (part.isDone() && !part.isCancelled()) {
+                    try {
+                        Files.deleteIfExists(part.get());
+                    } catch (InterruptedException | ExecutionException ignored) {
+                        //The part failed and deleted its own file
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Write the data of a single type to a temporary file, in a read only transaction of the current thread.
+     * @param type the type whose direct instances are written
+     * @return the file the data was written to
+     */
+    private Path dumpData(TypeName type) throws IOException {
+        Path path = Files.createTempFile("grakn-export-", ".gql");
+        try (GraknGraph workerGraph = graphs.get();
+             Writer out = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            workerGraph.showImplicitConcepts(true);
+            workerGraph.admin().enableReadOnly();
+            write(directInstances(workerGraph, type), out);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(path);
+            throw e;
+        }
+        return path;
+    }
+
+    /**
+     * Get the instances of a type which are not instances of one of its subtypes, so each instance is only written
+     * once. Only the isa edges of the type vertex and of its shards are followed, so the instances of subtypes are
+     * never read.
+     */
+    private static Stream<Var> directInstances(GraknGraph graph, TypeName name){
+        GraphTraversal<Vertex, Vertex> instances = graph.admin().getTinkerTraversal()
+                .has(Schema.ConceptProperty.NAME.name(), name.getValue())
+                .union(__.in(Schema.EdgeLabel.ISA.getLabel()),
+                        __.in(Schema.EdgeLabel.SHARD.getLabel()).in(Schema.EdgeLabel.ISA.getLabel()));
+
+        Spliterator<Vertex> vertices = Spliterators.spliteratorUnknownSize(instances, Spliterator.NONNULL);
+        return StreamSupport.stream(vertices, false)
+                .map(vertex -> graph.admin().<Concept>buildConcept(vertex))
                 .map(Concept::asInstance)
-                .map(InstanceMapper::map));
+                .map(InstanceMapper::map);
     }
 
     /**
-     * Turn a stream of Graql patterns into a Graql insert query.
+     * Write a stream of Graql patterns as part of a Graql insert query.
      * @param stream stream of Graql patterns
-     * @return Graql patterns as a string
+     * @param out where the patterns are written
      */
-    private String join(Stream<Var> stream){
-        return stream
-                .map(Object::toString)
-                .filter(s -> !s.isEmpty())
-                .collect(joining(EOL, "", EOL));
+    private static void write(Stream<Var> stream, Writer out) throws IOException {
+        try {
+            stream.map(Object::toString)
+                    .filter(s -> !s.isEmpty())
+                    .forEach(s -> {
+                        try {
+                            out.write(s);
+                            out.write(EOL);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static String toString(Dump dump){
+        StringWriter out = new StringWriter();
+        try {
+            dump.to(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
     }
 
     /**
      * Get all the types in a graph.
      * @return a stream of all types with non-reserved IDs
      */
-    private Stream<? extends Type> types(){
+    private static Stream<? extends Type> types(GraknGraph graph){
         return graph.admin().getMetaConcept().subTypes().stream()
                 .filter(t -> !Schema.MetaSchema.isMetaName(t.getName()));
     }
+
+    @FunctionalInterface
+    private interface Dump {
+        void to(Writer out) throws IOException;
+    }
 }
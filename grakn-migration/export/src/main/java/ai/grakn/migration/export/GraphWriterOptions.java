@@ -31,6 +31,8 @@ public class GraphWriterOptions extends MigrationOptions {
 
         options.addOption("ontology", false, "export ontology");
         options.addOption("data", false, "export data");
+        options.addOption("file", true, "write to the given file instead of standard out");
+        options.addOption("threads", true, "number of types whose data is exported in parallel");
 
         parse(args);
     }
@@ -42,4 +44,12 @@ public class GraphWriterOptions extends MigrationOptions {
     public boolean exportData(){
         return command.hasOption("data");
     }
+
+    public String getFile(){
+        return command.getOptionValue("file");
+    }
+
+    public int getThreads(){
+        return Integer.parseInt(command.getOptionValue("threads", "1"));
+    }
 }
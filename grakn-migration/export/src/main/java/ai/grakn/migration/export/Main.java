@@ -19,14 +19,22 @@ package ai.grakn.migration.export;
 
 import ai.grakn.Grakn;
 import ai.grakn.GraknGraph;
+import ai.grakn.GraknGraphFactory;
 import ai.grakn.migration.base.MigrationCLI;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.Optional;
 
 import static ai.grakn.migration.base.MigrationCLI.die;
 
 /**
- * Export data from a Grakn graph to Graql statements - prints to System.out
+ * Export data from a Grakn graph to Graql statements - prints to System.out or writes to a file
  * @author alexandraorth
  */
 public class Main {
@@ -44,19 +52,36 @@ public class Main {
             die("");
         }
 
+        String file = options.getFile();
         System.out.println("Writing graph " + options.getKeyspace() + " using Grakn Engine " +
-                options.getUri() + " to System.out");
+                options.getUri() + " to " + (file == null ? "System.out" : file));
 
-        try(GraknGraph graph = Grakn.factory(options.getUri(), options.getKeyspace()).getGraph()) {
-            GraphWriter graphWriter = new GraphWriter(graph);
+        GraknGraphFactory factory = Grakn.factory(options.getUri(), options.getKeyspace());
+        try(GraknGraph graph = factory.getGraph()) {
+            graph.admin().enableReadOnly();
+            GraphWriter graphWriter = new GraphWriter(graph, factory::getGraph, options.getThreads());
 
-            if (options.exportOntology()) {
-                System.out.println(graphWriter.dumpOntology());
-            }
+            Writer out = file == null ?
+                    new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8)) :
+                    Files.newBufferedWriter(Paths.get(file), StandardCharsets.UTF_8);
+            try {
+                if (options.exportOntology()) {
+                    graphWriter.dumpOntology(out);
+                }
 
-            if (options.exportData()) {
-                System.out.println(graphWriter.dumpData());
+                if (options.exportData()) {
+                    graphWriter.dumpData(out);
+                }
+            } finally {
+                //System.out is flushed but stays open
+                if (file == null) {
+                    out.flush();
+                } else {
+                    out.close();
+                }
             }
+        } catch (IOException e) {
+            die(e);
         }
     }
 }
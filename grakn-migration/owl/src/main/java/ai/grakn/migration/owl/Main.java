@@ -62,6 +62,7 @@ public class Main {
         OWLMigrator migrator = new OWLMigrator();
         try(GraknGraph graph = Grakn.factory(options.getUri(), options.getKeyspace()).getGraph()) {
             migrator.graph(graph)
+                    .batchSize(options.getBatch())
                     .ontology(OWLManager.createOWLOntologyManager().loadOntologyFromOntologyDocument(owlfile))
                     .migrate();
 
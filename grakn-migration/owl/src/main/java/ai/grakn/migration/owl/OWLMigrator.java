@@ -29,17 +29,27 @@ import ai.grakn.concept.RoleType;
 import ai.grakn.concept.TypeName;
 import ai.grakn.exception.GraknValidationException;
 import ai.grakn.util.Schema;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotationAssertionAxiom;
 import org.semanticweb.owlapi.model.OWLAnnotationProperty;
+import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLClass;
 import org.semanticweb.owlapi.model.OWLClassAssertionAxiom;
 import org.semanticweb.owlapi.model.OWLDataProperty;
 import org.semanticweb.owlapi.model.OWLDataPropertyRangeAxiom;
+import org.semanticweb.owlapi.model.OWLDeclarationAxiom;
 import org.semanticweb.owlapi.model.OWLNamedIndividual;
 import org.semanticweb.owlapi.model.OWLObjectProperty;
 import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.vocab.OWL2Datatype;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Supplier;
 
 /**
@@ -48,15 +58,37 @@ import java.util.function.Supplier;
  * The OWL migrator is the main driver an OWL migration process: configure with the ontology to migrate, the
  * target Grakn graph and instance and hit go with the {@link OWLMigrator#migrate()}
  * </p>
+ * <p>
+ * The ontology is migrated in two passes. The first pass migrates the axioms describing classes and properties
+ * and commits them. The second pass migrates the assertions about individuals, committing every
+ * {@link OWLMigrator#batchSize(int)} assertions, so large ontologies are not migrated in a single transaction.
+ * Types are resolved once per transaction and kept until it is committed.
+ * </p>
+ * <p>
+ * Because batches are committed as they go, a migration which fails part way leaves the classes, properties and
+ * the assertions of every batch committed before the failure in the graph. Migrating the same ontology again is
+ * needed to complete it.
+ * </p>
  *
  * @author Borislav Iordanov
  *
  */
 public class OWLMigrator {
-    
+
+    public static final int BATCH_SIZE = 1000;
+
     private Namer namer;
     private OWLOntology ontology;
     private GraknGraph graph;
+    private int batchSize = BATCH_SIZE;
+
+    //Types resolved in the current transaction, dropped when it is committed
+    private final Map<IRI, EntityType> entityTypes = new HashMap<>();
+    private final Map<IRI, ResourceType<?>> resourceTypes = new HashMap<>();
+    private final Set<TypeName> typesWithIri = new HashSet<>();
+    private EntityType thing;
+    private ResourceType<String> iriResource;
+    private RelationType hasIriRelation;
 
     private <T> T eval(Supplier<T> f) {
         return f.get();
@@ -86,20 +118,67 @@ public class OWLMigrator {
     
     public OWLMigrator graph(GraknGraph graph) {
         this.graph = graph;
+        clearResolvedTypes();
         return this;
     }
     
     public GraknGraph graph() {
         return graph;
     }
+
+    public OWLMigrator batchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The batch size must be greater than 0 but was " + batchSize);
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public int batchSize() {
+        return batchSize;
+    }
     
     public void migrate() throws GraknValidationException {
         OwlGraknGraphStoringVisitor visitor = new OwlGraknGraphStoringVisitor(this);
         visitor.prepareOWL();
-        ontology.axioms().forEach(ax -> {
+        ontology.axioms().filter(ax -> !isAssertion(ax)).forEach(ax -> {
             ax.accept(visitor); 
         });
+        commit();
+
+        Iterator<OWLAxiom> assertions = ontology.axioms().filter(OWLMigrator::isAssertion).iterator();
+        for (int migrated = 1; assertions.hasNext(); migrated++) {
+            assertions.next().accept(visitor);
+            if (migrated % batchSize == 0) {
+                commit();
+            }
+        }
         graph.commitOnClose();
+        clearResolvedTypes();
+    }
+
+    /**
+     * @param axiom an axiom of the ontology
+     * @return true if the axiom is about individuals, rather than about classes and properties
+     */
+    static boolean isAssertion(OWLAxiom axiom) {
+        return axiom.isOfType(AxiomType.ABoxAxiomTypes) ||
+                axiom instanceof OWLAnnotationAssertionAxiom ||
+                (axiom instanceof OWLDeclarationAxiom && ((OWLDeclarationAxiom) axiom).getEntity().isOWLNamedIndividual());
+    }
+
+    private void commit() throws GraknValidationException {
+        graph.admin().commit();
+        clearResolvedTypes();
+    }
+
+    private void clearResolvedTypes() {
+        entityTypes.clear();
+        resourceTypes.clear();
+        typesWithIri.clear();
+        thing = null;
+        iriResource = null;
+        hasIriRelation = null;
     }
 
     public ResourceType.DataType<?> owlBuiltInToGraknDatatype(OWL2Datatype propertyType) {
@@ -119,14 +198,20 @@ public class OWLMigrator {
     }
     
     public EntityType owlThingEntityType() {
-        return graph.putEntityType(
-                namer.classEntityTypeName(
-                        ontology.getOWLOntologyManager().getOWLDataFactory().getOWLClass(
-                                OwlModel.THING.owlname()).getIRI()));
+        if (thing == null) {
+            thing = graph.putEntityType(
+                    namer.classEntityTypeName(
+                            ontology.getOWLOntologyManager().getOWLDataFactory().getOWLClass(
+                                    OwlModel.THING.owlname()).getIRI()));
+        }
+        return thing;
     }
 
     public ResourceType<String> owlIriResource(){
-        return graph.putResourceType(OwlModel.IRI.owlname(), ResourceType.DataType.STRING);
+        if (iriResource == null) {
+            iriResource = graph.putResourceType(OwlModel.IRI.owlname(), ResourceType.DataType.STRING);
+        }
+        return iriResource;
     }
 
     public <T> Entity getEntity(T id, ResourceType<T> rtype){
@@ -139,12 +224,17 @@ public class OWLMigrator {
         Entity current = getEntity(id, owlIriResource());
         if(current != null) return current;
 
-        TypeName hasIriResourceId = TypeName.of(OwlModel.IRI.owlname());
         ResourceType<String> iriResource = owlIriResource();
-        RoleType hasIriOwner = entityRole(type, iriResource);
-        RoleType hasIriValue = resourceRole(iriResource);
-        RelationType hasIriRelation = graph.putRelationType(namer.resourceRelation(hasIriResourceId))
-                .hasRole(hasIriOwner).hasRole(hasIriValue);
+        RoleType hasIriOwner = graph.putRoleType(namer.entityRole(iriResource.getName()));
+        RoleType hasIriValue = graph.putRoleType(namer.resourceRole(iriResource.getName()));
+        if (hasIriRelation == null) {
+            resourceRole(iriResource);
+            hasIriRelation = graph.putRelationType(namer.resourceRelation(TypeName.of(OwlModel.IRI.owlname())))
+                    .hasRole(hasIriOwner).hasRole(hasIriValue);
+        }
+        if (typesWithIri.add(type.getName())) {
+            type.playsRole(hasIriOwner);
+        }
 
         Entity entity = type.addEntity();
         Resource resourceInstance = iriResource.putResource(id);
@@ -155,11 +245,17 @@ public class OWLMigrator {
     }
     
     public EntityType entityType(OWLClass owlclass) {
+        EntityType resolved = entityTypes.get(owlclass.getIRI());
+        if (resolved != null) {
+            return resolved;
+        }
+
         EntityType type = graph.putEntityType(namer.classEntityTypeName(owlclass.getIRI()));
         EntityType thing = owlThingEntityType();
         if (Schema.MetaSchema.isMetaName(type.superType().getName()) && !type.equals(thing)) {
             type.superType(thing);
         }
+        entityTypes.put(owlclass.getIRI(), type);
         return type;
     }
 
@@ -228,6 +324,11 @@ public class OWLMigrator {
     }
     
     public ResourceType<?> resourceType(OWLDataProperty property) {
+        ResourceType<?> resolved = resourceTypes.get(property.getIRI());
+        if (resolved != null) {
+            return resolved;
+        }
+
         OWL2Datatype propertyType= eval(() -> {         
             Optional<OWLDataPropertyRangeAxiom> ax = ontology.dataPropertyRangeAxioms(property)
                 .filter(rangeAxiom -> rangeAxiom.getRange().isOWLDatatype() &&
@@ -237,6 +338,7 @@ public class OWLMigrator {
         });
         ResourceType.DataType<?> graknType = propertyType == null ? ResourceType.DataType.STRING : owlBuiltInToGraknDatatype(propertyType);
         ResourceType<?> resourceType = graph.putResourceType(namer.fromIri(property.getIRI()), graknType);
+        resourceTypes.put(property.getIRI(), resourceType);
         return resourceType;        
     }   
 }
\ No newline at end of file
@@ -20,6 +20,8 @@ package ai.grakn.migration.owl;
 
 import ai.grakn.migration.base.MigrationOptions;
 
+import static java.lang.Integer.parseInt;
+
 /**
  * Configure the default OWL migration options and access arguments passed by the user
  * @author alexandraorth
@@ -29,6 +31,13 @@ public class OwlMigrationOptions extends MigrationOptions {
     public OwlMigrationOptions(String[] args){
         super();
         options.addOption("i", "input", true, "input csv file");
+        options.addOption("b", "batch", true, "Number of assertions to migrate in one Grakn transaction. Default 1000. " +
+                "Batches are committed as they go, so a failed migration leaves the batches before it in the graph.");
         parse(args);
     }
+
+    @Override
+    public int getBatch() {
+        return parseInt(command.getOptionValue("b", Integer.toString(OWLMigrator.BATCH_SIZE)));
+    }
 }
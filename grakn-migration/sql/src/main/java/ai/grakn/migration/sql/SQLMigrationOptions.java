@@ -44,6 +44,9 @@ public class SQLMigrationOptions extends MigrationOptions {
         options.addOption("t", "template", true, "Graql template to apply to the data.");
         options.addOption("b", "batch", true, "Number of rows to execute in one Grakn transaction. Default 25.");
         options.addOption("a", "active", true, "Number of tasks (batches) running on the server at any one time. Default 25.");
+        options.addOption("fetch", true, "Number of rows fetched from the database at a time, turning off auto-commit. Use " + Integer.MIN_VALUE + " with MySQL. Default set by the JDBC driver.");
+        options.addOption("partition", true, "Numeric column of the query results to split them into ranges read concurrently.");
+        options.addOption("partitions", true, "Number of ranges to split the query results into. Default 4.");
 
         parse(args);
     }
@@ -90,4 +93,16 @@ public class SQLMigrationOptions extends MigrationOptions {
     public int getNumberActiveTasks() {
         return parseInt(command.getOptionValue("a", active));
     }
+
+    public int getFetchSize() {
+        return parseInt(command.getOptionValue("fetch", "0"));
+    }
+
+    public String getPartitionColumn() {
+        return command.getOptionValue("partition");
+    }
+
+    public int getPartitions() {
+        return parseInt(command.getOptionValue("partitions", "4"));
+    }
 }
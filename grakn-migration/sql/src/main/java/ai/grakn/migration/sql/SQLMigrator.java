@@ -20,29 +20,60 @@ package ai.grakn.migration.sql;
 
 import ai.grakn.migration.base.MigrationCLI;
 import com.google.common.collect.Maps;
+import org.jooq.Condition;
+import org.jooq.Cursor;
 import org.jooq.DSLContext;
+import org.jooq.Field;
 import org.jooq.Record;
+import org.jooq.Record2;
+import org.jooq.ResultQuery;
+import org.jooq.Table;
 import org.jooq.impl.DSL;
 
 import java.io.File;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static ai.grakn.migration.base.MigrationCLI.die;
 import static ai.grakn.migration.base.MigrationCLI.printInitMessage;
 
 /**
  * The SQL migrator will execute the given SQL query and then apply the given template to those results.
+ * <p>
+ * Rows are read through a cursor, fetching the given number of rows from the database at a time. The results of a
+ * query can also be split into ranges of a numeric column, which are read concurrently on connections of their own.
+ * <p>
+ * Whether a driver honours the fetch size depends on the driver. PostgreSQL only streams results on connections which
+ * are not in auto-commit mode, so auto-commit is switched off whenever a fetch size is given. MySQL ignores any fetch
+ * size other than {@link Integer#MIN_VALUE}, which streams the results a row at a time.
+ *
  * @author alexandraorth
  */
 public class SQLMigrator {
 
-    private final Stream<Record> records;
+    //The number of rows read ahead of the migration when reading partitions concurrently
+    static final int READ_AHEAD = 10_000;
+
+    private final Stream<Map<String, Object>> rows;
 
     public static void main(String[] args) {
         MigrationCLI.init(args, SQLMigrationOptions::new).stream()
@@ -60,10 +91,32 @@ public class SQLMigrator {
 
         printInitMessage(options, options.getLocation() + " using " + options.getQuery());
 
-        try(Connection connection =
-                    DriverManager.getConnection(options.getLocation(), options.getUsername(), options.getPassword())) {
+        Supplier<Connection> connections = () -> {
+            try {
+                Connection connection = DriverManager.getConnection(options.getLocation(), options.getUsername(), options.getPassword());
+                //Some drivers, such as PostgreSQL, read every row at once unless auto-commit is off
+                if(options.getFetchSize() != 0) connection.setAutoCommit(false);
+                return connection;
+            } catch (SQLException e) {
+                throw new RuntimeException(e);
+            }
+        };
+
+        if(options.getPartitionColumn() != null){
+            try(Connection connection = connections.get();
+                Stream<Map<String, Object>> data = new SQLMigrator(options.getQuery(), connection, connections,
+                        options.getPartitionColumn(), options.getPartitions(), options.getFetchSize()).convert()) {
+
+                MigrationCLI.loadOrPrint(sqlTemplate, data, options);
+            } catch (Throwable throwable){
+                die(throwable);
+            }
+            return;
+        }
 
-            SQLMigrator sqlMigrator = new SQLMigrator(options.getQuery(), connection);
+        try(Connection connection = connections.get()) {
+
+            SQLMigrator sqlMigrator = new SQLMigrator(options.getQuery(), connection, options.getFetchSize());
 
             MigrationCLI.loadOrPrint(sqlTemplate, sqlMigrator.convert(), options);
         } catch (Throwable throwable){
@@ -77,8 +130,58 @@ public class SQLMigrator {
      * @param connection JDBC connection to the SQL database
      */
     public SQLMigrator(String query, Connection connection){
-        DSLContext create = DSL.using(connection);
-        records = create.fetchStream(query);
+        this(query, connection, 0);
+    }
+
+    /**
+     * Construct a SQL migrator to migrate data from the given DB through a cursor
+     * @param query SQL query to gather data from database
+     * @param connection JDBC connection to the SQL database
+     * @param fetchSize number of rows fetched from the database at a time, or 0 for the default of the driver
+     */
+    public SQLMigrator(String query, Connection connection, int fetchSize){
+        rows = read(DSL.using(connection).resultQuery(query), fetchSize);
+    }
+
+    /**
+     * Construct a SQL migrator to migrate data from the given DB, splitting the results of the query into ranges of
+     * a numeric column which are read concurrently.
+     * <p>
+     * Rows where the column is null are read with the first range.
+     *
+     * @param query SQL query to gather data from database
+     * @param connection JDBC connection to the SQL database, used to find the range of the column
+     * @param connections supplier of a new JDBC connection to the same database for each partition
+     * @param column numeric column in the results of the query to partition on
+     * @param partitions number of ranges to split the results into
+     * @param fetchSize number of rows fetched from the database at a time, or 0 for the default of the driver
+     */
+    public SQLMigrator(String query, Connection connection, Supplier<Connection> connections,
+                       String column, int partitions, int fetchSize){
+        Table<Record> results = DSL.table("(" + query + ")").as("results");
+        Field<Object> field = DSL.field(column);
+
+        Record2<Object, Object> range = DSL.using(connection)
+                .select(DSL.min(field), DSL.max(field)).from(results).fetchOne();
+        BigDecimal min = range.get(0, BigDecimal.class);
+        BigDecimal max = range.get(1, BigDecimal.class);
+
+        if(min == null || partitions <= 1){
+            rows = read(DSL.using(connection).resultQuery(query), fetchSize);
+            return;
+        }
+
+        List<Condition> conditions = new ArrayList<>();
+        BigDecimal width = max.subtract(min).divide(BigDecimal.valueOf(partitions), 10, RoundingMode.CEILING);
+        for(int i = 0; i < partitions; i++){
+            BigDecimal lower = min.add(width.multiply(BigDecimal.valueOf(i)));
+            Condition condition = i == partitions - 1 ?
+                    field.ge(lower).and(field.le(max)) :
+                    field.ge(lower).and(field.lt(lower.add(width)));
+            conditions.add(i == 0 ? condition.or(field.isNull()) : condition);
+        }
+
+        rows = readConcurrently(connections, results, conditions, fetchSize);
     }
 
     /**
@@ -86,7 +189,7 @@ public class SQLMigrator {
      * @return stream of parsed insert queries
      */
     public Stream<Map<String, Object>> convert() {
-        return records.map(Record::intoMap).map(this::convertToValidValues);
+        return rows;
     }
 
     /**
@@ -96,23 +199,96 @@ public class SQLMigrator {
      */
     public Map<String, Object> convertToValidValues(Map<String, Object> data){
         data = Maps.filterValues(data, Objects::nonNull);
-        data = Maps.transformValues(data, this::convertToSupportedTypes);
+        data = Maps.transformValues(data, SQLRow::convertToSupportedType);
         return data;
     }
 
     /**
-     * If a SQL value is not one of the supported types, convert it to a string
-     * @param object object to convert
-     * @return object as one of the supported types
+     * Read the results of a query through a cursor
+     * @param query query to read
+     * @param fetchSize number of rows fetched from the database at a time, or 0 for the default of the driver
+     * @return the rows of the results, which closes the cursor when closed
+     */
+    private static Stream<Map<String, Object>> read(ResultQuery<Record> query, int fetchSize){
+        Cursor<Record> cursor = query.fetchSize(fetchSize).fetchLazy();
+        SQLRow.Columns columns = new SQLRow.Columns(cursor.fields());
+        return cursor.stream().<Map<String, Object>>map(columns::read).onClose(cursor::close);
+    }
+
+    /**
+     * Read partitions of the results of a query concurrently, each on a connection of its own.
+     * <p>
+     * Rows are handed over through a bounded queue, so reading does not get further than {@link #READ_AHEAD} rows
+     * ahead of the migration.
+     *
+     * @return the rows of all partitions in no particular order, which stops reading when closed
      */
-    private Object convertToSupportedTypes(Object object) {
-        if(!(object instanceof String ||
-            object instanceof Number ||
-            object instanceof List ||
-            object instanceof Boolean)){
-            return object.toString();
+    private static Stream<Map<String, Object>> readConcurrently(Supplier<Connection> connections, Table<Record> results,
+                                                                List<Condition> partitions, int fetchSize){
+        BlockingQueue<Object> queue = new ArrayBlockingQueue<>(READ_AHEAD);
+        Object done = new Object();
+        ExecutorService pool = Executors.newFixedThreadPool(partitions.size());
+
+        for(Condition partition : partitions){
+            pool.submit(() -> {
+                Object last = done;
+                try(Connection connection = connections.get();
+                    Stream<Map<String, Object>> rows = read(DSL.using(connection).selectFrom(results).where(partition), fetchSize)){
+                    Iterator<Map<String, Object>> iterator = rows.iterator();
+                    while(iterator.hasNext()) queue.put(iterator.next());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (Throwable throwable) {
+                    last = throwable;
+                }
+
+                try {
+                    queue.put(last);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
         }
+        pool.shutdown();
+
+        Iterator<Map<String, Object>> rows = new Iterator<Map<String, Object>>() {
+            private int remaining = partitions.size();
+            private Object next = null;
+
+            @Override
+            public boolean hasNext() {
+                while(next == null && remaining > 0){
+                    Object taken;
+                    try {
+                        taken = queue.take();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RuntimeException(e);
+                    }
+
+                    if(taken == done){
+                        remaining--;
+                    } else if(taken instanceof Throwable){
+                        throw new RuntimeException((Throwable) taken);
+                    } else {
+                        next = taken;
+                    }
+                }
+                return next != null;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public Map<String, Object> next() {
+                if(!hasNext()) throw new NoSuchElementException();
+                Map<String, Object> row = (Map<String, Object>) next;
+                next = null;
+                return row;
+            }
+        };
 
-        return object;
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(rows, Spliterator.NONNULL), false)
+                .onClose(pool::shutdownNow);
     }
 }
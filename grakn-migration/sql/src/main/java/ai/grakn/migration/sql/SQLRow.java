@@ -0,0 +1,156 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.migration.sql;
+
+import org.jooq.Field;
+import org.jooq.Record;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A row of an SQL result, which can be given to a template as a map from column names to values.
+ * <p>
+ * The values are held in an array and the column names are shared with every other row of the same result, instead
+ * of copying them into a map for each row. Null values are left out and values of types which templates do not
+ * support are converted to strings once, when the row is read.
+ *
+ * @author agent
+ */
+class SQLRow extends AbstractMap<String, Object> {
+
+    private final Columns columns;
+    private final Object[] values;
+    private final int size;
+
+    private SQLRow(Columns columns, Record record) {
+        this.columns = columns;
+        this.values = new Object[columns.names.length];
+
+        int nonNull = 0;
+        for (int i = 0; i < values.length; i++) {
+            Object value = columns.duplicate[i] ? null : record.getValue(i);
+            if (value != null) {
+                values[i] = convertToSupportedType(value);
+                nonNull++;
+            }
+        }
+        this.size = nonNull;
+    }
+
+    /**
+     * The names of the columns of a result, shared by all of its rows.
+     */
+    static class Columns {
+        private final String[] names;
+        private final boolean[] duplicate;
+        private final Map<String, Integer> indices = new HashMap<>();
+
+        Columns(Field<?>[] fields) {
+            names = new String[fields.length];
+            duplicate = new boolean[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                names[i] = fields[i].getName();
+                //only the first of several columns with the same name is kept
+                duplicate[i] = indices.putIfAbsent(names[i], i) != null;
+            }
+        }
+
+        /**
+         * @param record a record of the result
+         * @return the record as a row
+         */
+        SQLRow read(Record record) {
+            return new SQLRow(this, record);
+        }
+    }
+
+    @Override
+    public Object get(Object column) {
+        Integer index = columns.indices.get(column);
+        return index == null ? null : values[index];
+    }
+
+    @Override
+    public boolean containsKey(Object column) {
+        return get(column) != null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new Iterator<Entry<String, Object>>() {
+                    private int next = advance(0);
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < values.length;
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        if (!hasNext()) throw new NoSuchElementException();
+                        Entry<String, Object> entry = new SimpleImmutableEntry<>(columns.names[next], values[next]);
+                        next = advance(next + 1);
+                        return entry;
+                    }
+
+                    private int advance(int from) {
+                        while (from < values.length && values[from] == null) from++;
+                        return from;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * If a SQL value is not one of the supported types, convert it to a string
+     * @param object object to convert
+     * @return object as one of the supported types
+     */
+    static Object convertToSupportedType(Object object) {
+        if(!(object instanceof String ||
+            object instanceof Number ||
+            object instanceof List ||
+            object instanceof Boolean)){
+            return object.toString();
+        }
+
+        return object;
+    }
+}
@@ -0,0 +1,27 @@
+package ai.grakn.graql.internal.query.analytics;
+
+import ai.grakn.GraknComputer;
+import ai.grakn.GraknGraph;
+
+import java.util.Optional;
+
+/**
+ *
+ */
+public class PathQueryImplMock extends PathQueryImpl {
+    private int graphComputerCalls = 0;
+
+    public PathQueryImplMock(Optional<GraknGraph> graph, int frontierBudget) {
+        super(graph, frontierBudget);
+    }
+
+    public int getGraphComputerCalls() {
+        return graphComputerCalls;
+    }
+
+    @Override
+    GraknComputer getGraphComputer() {
+        graphComputerCalls++;
+        return super.getGraphComputer();
+    }
+}
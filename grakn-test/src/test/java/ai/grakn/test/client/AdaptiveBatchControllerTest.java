@@ -0,0 +1,90 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.test.client;
+
+import ai.grakn.client.AdaptiveBatchController;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class AdaptiveBatchControllerTest {
+
+    @Test
+    public void whenNotAdaptive_LimitsNeverChange(){
+        AdaptiveBatchController controller = new AdaptiveBatchController(25, 10);
+
+        controller.onSuccess(0);
+        controller.onFailure();
+
+        assertEquals(25, controller.batchSize());
+        assertEquals(10, controller.activeTaskLimit());
+    }
+
+    @Test
+    public void whenTasksAreFast_LimitsIncreaseUpToMaximum(){
+        AdaptiveBatchController controller = new AdaptiveBatchController(10, 1, true, 1000, 20, 2);
+
+        controller.onSuccess(10);
+        assertEquals(15, controller.batchSize());
+        assertEquals(2, controller.activeTaskLimit());
+
+        controller.onSuccess(10);
+        controller.onSuccess(10);
+        assertEquals(20, controller.batchSize());
+        assertEquals(2, controller.activeTaskLimit());
+    }
+
+    @Test
+    public void whenTasksAreSlowOrFail_LimitsAreHalved(){
+        AdaptiveBatchController controller = new AdaptiveBatchController(40, 8, true, 1000, 100, 100);
+
+        controller.onSuccess(5000);
+        assertEquals(20, controller.batchSize());
+        assertEquals(4, controller.activeTaskLimit());
+
+        controller.onFailure();
+        controller.onFailure();
+        controller.onFailure();
+        assertEquals(2, controller.batchSize());
+        assertEquals(1, controller.activeTaskLimit());
+    }
+
+    @Test
+    public void whenTasksAreReleased_ActiveTasksAreTracked() throws InterruptedException {
+        AdaptiveBatchController controller = new AdaptiveBatchController(10, 2);
+
+        controller.acquire();
+        controller.acquire();
+        assertEquals(2, controller.activeTasks());
+
+        controller.release();
+        assertEquals(1, controller.activeTasks());
+    }
+
+    @Test
+    public void whenReconfigured_ActiveTasksAreKept() throws InterruptedException {
+        AdaptiveBatchController controller = new AdaptiveBatchController(10, 2);
+
+        controller.acquire();
+        controller.configure(50, 5, true, 1000, 100, 10);
+        assertEquals(50, controller.batchSize());
+        assertEquals(5, controller.activeTaskLimit());
+        assertEquals(1, controller.activeTasks());
+    }
+}
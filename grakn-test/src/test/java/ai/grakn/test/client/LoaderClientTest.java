@@ -83,6 +83,12 @@ public class LoaderClientTest {
         loadAndTime();
     }
 
+    @Test
+    public void loadWithAdaptiveLoadingTest(){
+        loader.setBatchSize(1).setNumberActiveTasks(1).setAdaptiveLoading(true);
+        loadAndTime();
+    }
+
     @Test
     public void engineRESTFailsWhileLoadingRetryTrue_LoaderRetriesAndWaits(){
         AtomicInteger tasksCompletedWithoutError = new AtomicInteger(0);
@@ -0,0 +1,62 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.test.engine.cache;
+
+import ai.grakn.engine.cache.QueryCache;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+
+public class QueryCacheTest {
+
+    @Test
+    public void testQueriesDifferingInLayoutShareAResult() {
+        QueryCache cache = new QueryCache(10, 60000);
+        cache.put(QueryCache.key("keyspace", "match $x isa person;", false, false, "graql"), 0, "result");
+
+        assertEquals("result", cache.get(QueryCache.key("Keyspace", "  match\n\t$x   isa person; ", false, false, "graql")));
+        assertNull(cache.get(QueryCache.key("keyspace", "match $x isa person;", true, false, "graql")));
+        assertNull(cache.get(QueryCache.key("keyspace", "match $x isa person;", false, false, "hal")));
+        assertNotEquals(
+                QueryCache.key("keyspace", "match $x value \"a  b\";", false, false, "graql"),
+                QueryCache.key("keyspace", "match $x value \"a b\";", false, false, "graql"));
+        assertEquals(1, cache.getStats().hitCount());
+    }
+
+    @Test
+    public void testResultsAreDroppedWhenTheKeyspaceChanges() {
+        QueryCache cache = new QueryCache(10, 60000);
+        QueryCache.Key key = QueryCache.key("keyspace", "match $x isa person;", false, false, "graql");
+        QueryCache.Key otherKey = QueryCache.key("other", "match $x isa person;", false, false, "graql");
+
+        cache.put(key, cache.getGeneration("keyspace"), "result");
+        cache.put(otherKey, cache.getGeneration("other"), "other result");
+        cache.invalidate("keyspace");
+        assertNull(cache.get(key));
+        assertEquals("other result", cache.get(otherKey));
+
+        //A result computed before the keyspace changed is not cached
+        long generation = cache.getGeneration("keyspace");
+        cache.invalidate("keyspace");
+        cache.put(key, generation, "stale result");
+        assertNull(cache.get(key));
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.test.engine.controller;
+
+import ai.grakn.GraknGraph;
+import ai.grakn.graph.internal.computer.GraknSparkComputer;
+import ai.grakn.test.EngineContext;
+import ai.grakn.util.REST;
+import com.jayway.restassured.http.ContentType;
+import com.jayway.restassured.response.Response;
+import mjson.Json;
+import org.junit.After;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static ai.grakn.test.GraknTestEnv.usingTitan;
+import static com.jayway.restassured.RestAssured.delete;
+import static com.jayway.restassured.RestAssured.get;
+import static com.jayway.restassured.RestAssured.given;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+public class AnalyticsControllerTest {
+
+    @ClassRule
+    public static final EngineContext engine = EngineContext.startInMemoryServer();
+
+    @After
+    public void takeDown() {
+        GraknSparkComputer.clear();
+    }
+
+    @Test
+    public void testNoGraphsLoaded() {
+        GraknSparkComputer.clear();
+
+        Response response = get(REST.WebPath.ANALYTICS_GRAPH_RDD_URI).then().statusCode(200).extract().response();
+        Json snapshots = Json.read(response.getBody().asString());
+        assertTrue(snapshots.isArray());
+        assertEquals(0, snapshots.asJsonList().size());
+    }
+
+    @Test
+    public void testEvictKeyspaceWithoutGraph() {
+        String body = delete(REST.WebPath.ANALYTICS_GRAPH_RDD_URI + "?" + REST.Request.KEYSPACE_PARAM + "=nothing")
+                .then().statusCode(200).extract().response().getBody().asString();
+        assertEquals("There is no loaded graph of [nothing]", body);
+    }
+
+    @Test
+    public void testSecondComputeReusesLoadedGraph() {
+        //Only the Spark graph computer keeps the loaded graph
+        assumeTrue(usingTitan());
+
+        try (GraknGraph graph = engine.factoryWithNewKeyspace().getGraph()) {
+            graph.putEntityType("thing").addEntity();
+            graph.admin().commit();
+
+            assertEquals(1L, graph.graql().compute().count().execute().longValue());
+            Optional<Long> version = loadedVersion(graph.getKeyspace());
+            assertTrue(version.isPresent());
+
+            assertEquals(1L, graph.graql().compute().count().execute().longValue());
+            assertEquals(version, loadedVersion(graph.getKeyspace()));
+        }
+    }
+
+    @Test
+    public void testCommitLogInvalidatesLoadedGraph() {
+        assumeTrue(usingTitan());
+
+        try (GraknGraph graph = engine.factoryWithNewKeyspace().getGraph()) {
+            graph.putEntityType("thing").addEntity();
+            graph.admin().commit();
+
+            graph.graql().compute().count().execute();
+            assertTrue(loadedVersion(graph.getKeyspace()).isPresent());
+
+            given().contentType(ContentType.JSON).body("{\"concepts\":[]}").when()
+                    .post(REST.WebPath.COMMIT_LOG_URI + "?" + REST.Request.KEYSPACE_PARAM + "=" + graph.getKeyspace())
+                    .then().statusCode(200);
+            assertFalse(loadedVersion(graph.getKeyspace()).isPresent());
+        }
+    }
+
+    @Test
+    public void testEvictAllGraphs() {
+        delete(REST.WebPath.ANALYTICS_GRAPH_RDD_URI).then().statusCode(200);
+
+        Json snapshots = Json.read(get(REST.WebPath.ANALYTICS_GRAPH_RDD_URI).getBody().asString());
+        assertEquals(0, snapshots.asJsonList().size());
+    }
+
+    private static Optional<Long> loadedVersion(String keyspace) {
+        Json snapshots = Json.read(get(REST.WebPath.ANALYTICS_GRAPH_RDD_URI).getBody().asString());
+        return snapshots.asJsonList().stream()
+                .filter(snapshot -> snapshot.at(REST.Request.KEYSPACE_PARAM).asString().equalsIgnoreCase(keyspace))
+                .map(snapshot -> snapshot.at("version").asLong())
+                .findAny();
+    }
+}
@@ -18,6 +18,7 @@
 
 package ai.grakn.test.engine.controller;
 
+import ai.grakn.GraknGraph;
 import ai.grakn.engine.util.ConfigProperties;
 import ai.grakn.test.EngineContext;
 import ai.grakn.util.REST;
@@ -26,8 +27,12 @@ import mjson.Json;
 import org.junit.ClassRule;
 import org.junit.Test;
 
+import static ai.grakn.test.GraknTestEnv.usingTinker;
 import static com.jayway.restassured.RestAssured.with;
+import static junit.framework.TestCase.assertEquals;
 import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
+import static org.junit.Assume.assumeFalse;
 
 public class StatusController {
     @ClassRule
@@ -43,4 +48,37 @@ public class StatusController {
 
         assertFalse(resultObject.has(ConfigProperties.JWT_SECRET_PROPERTY));
     }
+
+    @Test
+    public void testGraphStatusCountsRequests() {
+        try (GraknGraph graph = engine.factoryWithNewKeyspace().getGraph()) {
+            Json status = graphStatus(graph.getKeyspace());
+            assertTrue(status.at("requests").asLong() > 0);
+            assertTrue(status.at("waitMillis").asLong() >= 0);
+        }
+    }
+
+    @Test
+    public void testGraphStatusCountsOpenTransactions() {
+        // Tinker graphs always report a single transaction
+        assumeFalse(usingTinker());
+
+        String keyspace;
+        try (GraknGraph graph = engine.factoryWithNewKeyspace().getGraph()) {
+            keyspace = graph.getKeyspace();
+            assertEquals(1, graphStatus(keyspace).at("activeTransactions").asInteger());
+        }
+
+        assertEquals(0, graphStatus(keyspace).at("activeTransactions").asInteger());
+    }
+
+    private static Json graphStatus(String keyspace) {
+        Response response = with()
+                .get(REST.WebPath.GET_STATUS_GRAPHS_URI)
+                .then().statusCode(200).extract().response().andReturn();
+
+        return Json.read(response.getBody().asString()).asJsonList().stream()
+                .filter(graph -> graph.at("keyspace").asString().equals(keyspace))
+                .findAny().orElseThrow(() -> new AssertionError("No status for " + keyspace));
+    }
 }
@@ -41,8 +41,12 @@ import org.junit.Ignore;
 import org.junit.Test;
 
 import java.util.Date;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import static ai.grakn.engine.TaskStatus.COMPLETED;
+import static ai.grakn.engine.TaskStatus.CREATED;
 import static ai.grakn.engine.TaskStatus.STOPPED;
 import static ai.grakn.util.REST.WebPath.TASKS_SCHEDULE_URI;
 import static com.jayway.restassured.RestAssured.get;
@@ -50,8 +54,10 @@ import static com.jayway.restassured.RestAssured.given;
 import static com.jayway.restassured.RestAssured.put;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
 
 public class TasksControllerTest {
     private TaskId singleTask;
@@ -143,6 +149,35 @@ public class TasksControllerTest {
 //                .and().body("status", equalTo(STOPPED.toString()));
     }
 
+    @Test
+    public void testGetTaskWithWaitReturnsOnceTaskCompletes() throws Exception {
+        MultiQueueTaskManager manager = (MultiQueueTaskManager) engine.getTaskManager();
+        TaskState running = TaskState.of(ShortExecutionTestTask.class, this.getClass().getName(), TaskSchedule.now(), Json.object());
+        TaskId runningTask = manager.storage().newState(running.status(CREATED));
+
+        ScheduledExecutorService completer = Executors.newSingleThreadScheduledExecutor();
+        completer.schedule(() -> manager.storage().updateState(running.status(COMPLETED)), 500, TimeUnit.MILLISECONDS);
+
+        long start = System.currentTimeMillis();
+        given().queryParam("wait", 20000)
+               .get("/tasks/" + runningTask)
+               .then().statusCode(200)
+               .and().body("status", equalTo(COMPLETED.toString()));
+        long elapsed = System.currentTimeMillis() - start;
+        completer.shutdown();
+
+        // The state is read again at most a second after the task completes, long before the wait expires
+        assertThat(elapsed, greaterThanOrEqualTo(500L));
+        assertThat(elapsed, lessThan(5000L));
+    }
+
+    @Test
+    public void testGetTaskWithInvalidWait() {
+        given().queryParam("wait", "soon")
+               .get("/tasks/"+singleTask)
+               .then().statusCode(400);
+    }
+
     @Test
     public void testScheduleWithoutOptional() {
         given().queryParam("className", ShortExecutionTestTask.class.getName())
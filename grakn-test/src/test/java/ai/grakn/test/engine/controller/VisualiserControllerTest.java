@@ -114,6 +114,41 @@ public class VisualiserControllerTest {
         assertEquals(firstPerson.at("_id"), samePerson.at("_id"));
     }
 
+    @Test
+    public void testMatchQueryResultChangesAfterCommit() {
+        GraknGraphFactory factory = engine.factoryWithNewKeyspace();
+        GraknGraph newGraph = factory.getGraph();
+        newGraph.putEntityType("thing").addEntity();
+        newGraph.commitOnClose();
+        newGraph.close();
+
+        assertEquals(1, countMatches(newGraph.getKeyspace(), "match $x isa thing;"));
+
+        newGraph = factory.getGraph();
+        newGraph.getEntityType("thing").addEntity();
+        newGraph.commitOnClose();
+        newGraph.close();
+
+        //Engine is told about commits with nothing to post process in the background
+        long timeout = System.currentTimeMillis() + 10000;
+        int matches;
+        do {
+            matches = countMatches(newGraph.getKeyspace(), "match $x isa thing;");
+        } while (matches != 2 && System.currentTimeMillis() < timeout);
+        assertEquals(2, matches);
+    }
+
+    private int countMatches(String keyspace, String query){
+        Response response = with()
+                .queryParam(KEYSPACE_PARAM, keyspace)
+                .queryParam(QUERY_FIELD, query)
+                .accept(HAL_CONTENTTYPE)
+                .get(REST.WebPath.GRAPH_MATCH_QUERY_URI)
+                .then().statusCode(200).extract().response().andReturn();
+
+        return Json.read(response.getBody().asString()).asJsonList().size();
+    }
+
     //Test that we don't get an error 500 when asking for relationships without specifying their types
     @Test
     public void testGeneratedRelationshipsWithoutType() {
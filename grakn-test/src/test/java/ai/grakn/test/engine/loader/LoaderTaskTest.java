@@ -0,0 +1,120 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.test.engine.loader;
+
+import ai.grakn.GraknGraph;
+import ai.grakn.GraknGraphFactory;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.EntityType;
+import ai.grakn.concept.ResourceType;
+import ai.grakn.concept.RoleType;
+import ai.grakn.engine.loader.LoaderTask;
+import ai.grakn.exception.GraknValidationException;
+import ai.grakn.graph.internal.AbstractGraknGraph;
+import ai.grakn.test.EngineContext;
+import ai.grakn.util.Schema;
+import mjson.Json;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static ai.grakn.util.REST.Request.KEYSPACE_PARAM;
+import static ai.grakn.util.REST.Request.TASK_LOADER_INSERTS;
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+import static org.junit.Assert.assertEquals;
+
+public class LoaderTaskTest {
+    private static final int NUM_TASKS = 8;
+    private static final int NUM_PEOPLE = 5;
+
+    @ClassRule
+    public static final EngineContext engine = EngineContext.startInMemoryServer();
+
+    @Test
+    public void testConcurrentLoadersOverSameRolePlayersCreateNoDuplicates() throws Exception {
+        GraknGraphFactory factory = engine.factoryWithNewKeyspace();
+        List<ConceptId> people = createPeople(factory);
+        String keyspace = factory.getGraph().getKeyspace();
+
+        ExecutorService executor = Executors.newFixedThreadPool(NUM_TASKS);
+        List<Future<?>> tasks = new ArrayList<>();
+        for (int i = 0; i < NUM_TASKS; i++) {
+            Json configuration = Json.object(
+                    KEYSPACE_PARAM, keyspace,
+                    TASK_LOADER_INSERTS, insertsOverEveryPair(people));
+            tasks.add(executor.submit(() -> new LoaderTask().start(checkpoint -> {}, configuration)));
+        }
+
+        //Every task must succeed without running out of retries
+        for (Future<?> task : tasks) {
+            task.get();
+        }
+        executor.shutdown();
+
+        try (GraknGraph graph = factory.getGraph()) {
+            assertEquals(1, graph.getResourcesByValue("shared name").size());
+            assertEquals(NUM_PEOPLE + 1, graph.getResourceType("name").instances().size());
+
+            Map<Object, Long> castingsByIndex = ((AbstractGraknGraph) graph).getTinkerPopGraph().traversal().V()
+                    .hasLabel(Schema.BaseType.CASTING.name())
+                    .values(Schema.ConceptProperty.INDEX.name())
+                    .toList().stream()
+                    .collect(groupingBy(index -> index, counting()));
+
+            //Each person plays both friendship roles and owns names, and every name plays the value role
+            assertEquals(2 * NUM_PEOPLE + 2 * NUM_PEOPLE + 1, castingsByIndex.size());
+            castingsByIndex.forEach((index, count) -> assertEquals("Duplicate casting " + index, 1L, (long) count));
+        }
+    }
+
+    private static List<ConceptId> createPeople(GraknGraphFactory factory) throws GraknValidationException {
+        List<ConceptId> people = new ArrayList<>();
+        try (GraknGraph graph = factory.getGraph()) {
+            RoleType friend1 = graph.putRoleType("friend1");
+            RoleType friend2 = graph.putRoleType("friend2");
+            graph.putRelationType("friendship").hasRole(friend1).hasRole(friend2);
+            ResourceType<String> name = graph.putResourceType("name", ResourceType.DataType.STRING);
+            EntityType person = graph.putEntityType("person").playsRole(friend1).playsRole(friend2).hasResource(name);
+
+            for (int i = 0; i < NUM_PEOPLE; i++) {
+                people.add(person.addEntity().getId());
+            }
+            graph.admin().commit();
+        }
+        return people;
+    }
+
+    private static List<String> insertsOverEveryPair(List<ConceptId> people) {
+        List<String> inserts = new ArrayList<>();
+        for (int i = 0; i < people.size(); i++) {
+            ConceptId first = people.get(i);
+            ConceptId second = people.get((i + 1) % people.size());
+            inserts.add("insert $x id '" + first.getValue() + "' has name 'shared name' has name 'person " + i + "'; " +
+                    "$y id '" + second.getValue() + "'; (friend1: $x, friend2: $y) isa friendship;");
+        }
+        return inserts;
+    }
+}
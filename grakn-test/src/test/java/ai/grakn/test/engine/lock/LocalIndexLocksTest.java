@@ -0,0 +1,64 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.test.engine.lock;
+
+import ai.grakn.engine.lock.LocalIndexLocks;
+import org.junit.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class LocalIndexLocksTest {
+
+    @Test
+    public void testIndexLockedByAnotherThreadTimesOut() throws Exception {
+        LocalIndexLocks locks = new LocalIndexLocks(16, 100);
+        ExecutorService otherThread = Executors.newSingleThreadExecutor();
+
+        assertTrue(locks.tryLock("keyspace", "index"));
+        assertTrue(locks.tryLock("keyspace", "index"));
+        assertFalse(otherThread.submit(() -> locks.tryLock("keyspace", "index")).get());
+
+        locks.unlock("keyspace", "index");
+        assertFalse(otherThread.submit(() -> locks.tryLock("keyspace", "index")).get());
+
+        locks.unlock("keyspace", "index");
+        assertTrue(otherThread.submit(() -> locks.tryLock("keyspace", "index")).get());
+
+        otherThread.shutdown();
+    }
+
+    @Test
+    public void testIndexLockedByAnotherThreadIsNotWaitedFor() throws Exception {
+        LocalIndexLocks locks = new LocalIndexLocks(16, 10_000);
+        ExecutorService otherThread = Executors.newSingleThreadExecutor();
+
+        assertTrue(locks.tryLockWithoutWaiting("keyspace", "index"));
+        assertFalse(otherThread.submit(() -> locks.tryLockWithoutWaiting("keyspace", "index")).get(1, TimeUnit.SECONDS));
+
+        locks.unlock("keyspace", "index");
+        assertTrue(otherThread.submit(() -> locks.tryLockWithoutWaiting("keyspace", "index")).get());
+
+        otherThread.shutdown();
+    }
+}
@@ -32,7 +32,11 @@ import ai.grakn.exception.GraknValidationException;
 import ai.grakn.graph.internal.computer.GraknSparkComputer;
 import ai.grakn.graql.ComputeQuery;
 import ai.grakn.graql.Graql;
+import ai.grakn.graql.internal.analytics.ClusterMemberMapReduce;
+import ai.grakn.graql.internal.analytics.ConnectedComponentVertexProgram;
 import ai.grakn.graql.internal.analytics.GraknVertexProgram;
+import ai.grakn.graql.internal.analytics.InstanceGraphProjection;
+import ai.grakn.graql.internal.analytics.UnionFind;
 import ai.grakn.test.EngineContext;
 import ai.grakn.util.Schema;
 import ch.qos.logback.classic.Level;
@@ -45,7 +49,9 @@ import org.junit.ClassRule;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -253,6 +259,73 @@ public class ClusteringTest {
 
     }
 
+    @Test
+    public void testConnectedComponentOnLongChain() throws Exception {
+        int chainLength = 30;
+        Set<String> chain = new HashSet<>();
+        String lonelyId;
+
+        try (GraknGraph graph = factory.getGraph()) {
+            EntityType entityType = graph.putEntityType(thing);
+            RoleType role1 = graph.putRoleType("role1");
+            RoleType role2 = graph.putRoleType("role2");
+            entityType.playsRole(role1).playsRole(role2);
+            RelationType relationType = graph.putRelationType(related).hasRole(role1).hasRole(role2);
+
+            Entity previous = entityType.addEntity();
+            chain.add(previous.getId().getValue());
+            for (int i = 0; i < chainLength; i++) {
+                Entity next = entityType.addEntity();
+                chain.add(next.getId().getValue());
+                chain.add(relationType.addRelation()
+                        .putRolePlayer(role1, previous).putRolePlayer(role2, next).getId().getValue());
+                previous = next;
+            }
+            lonelyId = entityType.addEntity().getId().getValue();
+            graph.commitOnClose();
+        }
+
+        try (GraknGraph graph = factory.getGraph()) {
+            Map<String, Set<String>> memberMap = graph.graql().compute().cluster().members().execute();
+            assertEquals(2, memberMap.size());
+            assertTrue(memberMap.containsValue(chain));
+            assertEquals(Collections.singleton(lonelyId), memberMap.get(lonelyId));
+
+            Map<String, Long> sizeMap = graph.graql().compute().cluster().clusterSize(chain.size()).execute();
+            assertEquals(1, sizeMap.size());
+            assertEquals(chain.size(), sizeMap.values().iterator().next().longValue());
+        }
+    }
+
+    @Test
+    public void testProjectionAndVertexProgramLabelClustersTheSame() throws Exception {
+        // TODO: Fix in TinkerGraphComputer
+        assumeFalse(usingTinker());
+
+        addOntologyAndEntities();
+        addResourceRelations();
+
+        try (GraknGraph graph = factory.getGraph()) {
+            Set<TypeName> memberTypes = Sets.newHashSet(thing, anotherThing, related, resourceType1, resourceType2,
+                    resourceType3, resourceType4, resourceType5, resourceType6).stream()
+                    .map(TypeName::of).collect(Collectors.toSet());
+            Set<TypeName> selectedTypes = new HashSet<>(memberTypes);
+            memberTypes.stream()
+                    .filter(type -> graph.getType(type).isResourceType())
+                    .map(Schema.Resource.HAS_RESOURCE::getName)
+                    .forEach(selectedTypes::add);
+
+            Map<String, Set<String>> projected = UnionFind.clusterMembers(
+                    InstanceGraphProjection.build(graph, selectedTypes, Integer.MAX_VALUE).get(), memberTypes);
+            Map<String, Set<String>> computed = factory.getGraphComputer().compute(
+                    new ConnectedComponentVertexProgram(selectedTypes),
+                    new ClusterMemberMapReduce(memberTypes, ConnectedComponentVertexProgram.CLUSTER_LABEL))
+                    .memory().get(ClusterMemberMapReduce.class.getName());
+
+            assertEquals(computed, projected);
+            assertEquals(computed, graph.graql().compute().cluster().members().in(memberTypes).execute());
+        }
+    }
 
     private void addOntologyAndEntities() throws GraknValidationException {
         try (GraknGraph graph = factory.getGraph()) {
@@ -33,6 +33,7 @@ import ai.grakn.exception.GraknValidationException;
 import ai.grakn.graph.internal.computer.GraknSparkComputer;
 import ai.grakn.graql.ComputeQuery;
 import ai.grakn.graql.internal.analytics.GraknVertexProgram;
+import ai.grakn.graql.internal.analytics.InstanceGraphProjectionCache;
 import ai.grakn.test.EngineContext;
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
@@ -199,6 +200,42 @@ public class DegreeTest {
         ));
     }
 
+    @Test
+    public void testDegreesAfterGraphChanged() throws Exception {
+        EntityType thing = graph.putEntityType("thing");
+        RoleType role1 = graph.putRoleType("role1");
+        RoleType role2 = graph.putRoleType("role2");
+        thing.playsRole(role1).playsRole(role2);
+        RelationType related = graph.putRelationType("related").hasRole(role1).hasRole(role2);
+
+        ConceptId entity1 = thing.addEntity().getId();
+        ConceptId entity2 = thing.addEntity().getId();
+        ConceptId entity3 = thing.addEntity().getId();
+        related.addRelation()
+                .putRolePlayer(role1, graph.getConcept(entity1))
+                .putRolePlayer(role2, graph.getConcept(entity2));
+        graph.commitOnClose();
+        graph.close();
+        graph = factory.getGraph();
+
+        Map<Long, Set<String>> degrees = graph.graql().compute().degree().of("thing").execute();
+        assertEquals(Sets.newHashSet(entity1.getValue(), entity2.getValue()), degrees.get(1L));
+        assertEquals(Sets.newHashSet(entity3.getValue()), degrees.get(0L));
+
+        // the same query again must not see a stale result once the graph has changed
+        graph.getRelationType("related").addRelation()
+                .putRolePlayer(graph.getRoleType("role1"), graph.getConcept(entity2))
+                .putRolePlayer(graph.getRoleType("role2"), graph.getConcept(entity3));
+        graph.commitOnClose();
+        graph.close();
+        graph = factory.getGraph();
+
+        degrees = graph.graql().compute().degree().of("thing").execute();
+        assertEquals(Sets.newHashSet(entity1.getValue(), entity3.getValue()), degrees.get(1L));
+        assertEquals(Sets.newHashSet(entity2.getValue()), degrees.get(2L));
+        assertFalse(degrees.containsKey(0L));
+    }
+
     @Test
     public void testSubIsAccountedForInSubgraph() throws Exception {
         // TODO: Fix on TinkerGraphComputer
@@ -569,4 +606,44 @@ public class DegreeTest {
                 }
         ));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testProjectionAndVertexProgramComputeTheSameDegrees() throws Exception {
+        // TODO: Fix on TinkerGraphComputer
+        assumeFalse(usingTinker());
+
+        EntityType person = graph.putEntityType("person");
+        RoleType friend1 = graph.putRoleType("friend1");
+        RoleType friend2 = graph.putRoleType("friend2");
+        person.playsRole(friend1).playsRole(friend2);
+        RelationType friendship = graph.putRelationType("friendship").hasRole(friend1).hasRole(friend2);
+        ResourceType<Long> age = graph.putResourceType("age", ResourceType.DataType.LONG);
+        person.hasResource(age);
+
+        Entity[] people = new Entity[6];
+        for (int i = 0; i < people.length; i++) {
+            people[i] = person.addEntity();
+            people[i].hasResource(age.putResource((long) (i % 3)));
+        }
+        for (int i = 0; i < people.length; i++) {
+            for (int j = i + 1; j < people.length; j += i + 1) {
+                friendship.addRelation().putRolePlayer(friend1, people[i]).putRolePlayer(friend2, people[j]);
+            }
+        }
+        graph.commitOnClose();
+        graph.close();
+        graph = factory.getGraph();
+
+        Map<Long, Set<String>> projected = graph.graql().compute().degree().execute();
+        Map<Long, Set<String>> projectedOfPeople = graph.graql().compute().degree().of("person").execute();
+
+        // no graph fits in a projection of no instances, so the vertex program is used
+        System.setProperty(InstanceGraphProjectionCache.MAX_INSTANCES_PROPERTY, "0");
+        try {
+            assertEquals(projected, graph.graql().compute().degree().execute());
+            assertEquals(projectedOfPeople, graph.graql().compute().degree().of("person").execute());
+        } finally {
+            System.clearProperty(InstanceGraphProjectionCache.MAX_INSTANCES_PROPERTY);
+        }
+    }
+}
@@ -13,6 +13,7 @@ import ai.grakn.graph.internal.computer.GraknSparkComputer;
 import ai.grakn.graql.ComputeQuery;
 import ai.grakn.graql.Graql;
 import ai.grakn.graql.internal.analytics.GraknVertexProgram;
+import ai.grakn.graql.internal.query.analytics.PathQueryImplMock;
 import ai.grakn.test.EngineContext;
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
@@ -35,6 +36,7 @@ import static ai.grakn.test.GraknTestEnv.usingOrientDB;
 import static ai.grakn.test.GraknTestEnv.usingTinker;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assume.assumeFalse;
 
 public class ShortestPathTest {
@@ -284,6 +286,86 @@ public class ShortestPathTest {
         }
     }
 
+    @Test
+    public void testShortestPathInLongChain() throws GraknValidationException {
+        List<ConceptId> correctPath = new ArrayList<>();
+
+        try(GraknGraph graph = factory.getGraph()) {
+            EntityType entityType = graph.putEntityType(thing);
+
+            RoleType role1 = graph.putRoleType("role1");
+            RoleType role2 = graph.putRoleType("role2");
+            entityType.playsRole(role1).playsRole(role2);
+            RelationType relationType = graph.putRelationType(related).hasRole(role1).hasRole(role2);
+
+            Entity previous = entityType.addEntity();
+            correctPath.add(previous.getId());
+            for (int i = 0; i < 20; i++) {
+                Entity next = entityType.addEntity();
+                correctPath.add(relationType.addRelation()
+                        .putRolePlayer(role1, previous)
+                        .putRolePlayer(role2, next).getId());
+                correctPath.add(next.getId());
+                previous = next;
+            }
+
+            graph.commitOnClose();
+        }
+
+        try(GraknGraph graph = factory.getGraph()) {
+            ConceptId startId = correctPath.get(0);
+            ConceptId endId = correctPath.get(correctPath.size() - 1);
+
+            Optional<List<Concept>> result = graph.graql().compute().path().from(startId).to(endId).execute();
+            assertTrue(checkPathsAreEqual(correctPath, result));
+            assertEquals(correctPath.size(), result.get().size());
+
+            Collections.reverse(correctPath);
+            result = graph.graql().compute().path().from(endId).to(startId).execute();
+            assertTrue(checkPathsAreEqual(correctPath, result));
+        }
+    }
+
+    @Test
+    public void testShortestPathFallsBackToGraphComputerWhenFrontierExceedsBudget() throws Exception {
+        assumeFalse(usingTinker());
+
+        addOntologyAndEntities();
+        List<ConceptId> correctPath = Lists.newArrayList(entityId2, relationId12, entityId1, relationId13, entityId3);
+
+        try(GraknGraph graph = factory.getGraph()) {
+            PathQueryImplMock searched = new PathQueryImplMock(Optional.of(graph), 5000);
+            Optional<List<Concept>> result = searched.from(entityId2).to(entityId3).in(thing, related).execute();
+            assertTrue(checkPathsAreEqual(correctPath, result));
+            assertEquals(correctPath.size(), result.get().size());
+            assertEquals(0, searched.getGraphComputerCalls());
+
+            PathQueryImplMock computed = new PathQueryImplMock(Optional.of(graph), 0);
+            result = computed.from(entityId2).to(entityId3).in(thing, related).execute();
+            assertTrue(checkPathsAreEqual(correctPath, result));
+            assertEquals(correctPath.size(), result.get().size());
+            assertEquals(1, computed.getGraphComputerCalls());
+        }
+    }
+
+    @Test
+    public void testShortestPathUsesGraphComputerWhenGraphHasUncommittedChanges() throws Exception {
+        assumeFalse(usingTinker());
+
+        addOntologyAndEntities();
+        List<ConceptId> correctPath = Lists.newArrayList(entityId1, relationId12, entityId2);
+
+        try(GraknGraph graph = factory.getGraph()) {
+            graph.getEntityType(thing).addEntity();
+
+            PathQueryImplMock query = new PathQueryImplMock(Optional.of(graph), 5000);
+            Optional<List<Concept>> result = query.from(entityId1).to(entityId2).execute();
+            assertTrue(checkPathsAreEqual(correctPath, result));
+            assertEquals(correctPath.size(), result.get().size());
+            assertEquals(1, query.getGraphComputerCalls());
+        }
+    }
+
     private boolean checkPathsAreEqual(List<ConceptId> correctPath, Optional<List<Concept>> computedPath) {
         if (computedPath.isPresent()) {
             List<Concept> actualPath = computedPath.get();
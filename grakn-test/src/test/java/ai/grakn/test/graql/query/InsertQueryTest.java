@@ -32,9 +32,12 @@ import ai.grakn.graql.MatchQuery;
 import ai.grakn.graql.Pattern;
 import ai.grakn.graql.QueryBuilder;
 import ai.grakn.graql.Var;
+import ai.grakn.graql.VarName;
+import ai.grakn.graql.internal.query.BatchInsertQueryExecutor;
 import ai.grakn.test.GraphContext;
 import ai.grakn.util.ErrorMessage;
 import ai.grakn.util.Schema;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
 import org.hamcrest.Matchers;
@@ -750,6 +753,23 @@ public class InsertQueryTest {
         qb.insert(name("my-metatype").sub("concept")).execute();
     }
 
+    @Test
+    public void testBatchInsertSharesResources() {
+        List<InsertQuery> inserts = ImmutableList.of(
+                qb.insert(var().isa("movie").has("title", "Batch A").has("tmdb-vote-count", 1234L)),
+                qb.insert(var().isa("movie").has("title", "Batch B").has("tmdb-vote-count", 1234L)),
+                qb.insert(var().isa("movie").has("title", "Batch A"))
+        );
+
+        List<Map<VarName, Concept>> results = new BatchInsertQueryExecutor(movieGraph.graph()).insertAll(inserts);
+
+        assertEquals(3, results.size());
+        assertEquals(2, qb.match(var("x").isa("movie").has("title", "Batch A")).execute().size());
+        assertEquals(1, qb.match(var("x").isa("movie").has("title", "Batch B")).execute().size());
+        assertEquals(1, movieGraph.graph().getResourcesByValue(1234L).size());
+        assertEquals(1, movieGraph.graph().getResourcesByValue("Batch A").size());
+    }
+
     private void assertInsert(Var... vars) {
         // Make sure vars don't exist
         for (Var var : vars) {
@@ -153,6 +153,7 @@ import static org.hamcrest.Matchers.not;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 @SuppressWarnings({"OptionalGetWithoutIsPresent", "unchecked"})
 public class MatchQueryTest {
@@ -842,6 +843,30 @@ public class MatchQueryTest {
         assertEquals(query1.execute(), query2.execute());
     }
 
+    @Test
+    public void testParallelStreamFindsEveryResult() {
+        MatchQuery query = qb.match(var("x").isa("person").has("name", var("n")));
+        String keyspace = movieGraph.graph().getKeyspace();
+
+        List<Map<String, Concept>> results = query.parallelStream(
+                () -> EngineGraknGraphFactory.getInstance().getGraph(keyspace), 4).collect(Collectors.toList());
+
+        List<Map<String, Concept>> expected = query.execute();
+        assertEquals(expected.size(), results.size());
+        assertEquals(Sets.newHashSet(expected), Sets.newHashSet(results));
+    }
+
+    @Test
+    public void testParallelStreamCanBeClosedBeforeEveryResultIsRead() {
+        MatchQuery query = qb.match(var("x").isa("person"));
+        String keyspace = movieGraph.graph().getKeyspace();
+
+        try (Stream<Map<String, Concept>> results = query.parallelStream(
+                () -> EngineGraknGraphFactory.getInstance().getGraph(keyspace), 4)) {
+            assertTrue(results.findAny().isPresent());
+        }
+    }
+
     @Test
     public void testQueryNoVariables() {
         MatchQuery query = qb.match(var().isa("movie"));
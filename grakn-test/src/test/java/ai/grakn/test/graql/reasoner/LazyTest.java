@@ -28,16 +28,19 @@ import ai.grakn.graql.VarName;
 import ai.grakn.graql.admin.Conjunction;
 import ai.grakn.graql.admin.VarAdmin;
 import ai.grakn.graql.internal.pattern.Patterns;
+import ai.grakn.graql.internal.reasoner.cache.AnswerIndex;
 import ai.grakn.graql.internal.reasoner.cache.LazyQueryCache;
 import ai.grakn.graql.internal.reasoner.query.QueryAnswerStream;
 import ai.grakn.graql.internal.reasoner.query.QueryAnswers;
 import ai.grakn.graql.internal.reasoner.query.ReasonerAtomicQuery;
 import ai.grakn.test.GraphContext;
+import com.google.common.collect.Sets;
 import java.util.List;
 import org.junit.BeforeClass;
 import org.junit.ClassRule;
 import org.junit.Test;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -146,6 +149,35 @@ public class LazyTest {
         assertEquals(count, 0);
     }
 
+    @Test
+    public void testKnownFilterWithIndex(){
+        GraknGraph graph = geoGraph.graph();
+        String queryString = "match (geo-entity: $x, entity-location: $y) isa is-located-in;";
+        MatchQuery query = graph.graql().parse(queryString);
+        QueryAnswers answers = new QueryAnswers(query.admin().streamWithVarNames().collect(toSet()));
+        AnswerIndex index = new AnswerIndex(answers);
+
+        long count = query.admin()
+                .streamWithVarNames()
+                .filter(a -> QueryAnswerStream.knownFilter(a, index))
+                .count();
+        assertEquals(count, 0);
+
+        //answers projected on a subset of variables are known as well
+        Set<VarName> vars = Sets.newHashSet(VarName.of("x"));
+        long projectedCount = query.admin()
+                .streamWithVarNames()
+                .flatMap(a -> varFilterFunction.apply(a, vars))
+                .filter(a -> QueryAnswerStream.knownFilter(a, index))
+                .count();
+        assertEquals(projectedCount, 0);
+
+        Map<VarName, Concept> unknown = new HashMap<>();
+        unknown.put(VarName.of("x"), graph.getEntityType("country").instances().iterator().next());
+        unknown.put(VarName.of("z"), graph.getEntityType("country").instances().iterator().next());
+        assertTrue(QueryAnswerStream.knownFilter(unknown, index));
+    }
+
     @Test 
     public void testLazy()  {
         final int N = 20;
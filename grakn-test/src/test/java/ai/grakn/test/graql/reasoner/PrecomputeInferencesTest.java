@@ -0,0 +1,80 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.test.graql.reasoner;
+
+import ai.grakn.GraknGraph;
+import ai.grakn.factory.EngineGraknGraphFactory;
+import ai.grakn.graphs.SNBGraph;
+import ai.grakn.graql.MatchQuery;
+import ai.grakn.graql.QueryBuilder;
+import ai.grakn.graql.internal.reasoner.Reasoner;
+import ai.grakn.graql.internal.reasoner.query.QueryAnswers;
+import ai.grakn.test.GraphContext;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static ai.grakn.test.GraknTestEnv.usingTinker;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeFalse;
+
+/**
+ * Materialises inferences with several workers, which are only used by backends with transactions.
+ */
+public class PrecomputeInferencesTest {
+
+    @ClassRule
+    public static final GraphContext snbGraph = GraphContext.preLoad(SNBGraph.get());
+
+    @BeforeClass
+    public static void onStartup() throws Exception {
+        assumeFalse(usingTinker());
+    }
+
+    @Test
+    public void testPrecomputeInferencesWithSeveralWorkers(){
+        String queryString = "match (located-subject: $x, subject-location: $y) isa resides;";
+        String queryString2 = "match (member-location: $x, container-location: $y) isa sublocate;";
+        QueryBuilder iqb = snbGraph.graph().graql().infer(true).materialise(false);
+        QueryAnswers inferred = queryAnswers(iqb.parse(queryString));
+        QueryAnswers inferred2 = queryAnswers(iqb.parse(queryString2));
+
+        String keyspace = snbGraph.graph().getKeyspace();
+        Set<Thread> workers = ConcurrentHashMap.newKeySet();
+        Reasoner.precomputeInferences(snbGraph.graph(), () -> {
+            workers.add(Thread.currentThread());
+            return EngineGraknGraphFactory.getInstance().getGraph(keyspace);
+        }, 4);
+        assertTrue(workers.size() > 1);
+
+        try (GraknGraph graph = EngineGraknGraphFactory.getInstance().getGraph(keyspace)) {
+            QueryBuilder qb = graph.graql().infer(false);
+            assertEquals(inferred, queryAnswers(qb.parse(queryString)));
+            assertEquals(inferred2, queryAnswers(qb.parse(queryString2)));
+        }
+    }
+
+    private QueryAnswers queryAnswers(MatchQuery query) {
+        return new QueryAnswers(query.admin().results());
+    }
+}
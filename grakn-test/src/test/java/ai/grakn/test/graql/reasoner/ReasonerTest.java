@@ -21,8 +21,10 @@ package ai.grakn.test.graql.reasoner;
 import ai.grakn.GraknGraph;
 import ai.grakn.concept.Concept;
 import ai.grakn.concept.RelationType;
+import ai.grakn.concept.RoleType;
 import ai.grakn.concept.Rule;
 import ai.grakn.concept.TypeName;
+import ai.grakn.engine.postprocessing.EngineCache;
 import ai.grakn.graphs.GeoGraph;
 import ai.grakn.graphs.SNBGraph;
 import ai.grakn.graql.MatchQuery;
@@ -34,11 +36,14 @@ import ai.grakn.graql.admin.VarAdmin;
 import ai.grakn.graql.internal.pattern.Patterns;
 import ai.grakn.graql.internal.reasoner.Reasoner;
 import ai.grakn.graql.internal.reasoner.Utility;
+import ai.grakn.graql.internal.reasoner.atom.Atom;
 import ai.grakn.graql.internal.reasoner.query.QueryAnswers;
 import ai.grakn.graql.internal.reasoner.query.ReasonerAtomicQuery;
 import ai.grakn.graql.internal.reasoner.query.ReasonerQueryImpl;
 import ai.grakn.graql.internal.reasoner.rule.InferenceRule;
+import ai.grakn.graql.internal.reasoner.rule.RuleBase;
 import ai.grakn.test.GraphContext;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import javafx.util.Pair;
 import org.junit.BeforeClass;
@@ -56,6 +61,8 @@ import static ai.grakn.graql.Graql.and;
 import static ai.grakn.test.GraknTestEnv.usingTinker;
 import static java.util.stream.Collectors.toSet;
 import static junit.framework.TestCase.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assume.assumeTrue;
 
@@ -82,6 +89,18 @@ public class ReasonerTest {
     @ClassRule
     public static final GraphContext geoGraph3 = GraphContext.preLoad(GeoGraph.get());
 
+    @ClassRule
+    public static final GraphContext geoGraph4 = GraphContext.preLoad(GeoGraph.get());
+
+    @ClassRule
+    public static final GraphContext geoGraph5 = GraphContext.preLoad(GeoGraph.get());
+
+    @ClassRule
+    public static final GraphContext snbGraph4 = GraphContext.preLoad(SNBGraph.get());
+
+    @ClassRule
+    public static final GraphContext emptyGraph = GraphContext.empty();
+
     @BeforeClass
     public static void onStartup() throws Exception {
         assumeTrue(usingTinker());
@@ -910,6 +929,95 @@ public class ReasonerTest {
         assertEquals(answers, answers2);
     }
 
+    @Test
+    public void testPrecomputeInferences(){
+        String queryString = "match (geo-entity: $x, entity-location: $y) isa is-located-in;";
+        QueryAnswers inferred = queryAnswers(geoGraph4.graph().graql().infer(true).materialise(false).parse(queryString));
+
+        int commitFrequency = Reasoner.getCommitFrequency();
+        Reasoner.setCommitFrequency(5);
+        try {
+            Reasoner.precomputeInferences(geoGraph4.graph());
+        } finally {
+            Reasoner.setCommitFrequency(commitFrequency);
+        }
+
+        QueryAnswers materialised = queryAnswers(geoGraph4.graph().graql().infer(false).parse(queryString));
+        assertEquals(inferred, materialised);
+    }
+
+    @Test
+    public void testPrecomputeInferencesConcurrently(){
+        String queryString = "match (located-subject: $x, subject-location: $y) isa resides;";
+        String queryString2 = "match (member-location: $x, container-location: $y) isa sublocate;";
+        QueryBuilder iqb = snbGraph4.graph().graql().infer(true).materialise(false);
+        QueryAnswers inferred = queryAnswers(iqb.parse(queryString));
+        QueryAnswers inferred2 = queryAnswers(iqb.parse(queryString2));
+
+        Reasoner.precomputeInferences(snbGraph4.graph(), snbGraph4::graph, 4);
+
+        QueryBuilder qb = snbGraph4.graph().graql().infer(false);
+        assertEquals(inferred, queryAnswers(qb.parse(queryString)));
+        assertEquals(inferred2, queryAnswers(qb.parse(queryString2)));
+    }
+
+    @Test
+    public void testRuleBaseFollowsRuleChanges(){
+        GraknGraph graph = geoGraph4.graph();
+        RoleType near = graph.putRoleType("near");
+        RoleType nearBy = graph.putRoleType("near-by");
+        RelationType isNear = graph.putRelationType("is-near").hasRole(near).hasRole(nearBy);
+        assertTrue(RuleBase.get(graph).getRulesWithConclusion(isNear).isEmpty());
+
+        Pattern body = and(graph.graql().parsePatterns("(geo-entity: $x, entity-location: $y) isa is-located-in;"));
+        Pattern head = and(graph.graql().parsePatterns("(near: $x, near-by: $y) isa is-near;"));
+        Rule rule = graph.admin().getMetaRuleInference().addRule(body, head);
+        assertEquals(Sets.newHashSet(rule), RuleBase.get(graph).getRulesWithConclusion(isNear));
+        assertTrue(Reasoner.getRules(graph).contains(rule));
+
+        rule.delete();
+        assertTrue(RuleBase.get(graph).getRulesWithConclusion(isNear).isEmpty());
+    }
+
+    @Test
+    public void testRuleBaseIsOnlySharedWhenRulesAreCommitted(){
+        GraknGraph graph = geoGraph5.graph();
+        RoleType near = graph.putRoleType("near");
+        RoleType nearBy = graph.putRoleType("near-by");
+        RelationType isNear = graph.putRelationType("is-near").hasRole(near).hasRole(nearBy);
+        graph.admin().commitNoLogs();
+
+        RuleBase committed = RuleBase.get(graph);
+        assertSame(committed, RuleBase.get(graph));
+
+        Pattern body = and(graph.graql().parsePatterns("(geo-entity: $x, entity-location: $y) isa is-located-in;"));
+        Pattern head = and(graph.graql().parsePatterns("(near: $x, near-by: $y) isa is-near;"));
+        Rule rule = graph.admin().getMetaRuleInference().addRule(body, head);
+        RuleBase uncommitted = RuleBase.get(graph);
+        assertEquals(Sets.newHashSet(rule), uncommitted.getRulesWithConclusion(isNear));
+        assertNotSame(uncommitted, RuleBase.get(graph));
+
+        graph.admin().commitNoLogs();
+        RuleBase ruleBase = RuleBase.get(graph);
+        assertEquals(Sets.newHashSet(rule), ruleBase.getRulesWithConclusion(graph.getRelationType("is-near")));
+        assertNotSame(committed, ruleBase);
+        assertSame(ruleBase, RuleBase.get(graph));
+    }
+
+    @Test
+    public void testSelectAtomsStartsFromBoundAtom(){
+        GraknGraph graph = geoGraph.graph();
+        Concept continent = graph.getEntityType("continent").instances().iterator().next();
+        String patternString = "{(geo-entity: $x, entity-location: $y) isa is-located-in;" +
+                "(geo-entity: $y, entity-location: $z) isa is-located-in;" +
+                "$z id '" + continent.getId().getValue() + "';}";
+        ReasonerQueryImpl query = new ReasonerQueryImpl(conjunction(patternString, graph), graph);
+        List<Atom> selectedAtoms = Lists.newArrayList(query.selectAtoms());
+        assertEquals(2, selectedAtoms.size());
+        assertTrue(selectedAtoms.get(0).getVarNames().contains(VarName.of("z")));
+        assertTrue(selectedAtoms.get(1).getVarNames().contains(VarName.of("x")));
+    }
+
     private Conjunction<VarAdmin> conjunction(String patternString, GraknGraph graph){
         Set<VarAdmin> vars = graph.graql().parsePattern(patternString).admin()
                 .getDisjunctiveNormalForm().getPatterns()
@@ -924,15 +1032,27 @@ public class ReasonerTest {
         QueryAnswers answers2 = queryAnswers(q2);
         assertEquals(answers, answers2);
     }
-}
-
-
-
-
-
-
 
+    @Test
+    public void testInstanceCountEstimatesDroppedOnCommitAndClear(){
+        GraknGraph graph = emptyGraph.graph();
+        graph.putEntityType("person").addEntity();
+        graph.admin().commit();
 
+        graph = emptyGraph.graph();
+        assertEquals(1, Utility.estimateInstanceCount(graph.getEntityType("person"), graph));
+        graph.getEntityType("person").addEntity();
+        graph.admin().commit();
 
+        graph = emptyGraph.graph();
+        assertEquals(2, Utility.estimateInstanceCount(graph.getEntityType("person"), graph));
+        graph.admin().clear(EngineCache.getInstance());
 
+        graph = emptyGraph.graph();
+        graph.putEntityType("person");
+        graph.admin().commit();
 
+        graph = emptyGraph.graph();
+        assertEquals(0, Utility.estimateInstanceCount(graph.getEntityType("person"), graph));
+    }
+}
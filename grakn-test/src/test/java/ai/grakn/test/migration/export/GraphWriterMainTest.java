@@ -20,6 +20,7 @@ package ai.grakn.test.migration.export;
 
 import ai.grakn.GraknGraph;
 import ai.grakn.GraknGraphFactory;
+import ai.grakn.exception.GraknValidationException;
 import ai.grakn.graphs.MovieGraph;
 import ai.grakn.migration.export.Main;
 import ai.grakn.test.EngineContext;
@@ -27,6 +28,13 @@ import org.junit.BeforeClass;
 import org.junit.ClassRule;
 import org.junit.Test;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertTrue;
+
 public class GraphWriterMainTest {
 
     @ClassRule
@@ -49,6 +57,20 @@ public class GraphWriterMainTest {
         runAndAssertDataCorrect("export", "-data", "-keyspace", graph.getKeyspace());
     }
     
+    @Test
+    public void exportDataToFileInParallelTest() throws IOException, GraknValidationException {
+        graph.putEntityType("exported").addEntity();
+        graph.admin().commit();
+
+        File file = File.createTempFile("export", ".gql");
+        file.deleteOnExit();
+
+        runAndAssertDataCorrect("export", "-ontology", "-data", "-threads", "2", "-file", file.getAbsolutePath(),
+                "-keyspace", graph.getKeyspace());
+        String exported = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+        assertTrue(exported.contains("isa exported"));
+    }
+
     @Test
     public void exportNoArgsTest(){
         runAndAssertDataCorrect("export", "ontology");
@@ -149,6 +149,28 @@ public class TestSamplesImport extends TestOwlGraknBase {
         }
     }   
     
+    @Test
+    public void testProductOntologyInSmallBatches()   {
+        // Load
+        try {
+            OWLOntology O = loadOntologyFromResource("owl", "Product.owl");
+            migrator.ontology(O).graph(graph).batchSize(2).migrate();
+            migrator.graph().commitOnClose();
+            migrator.graph().close();
+        }
+        catch (Throwable t) {
+            t.printStackTrace(System.err);
+            Assert.fail(t.toString());
+        }
+        // Verify
+        graph = factory.getGraph();
+        EntityType type = graph.getEntityType("tProduct");
+        Assert.assertNotNull(type);
+        Optional<Entity> e = findById(type.instances(), "eProduct5");
+        assertTrue(e.isPresent());
+        assertResourceEntityRelationExists(graph, "Product_Available", "14", e.get());
+    }
+
     @Test
     public void test1Ontology() {       
         // Load
@@ -240,4 +262,10 @@ public class TestSamplesImport extends TestOwlGraknBase {
             Assert.fail(t.toString());
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testBatchSizeMustBePositive() {
+        exception.expect(IllegalArgumentException.class);
+        migrator.batchSize(0);
+    }
+}
@@ -35,11 +35,16 @@ import org.junit.rules.ExpectedException;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static ai.grakn.test.migration.MigratorTestUtils.assertPetGraphCorrect;
 import static ai.grakn.test.migration.MigratorTestUtils.assertPokemonGraphCorrect;
 import static ai.grakn.test.migration.sql.SQLMigratorTestUtils.setupExample;
+import static java.util.stream.Collectors.toSet;
 import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
 import static junit.framework.TestCase.assertNotNull;
 
 public class SQLMigratorTest {
@@ -160,6 +165,24 @@ public class SQLMigratorTest {
         }
     }
 
+    @Test
+    public void partitionedQueryReadsEveryRowTest() throws SQLException {
+        try(Connection connection = setupExample(factory, "pokemon")){
+            String query = "SELECT * FROM pokemon";
+
+            Set<Map<String, Object>> rows = new SQLMigrator(query, connection, 2).convert().collect(toSet());
+
+            Set<Map<String, Object>> partitionedRows;
+            try(Stream<Map<String, Object>> partitioned =
+                        new SQLMigrator(query, connection, SQLMigratorTestUtils::connect, "id", 3, 2).convert()) {
+                partitionedRows = partitioned.collect(toSet());
+            }
+
+            assertFalse(rows.isEmpty());
+            assertEquals(rows, partitionedRows);
+        }
+    }
+
     @Test
     public void incorrectSQLStatementTest() throws SQLException {
         exception.expect(DataAccessException.class);
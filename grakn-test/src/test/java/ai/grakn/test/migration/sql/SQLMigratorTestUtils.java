@@ -42,14 +42,7 @@ public class SQLMigratorTestUtils {
         String schema = getFileAsString("sql", example + "/create-db.sql");
         String data = getFileAsString("sql", example + "/insert-data.sql");
 
-        Connection connection;
-        try {
-            Class.forName(DRIVER).newInstance();
-            connection = DriverManager.getConnection(URL, USER, PASS);
-        }
-        catch (SQLException|ClassNotFoundException|InstantiationException|IllegalAccessException e){
-            throw new RuntimeException(e);
-        }
+        Connection connection = connect();
 
         // attempt to clear DB
         try { connection.prepareStatement("DROP ALL OBJECTS").execute(); }
@@ -64,4 +57,14 @@ public class SQLMigratorTestUtils {
         return connection;
     }
 
+    public static Connection connect() {
+        try {
+            Class.forName(DRIVER).newInstance();
+            return DriverManager.getConnection(URL, USER, PASS);
+        }
+        catch (SQLException|ClassNotFoundException|InstantiationException|IllegalAccessException e){
+            throw new RuntimeException(e);
+        }
+    }
+
 }